@@ -14,10 +14,14 @@ import {
 } from '../../src/interfaces/ComponentEvents';
 import {
   CommandCompletedEvent,
+  CommandTraceEvent,
+  NavigationMetricsEvent,
+  TransitionFrameStatsEvent,
   BottomTabSelectedEvent,
   BottomTabLongPressedEvent,
   BottomTabPressedEvent,
 } from '../../src/interfaces/Events';
+import { EventSubscription } from '../../src/interfaces/EventSubscription';
 import { events } from './../Stores/EventsStore';
 
 export class NativeEventsReceiver {
@@ -135,6 +139,31 @@ export class NativeEventsReceiver {
     } as EmitterSubscription;
   }
 
+  public registerCommandTraceListener(
+    _callback: (data: CommandTraceEvent) => void
+  ): EmitterSubscription {
+    return {
+      remove: () => {},
+    } as EmitterSubscription;
+  }
+
+  public registerNavigationMetricsListener(
+    _callback: (data: NavigationMetricsEvent) => void,
+    _reportingIntervalMs?: number
+  ): EmitterSubscription {
+    return {
+      remove: () => {},
+    } as EmitterSubscription;
+  }
+
+  public registerTransitionFrameStatsListener(
+    _callback: (data: TransitionFrameStatsEvent) => void
+  ): EmitterSubscription {
+    return {
+      remove: () => {},
+    } as EmitterSubscription;
+  }
+
   public registerBottomTabSelectedListener(
     _callback: (data: BottomTabSelectedEvent) => void
   ): EmitterSubscription {
@@ -159,4 +188,10 @@ export class NativeEventsReceiver {
       remove: () => {},
     } as EmitterSubscription;
   }
+
+  public registerComponentEventsInterest(_componentId: string): EventSubscription {
+    return {
+      remove: () => {},
+    };
+  }
 }
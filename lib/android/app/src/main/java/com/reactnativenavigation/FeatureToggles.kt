@@ -5,11 +5,33 @@ import androidx.annotation.VisibleForTesting
 enum class RNNToggles {
     TOP_BAR_COLOR_ANIMATION__PUSH,
     TOP_BAR_COLOR_ANIMATION__TABS,
+    BATCHED_EVENTS,
+    NAVIGATION_METRICS,
+    SYSTEM_TRACING,
+    TRANSITION_JANK_MONITOR,
+    COMMAND_WATCHDOG,
+    RETENTION_TRACKING,
+    COMMAND_RECORDING,
+    HARDWARE_LAYER_TRANSITIONS,
+    VIEW_PROPERTIES_ANIMATOR,
+    SNAPSHOT_ELEMENT_TRANSITIONS,
+    TOP_BAR_TRANSLATE_VISIBILITY,
 }
 
 private val ToggleDefaults = mapOf(
     RNNToggles.TOP_BAR_COLOR_ANIMATION__PUSH to false,
     RNNToggles.TOP_BAR_COLOR_ANIMATION__TABS to false,
+    RNNToggles.BATCHED_EVENTS to false,
+    RNNToggles.NAVIGATION_METRICS to false,
+    RNNToggles.SYSTEM_TRACING to false,
+    RNNToggles.TRANSITION_JANK_MONITOR to false,
+    RNNToggles.COMMAND_WATCHDOG to false,
+    RNNToggles.RETENTION_TRACKING to false,
+    RNNToggles.COMMAND_RECORDING to false,
+    RNNToggles.HARDWARE_LAYER_TRANSITIONS to false,
+    RNNToggles.VIEW_PROPERTIES_ANIMATOR to false,
+    RNNToggles.SNAPSHOT_ELEMENT_TRANSITIONS to false,
+    RNNToggles.TOP_BAR_TRANSLATE_VISIBILITY to false,
 )
 
 object RNNFeatureToggles {
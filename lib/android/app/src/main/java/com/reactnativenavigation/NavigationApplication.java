@@ -6,8 +6,19 @@ import com.facebook.react.ReactApplication;
 import com.facebook.react.ReactNativeHost;
 import com.facebook.react.soloader.OpenSourceMergedSoMapping;
 import com.facebook.soloader.SoLoader;
+import com.reactnativenavigation.options.AnimationOptions;
+import com.reactnativenavigation.profiling.CommandRecorder;
+import com.reactnativenavigation.profiling.CommandWatchdog;
+import com.reactnativenavigation.profiling.NavigationMetrics;
+import com.reactnativenavigation.profiling.RetentionTracker;
+import com.reactnativenavigation.profiling.SystemTracer;
+import com.reactnativenavigation.profiling.Tracing;
+import com.reactnativenavigation.profiling.TransitionJankMonitor;
 import com.reactnativenavigation.react.ReactGateway;
+import com.reactnativenavigation.viewcontrollers.common.HardwareLayers;
 import com.reactnativenavigation.viewcontrollers.externalcomponent.ExternalComponentCreator;
+import com.reactnativenavigation.viewcontrollers.stack.topbar.TopBarController;
+import com.reactnativenavigation.views.element.TransitionAnimatorCreator;
 
 import java.util.Collections;
 import java.io.IOException;
@@ -30,6 +41,20 @@ public abstract class NavigationApplication extends Application implements React
     public NavigationApplication(Map<RNNToggles, Boolean> featureToggleOverrides) {
         instance = this;
         RNNFeatureToggles.init(featureToggleOverrides);
+        initProfiling();
+        HardwareLayers.setEnabledByDefault(RNNFeatureToggles.isEnabled(RNNToggles.HARDWARE_LAYER_TRANSITIONS));
+        AnimationOptions.setUseViewPropertiesAnimator(RNNFeatureToggles.isEnabled(RNNToggles.VIEW_PROPERTIES_ANIMATOR));
+        TransitionAnimatorCreator.setUseSnapshots(RNNFeatureToggles.isEnabled(RNNToggles.SNAPSHOT_ELEMENT_TRANSITIONS));
+        TopBarController.setTranslateVisibility(RNNFeatureToggles.isEnabled(RNNToggles.TOP_BAR_TRANSLATE_VISIBILITY));
+    }
+
+    private void initProfiling() {
+        NavigationMetrics.getInstance().setEnabled(RNNFeatureToggles.isEnabled(RNNToggles.NAVIGATION_METRICS));
+        if (RNNFeatureToggles.isEnabled(RNNToggles.SYSTEM_TRACING)) Tracing.setTracer(new SystemTracer());
+        TransitionJankMonitor.getInstance().setEnabled(RNNFeatureToggles.isEnabled(RNNToggles.TRANSITION_JANK_MONITOR));
+        CommandWatchdog.getInstance().setEnabled(RNNFeatureToggles.isEnabled(RNNToggles.COMMAND_WATCHDOG));
+        RetentionTracker.getInstance().setEnabled(RNNFeatureToggles.isEnabled(RNNToggles.RETENTION_TRACKING));
+        if (RNNFeatureToggles.isEnabled(RNNToggles.COMMAND_RECORDING)) CommandRecorder.getInstance().start();
     }
 
 	@Override
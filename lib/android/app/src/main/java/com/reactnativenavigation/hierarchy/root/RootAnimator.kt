@@ -5,11 +5,21 @@ import android.animation.AnimatorListenerAdapter
 import android.animation.AnimatorSet
 import android.view.View
 import com.reactnativenavigation.options.TransitionAnimationOptions
+import com.reactnativenavigation.profiling.CommandTrace
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType
+import com.reactnativenavigation.profiling.TransitionJankMonitor
+import com.reactnativenavigation.profiling.traceSection
+import com.reactnativenavigation.viewcontrollers.common.AnimatorSetFactory
+import com.reactnativenavigation.viewcontrollers.common.HardwareLayers
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
 
-open class RootAnimator {
+open class RootAnimator @JvmOverloads constructor(private val animatorSetFactory: AnimatorSetFactory = AnimatorSetFactory.default) {
 
     open fun setRoot(appearing: ViewController<*>, disappearing: ViewController<*>?, setRoot: TransitionAnimationOptions, onAnimationEnd: ()->Unit) {
+        traceSection("RNN.RootAnimator.setRoot") { startSetRoot(appearing, disappearing, setRoot, onAnimationEnd) }
+    }
+
+    private fun startSetRoot(appearing: ViewController<*>, disappearing: ViewController<*>?, setRoot: TransitionAnimationOptions, onAnimationEnd: ()->Unit) {
         appearing.view.visibility = View.VISIBLE
 
         if (!setRoot.hasValue() || (!setRoot.enter.hasAnimation() && !setRoot.exit.hasAnimation())) {
@@ -18,6 +28,7 @@ open class RootAnimator {
         }
 
         val animationSet = createAnimator(onAnimationEnd)
+        TransitionJankMonitor.getInstance().monitor(animationSet, TransitionType.SetRoot, appearing.currentComponentName, false, appearing.view)
 
         val appearingAnimation = if (setRoot.enter.hasAnimation()) {
             setRoot.enter.getAnimation(appearing.view)
@@ -31,11 +42,15 @@ open class RootAnimator {
             appearingAnimation != null -> animationSet.play(appearingAnimation)
             disappearingAnimation != null -> animationSet.play(disappearingAnimation)
         }
+        if (HardwareLayers.isEnabled(setRoot.hardwareLayer) && !HardwareLayers.isScrollDependent(appearing.resolveCurrentOptions())) {
+            HardwareLayers.apply(animationSet, appearingAnimation?.let { appearing.view }, disappearingAnimation?.let { disappearing?.view })
+        }
         animationSet.start()
     }
 
     private fun createAnimator(onAnimationEnd: () -> Unit): AnimatorSet {
-        val set = AnimatorSet()
+        val set = animatorSetFactory.create(TransitionType.SetRoot)
+        CommandTrace.traceAnimation(set)
         set.addListener(object : AnimatorListenerAdapter() {
             private var isCancelled = false
             override fun onAnimationStart(animation: Animator) {
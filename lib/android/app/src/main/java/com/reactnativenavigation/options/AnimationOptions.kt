@@ -27,6 +27,7 @@ open class AnimationOptions @JvmOverloads constructor(json: JSONObject? = null)
     override var sharedElements = SharedElements()
     override var elementTransitions = ElementTransitions()
     private var valueOptions = HashSet<ValueAnimationOptions>()
+    private var spec: AnimationSpec? = null
 
     init {
         parse(json)
@@ -72,11 +73,19 @@ open class AnimationOptions @JvmOverloads constructor(json: JSONObject? = null)
             || elementTransitions.hasValue()
             || valueOptions.isNotEmpty()
 
-    fun getAnimation(view: View) = getAnimation(view, AnimatorSet())
+    fun getAnimation(view: View) = if (hasAnimation()) compile().createAnimator(view) else AnimatorSet()
 
     fun getAnimation(view: View, defaultAnimation: Animator): Animator {
         if (!hasAnimation()) return defaultAnimation
-        return AnimatorSet().apply { playTogether(valueOptions.map { it.getAnimation(view) }) }
+        return compile().createAnimator(view)
+    }
+
+    /**
+     * @return the compiled value animations of these options. The spec is cached until the value animations change.
+     */
+    fun compile(): AnimationSpec {
+        spec?.let { if (it.isCompiledFrom(valueOptions)) return it }
+        return AnimationSpec(valueOptions.map { it.compile() }).also { spec = it }
     }
 
     fun shouldWaitForRender() = Bool(waitForRender.isTrue or hasElementTransitions())
@@ -98,6 +107,14 @@ open class AnimationOptions @JvmOverloads constructor(json: JSONObject? = null)
     }
 
     companion object {
+        /**
+         * Animate all properties of a view with a single
+         * [com.reactnativenavigation.views.animations.ViewPropertiesAnimator] instead of an AnimatorSet of
+         * ObjectAnimators
+         */
+        @JvmStatic
+        var useViewPropertiesAnimator = false
+
         private fun getAnimProp(key: String): Triple<Property<View, Float>, Int, (View) -> Float> {
             when (key) {
                 "x" -> return Triple(X, COMPLEX_UNIT_DIP, View::getX)
@@ -0,0 +1,73 @@
+package com.reactnativenavigation.options
+
+import android.animation.Animator
+import android.animation.AnimatorSet
+import android.animation.ObjectAnimator
+import android.animation.TimeInterpolator
+import android.util.Property
+import android.view.View
+import com.reactnativenavigation.utils.UiUtils.dpToPx
+import com.reactnativenavigation.views.animations.ViewPropertiesAnimator
+
+/**
+ * Immutable, compiled form of a single [ValueAnimationOptions]. Values which aren't specified in the options are read
+ * from the target view when the spec is bound to it.
+ */
+class PropertyAnimationSpec(
+        val property: Property<View, Float>,
+        private val hasFrom: Boolean,
+        private val from: Float,
+        private val hasTo: Boolean,
+        private val to: Float,
+        private val fromDelta: Float,
+        private val toDelta: Float,
+        private val isDip: Boolean,
+        private val valueAccessor: (View) -> Float,
+        val startDelay: Long,
+        val duration: Long,
+        val interpolator: TimeInterpolator
+) {
+    fun getFrom(view: View) = fromDelta + toPixels(view, if (hasFrom) from else valueAccessor(view))
+
+    fun getTo(view: View) = toDelta + toPixels(view, if (hasTo) to else valueAccessor(view))
+
+    fun createAnimator(view: View): Animator {
+        val animator = ObjectAnimator.ofFloat(view, property, getFrom(view), getTo(view))
+        animator.interpolator = interpolator
+        animator.duration = duration
+        animator.startDelay = startDelay
+        return animator
+    }
+
+    private fun toPixels(view: View, value: Float) = if (isDip) dpToPx(view.context, value) else value
+}
+
+/**
+ * Immutable, compiled form of the value animations of an [AnimationOptions]. Specs are compiled once per options
+ * instance and shared by every screen using the same options; binding a spec to a view only allocates the animators.
+ */
+class AnimationSpec(val properties: List<PropertyAnimationSpec>) {
+    fun createAnimator(view: View): Animator {
+        if (AnimationOptions.useViewPropertiesAnimator) {
+            val animator = ViewPropertiesAnimator.obtain(view)
+            for (i in properties.indices) {
+                val spec = properties[i]
+                animator.add(spec.property, spec.getFrom(view), spec.getTo(view), spec.startDelay, spec.duration, spec.interpolator)
+            }
+            return animator
+        }
+        return AnimatorSet().apply { playTogether(properties.map { it.createAnimator(view) }) }
+    }
+
+    /**
+     * @return true if this spec was compiled from the given options and none of them changed since
+     */
+    fun isCompiledFrom(options: Collection<ValueAnimationOptions>): Boolean {
+        if (options.size != properties.size) return false
+        var i = 0
+        for (option in options) {
+            if (option.compile() !== properties[i++]) return false
+        }
+        return true
+    }
+}
@@ -7,6 +7,8 @@ import com.facebook.react.ReactInstanceManager;
 import com.facebook.react.bridge.ReactContext;
 import com.reactnativenavigation.NavigationApplication;
 import com.reactnativenavigation.options.parsers.TypefaceLoader;
+import com.reactnativenavigation.profiling.NavigationMetrics;
+import com.reactnativenavigation.profiling.Tracing;
 import com.reactnativenavigation.react.events.EventEmitter;
 import com.reactnativenavigation.utils.Assertions;
 import com.reactnativenavigation.utils.ImageLoader;
@@ -57,6 +59,7 @@ public class LayoutFactory {
 	private Map<String, ExternalComponentCreator> externalComponentCreators;
 	private @NonNull Options defaultOptions = new Options();
 	private TypefaceLoader typefaceManager;
+	private int createDepth;
 
 	public void setDefaultOptions(@NonNull Options defaultOptions) {
 		Assertions.assertNotNull(defaultOptions);
@@ -76,6 +79,20 @@ public class LayoutFactory {
 	}
 
 	public ViewController<?> create(final LayoutNode node) {
+		if (createDepth > 0) return createNode(node);
+		long start = NavigationMetrics.getInstance().startTimer();
+		Tracing.beginSection("RNN.LayoutFactory.create");
+		createDepth++;
+		try {
+			return createNode(node);
+		} finally {
+			createDepth--;
+			Tracing.endSection();
+			NavigationMetrics.getInstance().recordSince(NavigationMetrics.LayoutCreate, start);
+		}
+	}
+
+	private ViewController<?> createNode(final LayoutNode node) {
 		final ReactContext context = reactInstanceManager.getCurrentReactContext();
 		switch (node.type) {
 			case Component:
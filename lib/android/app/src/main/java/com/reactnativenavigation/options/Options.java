@@ -7,6 +7,7 @@ import com.reactnativenavigation.options.layout.LayoutOptions;
 import com.reactnativenavigation.options.params.NullNumber;
 import com.reactnativenavigation.options.params.NullText;
 import com.reactnativenavigation.options.parsers.TypefaceLoader;
+import com.reactnativenavigation.profiling.Tracing;
 
 import org.json.JSONObject;
 
@@ -20,7 +21,16 @@ public class Options {
     public static Options parse(@NonNull Context context, TypefaceLoader typefaceManager, JSONObject json) {
         Options result = new Options();
         if (json == null) return result;
+        Tracing.beginSection("RNN.Options.parse");
+        try {
+            parse(context, typefaceManager, json, result);
+        } finally {
+            Tracing.endSection();
+        }
+        return result;
+    }
 
+    private static void parse(@NonNull Context context, TypefaceLoader typefaceManager, JSONObject json, Options result) {
         result.topBar = TopBarOptions.parse(context, typefaceManager, json.optJSONObject("topBar"));
         result.topTabs = TopTabsOptions.parse(context, json.optJSONObject("topTabs"));
         result.topTabOptions = TopTabOptions.parse(typefaceManager, json.optJSONObject("topTab"));
@@ -35,8 +45,6 @@ public class Options {
         result.statusBar = StatusBarOptions.parse(context, json.optJSONObject("statusBar"));
         result.layout = LayoutOptions.parse(context, json.optJSONObject("layout"));
         result.hardwareBack = new HardwareBackButtonOptions(json.optJSONObject("hardwareBackButton"));
-
-        return result;
     }
 
     @NonNull public TopBarOptions topBar = new TopBarOptions();
@@ -60,6 +68,15 @@ public class Options {
 
     @CheckResult
     public Options copy() {
+        Tracing.beginSection("RNN.Options.copy");
+        try {
+            return copyOptions();
+        } finally {
+            Tracing.endSection();
+        }
+    }
+
+    private Options copyOptions() {
         Options result = new Options();
         result.topBar.mergeWith(topBar);
         result.topTabs.mergeWith(topTabs);
@@ -80,7 +97,16 @@ public class Options {
 
     @CheckResult
 	public Options mergeWith(final Options other) {
-        Options result = copy();
+        Tracing.beginSection("RNN.Options.mergeWith");
+        try {
+            return merge(other);
+        } finally {
+            Tracing.endSection();
+        }
+    }
+
+    private Options merge(final Options other) {
+        Options result = copyOptions();
         result.topBar.mergeWith(other.topBar);
         result.topTabs.mergeWith(other.topTabs);
         result.topTabOptions.mergeWith(other.topTabOptions);
@@ -10,6 +10,7 @@ open class StackAnimationOptions(json: JSONObject? = null) : LayoutAnimation {
 
     @JvmField var enabled: Bool = NullBool()
     @JvmField var waitForRender: Bool = NullBool()
+    @JvmField var hardwareLayer: Bool = NullBool()
     @JvmField var content = ViewAnimationOptions()
     @JvmField var bottomTabs = ViewAnimationOptions()
     @JvmField var topBar = ViewAnimationOptions()
@@ -28,6 +29,7 @@ open class StackAnimationOptions(json: JSONObject? = null) : LayoutAnimation {
         elementTransitions.mergeWith(other.elementTransitions)
         if (other.enabled.hasValue()) enabled = other.enabled
         if (other.waitForRender.hasValue()) waitForRender = other.waitForRender
+        if (other.hardwareLayer.hasValue()) hardwareLayer = other.hardwareLayer
     }
 
     fun mergeWithDefault(defaultOptions: StackAnimationOptions) {
@@ -38,6 +40,7 @@ open class StackAnimationOptions(json: JSONObject? = null) : LayoutAnimation {
         elementTransitions.mergeWithDefault(defaultOptions.elementTransitions)
         if (!enabled.hasValue()) enabled = defaultOptions.enabled
         if (!waitForRender.hasValue()) waitForRender = defaultOptions.waitForRender
+        if (!hardwareLayer.hasValue()) hardwareLayer = defaultOptions.hardwareLayer
     }
 
     fun hasEnterValue(): Boolean {
@@ -55,6 +58,7 @@ open class StackAnimationOptions(json: JSONObject? = null) : LayoutAnimation {
         topBar = ViewAnimationOptions(json.optJSONObject("topBar"))
         enabled = BoolParser.parseFirst(json, "enabled", "enable")
         waitForRender = BoolParser.parse(json, "waitForRender")
+        hardwareLayer = BoolParser.parse(json, "hardwareLayer")
         sharedElements = SharedElements.parse(json)
         elementTransitions = ElementTransitions.parse(json)
     }
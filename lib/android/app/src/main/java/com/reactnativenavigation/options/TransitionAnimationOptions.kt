@@ -2,6 +2,8 @@ package com.reactnativenavigation.options
 
 import androidx.annotation.RestrictTo
 import com.reactnativenavigation.options.params.Bool
+import com.reactnativenavigation.options.params.NullBool
+import com.reactnativenavigation.options.parsers.BoolParser
 import org.json.JSONObject
 
 fun parseTransitionAnimationOptions(jsonObject: JSONObject?): TransitionAnimationOptions {
@@ -16,6 +18,7 @@ fun parseTransitionAnimationOptions(jsonObject: JSONObject?): TransitionAnimatio
         if (jsonObject.has("elementTransitions")) {
             modalAnimationOptions.elementTransitions = ElementTransitions.parse(jsonObject)
         }
+        modalAnimationOptions.hardwareLayer = BoolParser.parse(jsonObject, "hardwareLayer")
         modalAnimationOptions
     } ?: TransitionAnimationOptions()
 }
@@ -26,12 +29,15 @@ open class TransitionAnimationOptions(
         override var sharedElements: SharedElements = SharedElements(),
         override var elementTransitions: ElementTransitions = ElementTransitions()
 ) : LayoutAnimation {
+    @JvmField var hardwareLayer: Bool = NullBool()
+
     open fun hasValue() = enter.hasValue() || exit.hasValue() || sharedElements.hasValue() || elementTransitions.hasValue()
     open fun mergeWith(other: TransitionAnimationOptions) {
         this.enter.mergeWith(other.enter)
         this.exit.mergeWith(other.exit)
         this.sharedElements.mergeWith(other.sharedElements)
         this.elementTransitions.mergeWith(other.elementTransitions)
+        if (other.hardwareLayer.hasValue()) this.hardwareLayer = other.hardwareLayer
     }
 
     open fun mergeWithDefault(other: TransitionAnimationOptions) {
@@ -39,6 +45,7 @@ open class TransitionAnimationOptions(
         if (!this.exit.hasValue()) this.exit.mergeWithDefault(other.exit)
         if (!this.sharedElements.hasValue()) this.sharedElements.mergeWithDefault(other.sharedElements)
         if (!this.elementTransitions.hasValue()) this.elementTransitions.mergeWithDefault(other.elementTransitions)
+        if (!this.hardwareLayer.hasValue()) this.hardwareLayer = other.hardwareLayer
     }
 
     open fun hasElementTransitions() = sharedElements.hasValue() || elementTransitions.hasValue()
@@ -1,7 +1,6 @@
 package com.reactnativenavigation.options
 
 import android.animation.Animator
-import android.animation.ObjectAnimator
 import android.animation.TimeInterpolator
 import android.util.Property
 import android.util.TypedValue
@@ -12,7 +11,6 @@ import com.reactnativenavigation.options.params.Number
 import com.reactnativenavigation.options.parsers.FloatParser
 import com.reactnativenavigation.options.parsers.InterpolationParser
 import com.reactnativenavigation.options.parsers.NumberParser
-import com.reactnativenavigation.utils.UiUtils.dpToPx
 import org.json.JSONObject
 
 class ValueAnimationOptions {
@@ -26,38 +24,46 @@ class ValueAnimationOptions {
         private set
     private var toDelta = FloatParam(0f)
     var duration: Number = NullNumber()
+        set(value) {
+            field = value
+            spec = null
+        }
     private var startDelay: Number = NullNumber()
     private var interpolator: TimeInterpolator = LinearInterpolator()
+    private var spec: PropertyAnimationSpec? = null
 
     fun setFromDelta(fromDelta: Float) {
         this.fromDelta = FloatParam(fromDelta)
+        spec = null
     }
 
     fun setToDelta(toDelta: Float) {
         this.toDelta = FloatParam(toDelta)
+        spec = null
     }
 
-    fun getAnimation(view: View): Animator {
-        require(!(!from.hasValue() && !to.hasValue())) { "Params 'from' and 'to' are mandatory" }
+    fun getAnimation(view: View): Animator = compile().createAnimator(view)
 
-        var from = fromDelta.get()
-        var to = toDelta.get()
-        if (animPropType == TypedValue.COMPLEX_UNIT_DIP) {
-            from += dpToPx(view.context, this.from[animationValueAccessor!!(view)])
-            to += dpToPx(view.context, this.to[animationValueAccessor!!(view)])
-        } else {
-            from += this.from[animationValueAccessor!!(view)]
-            to += this.to[animationValueAccessor!!(view)]
-        }
-        val animator = ObjectAnimator.ofFloat(view,
-            animProp,
-            from,
-            to
-        )
-        animator.interpolator = interpolator
-        if (duration.hasValue()) animator.duration = duration.get().toLong()
-        if (startDelay.hasValue()) animator.startDelay = startDelay.get().toLong()
-        return animator
+    /**
+     * @return a spec of this animation which is reused until the animation's values are changed
+     */
+    fun compile(): PropertyAnimationSpec {
+        spec?.let { return it }
+        require(!(!from.hasValue() && !to.hasValue())) { "Params 'from' and 'to' are mandatory" }
+        return PropertyAnimationSpec(
+            animProp!!,
+            from.hasValue(),
+            from[0f],
+            to.hasValue(),
+            to[0f],
+            fromDelta.get(),
+            toDelta.get(),
+            animPropType == TypedValue.COMPLEX_UNIT_DIP,
+            animationValueAccessor!!,
+            startDelay[0].toLong(),
+            duration[DEFAULT_DURATION].toLong(),
+            interpolator
+        ).also { spec = it }
     }
 
     override fun equals(other: Any?): Boolean {
@@ -76,6 +82,8 @@ class ValueAnimationOptions {
     fun isAlpha(): Boolean = animProp == View.ALPHA
 
     companion object {
+        private const val DEFAULT_DURATION = 300
+
         fun parse(json: JSONObject?, property: Triple<Property<View, Float>?, Int?, (View) -> Float>): ValueAnimationOptions {
             val options = ValueAnimationOptions()
             options.animProp = property.first
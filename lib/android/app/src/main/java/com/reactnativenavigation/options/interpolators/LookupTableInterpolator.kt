@@ -0,0 +1,36 @@
+package com.reactnativenavigation.options.interpolators
+
+import android.animation.TimeInterpolator
+import kotlin.math.min
+
+/**
+ * Samples another interpolator at [resolution] evenly spaced points and linearly interpolates between the samples,
+ * so that evaluating it on each animation frame costs a table lookup regardless of the sampled function.
+ *
+ * The error of linear interpolation is bounded by max|f''| / (8 * resolution²). The last sample is taken just before
+ * 1 and the value at 1 is kept separately, so that interpolators which special case the end of the animation, such as
+ * [SpringInterpolator], don't spread that discontinuity over the last interval.
+ */
+class LookupTableInterpolator(source: TimeInterpolator, val resolution: Int) : TimeInterpolator {
+    private val samples: FloatArray
+    private val end: Float
+
+    init {
+        require(resolution > 0) { "Resolution must be positive: $resolution" }
+        samples = FloatArray(resolution + 1)
+        for (i in 0 until resolution) {
+            samples[i] = source.getInterpolation(i.toFloat() / resolution)
+        }
+        samples[resolution] = source.getInterpolation(Math.nextAfter(1f, 0.0))
+        end = source.getInterpolation(1f)
+    }
+
+    override fun getInterpolation(input: Float): Float {
+        if (input <= 0f) return samples[0]
+        if (input >= 1f) return end
+        val position = input * resolution
+        val index = min(position.toInt(), resolution - 1)
+        val fraction = position - index
+        return samples[index] + (samples[index + 1] - samples[index]) * fraction
+    }
+}
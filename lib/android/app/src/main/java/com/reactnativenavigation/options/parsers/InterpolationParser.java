@@ -9,37 +9,66 @@ import android.view.animation.LinearInterpolator;
 import android.view.animation.OvershootInterpolator;
 
 import com.reactnativenavigation.options.interpolators.DecelerateAccelerateInterpolator;
+import com.reactnativenavigation.options.interpolators.LookupTableInterpolator;
 import com.reactnativenavigation.options.interpolators.SpringInterpolator;
 
 import org.json.JSONObject;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import androidx.annotation.VisibleForTesting;
 import androidx.interpolator.view.animation.FastOutSlowInInterpolator;
 
+/**
+ * Parses the interpolation of value animations. Interpolators are stateless, so a single instance is shared by all
+ * animations with the same interpolation parameters. Interpolators which evaluate a function on each frame are backed
+ * by a {@link LookupTableInterpolator} sampled at {@link #getLookupTableResolution()} points.
+ */
 public class InterpolationParser {
+    public static final int DEFAULT_LOOKUP_TABLE_RESOLUTION = 256;
+
+    private static final ConcurrentMap<String, TimeInterpolator> cache = new ConcurrentHashMap<>();
+    private static volatile int lookupTableResolution = DEFAULT_LOOKUP_TABLE_RESOLUTION;
+
+    public static int getLookupTableResolution() {
+        return lookupTableResolution;
+    }
+
+    /**
+     * @param resolution number of samples in lookup tables, or 0 to evaluate interpolators on each frame.
+     *                   Applies to interpolators parsed after it's set.
+     */
+    public static void setLookupTableResolution(int resolution) {
+        if (resolution < 0) throw new IllegalArgumentException("Resolution can't be negative: " + resolution);
+        lookupTableResolution = resolution;
+    }
+
     public static TimeInterpolator parse(JSONObject json) {
         JSONObject interpolation = json.optJSONObject("interpolation");
         String type = interpolation == null ? "linear" : interpolation.optString("type", "linear");
         switch (type) {
             case "decelerate": {
                 float factor = (float) interpolation.optDouble("factor", 1.0);
-                return new DecelerateInterpolator(factor);
+                return cached(type + ":" + factor, () -> new DecelerateInterpolator(factor));
             }
             case "accelerateDecelerate": {
-                return new AccelerateDecelerateInterpolator();
+                return cached(type, AccelerateDecelerateInterpolator::new);
             }
             case "accelerate": {
                 float factor = (float) interpolation.optDouble("factor", 1.0);
-                return new AccelerateInterpolator(factor);
+                return cached(type + ":" + factor, () -> new AccelerateInterpolator(factor));
             }
             case "decelerateAccelerate": {
-                return new DecelerateAccelerateInterpolator();
+                return cached(type, DecelerateAccelerateInterpolator::new);
             }
             case "fastOutSlowIn": {
-                return new FastOutSlowInInterpolator();
+                // Already backed by a lookup table
+                return shared(type, FastOutSlowInInterpolator::new);
             }
             case "overshoot": {
-                double tension = interpolation.optDouble("tension", 1.0);
-                return new OvershootInterpolator((float) tension);
+                float tension = (float) interpolation.optDouble("tension", 1.0);
+                return cached(type + ":" + tension, () -> new OvershootInterpolator(tension));
             }
             case "spring": {
                 float mass = (float) interpolation.optDouble("mass", 3.0);
@@ -47,12 +76,38 @@ public class InterpolationParser {
                 float stiffness = (float) interpolation.optDouble("stiffness", 200.0);
                 boolean allowsOverdamping = interpolation.optBoolean("allowsOverdamping", false);
                 float initialVelocity = (float) interpolation.optDouble("initialVelocity", 0);
-                return new SpringInterpolator(mass, damping, stiffness, allowsOverdamping, initialVelocity);
+                return cached(
+                        type + ":" + mass + ":" + damping + ":" + stiffness + ":" + allowsOverdamping + ":" + initialVelocity,
+                        () -> new SpringInterpolator(mass, damping, stiffness, allowsOverdamping, initialVelocity)
+                );
             }
             case "linear":
             default: {
-                return new LinearInterpolator();
+                return shared("linear", LinearInterpolator::new);
             }
         }
     }
+
+    private interface InterpolatorFactory {
+        TimeInterpolator create();
+    }
+
+    private static TimeInterpolator cached(String key, InterpolatorFactory factory) {
+        int resolution = lookupTableResolution;
+        if (resolution == 0) return shared(key, factory);
+        return shared(key + "@" + resolution, () -> new LookupTableInterpolator(factory.create(), resolution));
+    }
+
+    private static TimeInterpolator shared(String key, InterpolatorFactory factory) {
+        TimeInterpolator interpolator = cache.get(key);
+        if (interpolator != null) return interpolator;
+        TimeInterpolator created = factory.create();
+        TimeInterpolator existing = cache.putIfAbsent(key, created);
+        return existing == null ? created : existing;
+    }
+
+    @VisibleForTesting
+    public static void clearCache() {
+        cache.clear();
+    }
 }
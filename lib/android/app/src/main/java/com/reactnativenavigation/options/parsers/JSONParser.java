@@ -8,6 +8,7 @@ import com.facebook.react.bridge.WritableArray;
 import com.facebook.react.bridge.WritableMap;
 import com.facebook.react.bridge.WritableNativeArray;
 import com.facebook.react.bridge.WritableNativeMap;
+import com.reactnativenavigation.profiling.Tracing;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -17,6 +18,24 @@ import java.util.Iterator;
 
 public class JSONParser {
     public JSONObject parse(ReadableMap map) {
+        Tracing.beginSection("RNN.JSONParser.parse");
+        try {
+            return parseMap(map);
+        } finally {
+            Tracing.endSection();
+        }
+    }
+
+    public JSONArray parse(ReadableArray arr) {
+        Tracing.beginSection("RNN.JSONParser.parse");
+        try {
+            return parseArray(arr);
+        } finally {
+            Tracing.endSection();
+        }
+    }
+
+    private JSONObject parseMap(ReadableMap map) {
         try {
             ReadableMapKeySetIterator it = map.keySetIterator();
             JSONObject result = new JSONObject();
@@ -33,10 +52,10 @@ public class JSONParser {
                         result.put(key, map.getBoolean(key));
                         break;
                     case Array:
-                        result.put(key, parse(map.getArray(key)));
+                        result.put(key, parseArray(map.getArray(key)));
                         break;
                     case Map:
-                        result.put(key, parse(map.getMap(key)));
+                        result.put(key, parseMap(map.getMap(key)));
                         break;
                     default:
                         break;
@@ -48,7 +67,7 @@ public class JSONParser {
         }
     }
 
-    public JSONArray parse(ReadableArray arr) {
+    private JSONArray parseArray(ReadableArray arr) {
         JSONArray result = new JSONArray();
         for (int i = 0; i < arr.size(); i++) {
             switch (arr.getType(i)) {
@@ -62,10 +81,10 @@ public class JSONParser {
                     result.put(arr.getBoolean(i));
                     break;
                 case Array:
-                    result.put(parse(arr.getArray(i)));
+                    result.put(parseArray(arr.getArray(i)));
                     break;
                 case Map:
-                    result.put(parse(arr.getMap(i)));
+                    result.put(parseMap(arr.getMap(i)));
                     break;
                 default:
                     break;
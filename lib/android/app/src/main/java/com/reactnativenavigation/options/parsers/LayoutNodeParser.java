@@ -3,6 +3,7 @@ package com.reactnativenavigation.options.parsers;
 import androidx.annotation.NonNull;
 
 import com.reactnativenavigation.options.LayoutNode;
+import com.reactnativenavigation.profiling.Tracing;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
@@ -14,6 +15,15 @@ public class LayoutNodeParser {
 
 	@SuppressWarnings("unchecked")
 	public static LayoutNode parse(JSONObject layoutTree) {
+		Tracing.beginSection("RNN.LayoutNodeParser.parse");
+		try {
+			return parseNode(layoutTree);
+		} finally {
+			Tracing.endSection();
+		}
+	}
+
+	private static LayoutNode parseNode(JSONObject layoutTree) {
 		String id = layoutTree.optString("id");
 		LayoutNode.Type type = LayoutNode.Type.valueOf(layoutTree.optString("type"));
 		JSONObject data = parseData(layoutTree);
@@ -27,7 +37,7 @@ public class LayoutNodeParser {
 		if (layoutTree.has("children")) {
 			JSONArray rawChildren = layoutTree.optJSONArray("children");
 			for (int i = 0; i < rawChildren.length(); i++) {
-				children.add(parse(rawChildren.optJSONObject(i)));
+				children.add(parseNode(rawChildren.optJSONObject(i)));
 			}
 		}
 		return children;
@@ -0,0 +1,184 @@
+package com.reactnativenavigation.profiling;
+
+import android.util.Log;
+
+import com.reactnativenavigation.utils.Now;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Opt in recorder of the navigation commands received from JS. Each command is recorded with its arguments and a
+ * monotonic timestamp so the exact sequence and timing can be replayed later, e.g. by CommandReplayBenchmark.
+ *
+ * Recordings are stored as JSON lines, one command per line. Only the last {@link #MAX_COMMANDS} commands are kept
+ * in memory; commands recorded since the last {@link #appendTo(File)} are appended to the recording file on a
+ * background thread, and are flushed to it early once {@link #MAX_COMMANDS} of them are pending. Commands which had to
+ * be dropped before the recording file was known are replaced by a truncation marker, and {@link #read(Reader)} stops
+ * at that marker since the commands following it can't be replayed without the ones that were dropped.
+ */
+public class CommandRecorder {
+    public static final String RECORDING_FILE_NAME = "rnn-command-recording.jsonl";
+    static final int MAX_COMMANDS = 1000;
+    private static final String TAG = "CommandRecorder";
+    private static final String TRUNCATED = "truncated";
+    private static final CommandRecorder instance = new CommandRecorder(new Now(), Executors.newSingleThreadExecutor(), MAX_COMMANDS);
+
+    private final Now now;
+    private final Executor ioExecutor;
+    private final int maxCommands;
+    private final ArrayDeque<RecordedCommand> commands = new ArrayDeque<>();
+    private final ArrayDeque<RecordedCommand> unwritten = new ArrayDeque<>();
+    private volatile boolean recording;
+    private boolean truncateOnNextWrite;
+    private int droppedCommands;
+    @Nullable private File file;
+    private long startNanos;
+
+    public static CommandRecorder getInstance() {
+        return instance;
+    }
+
+    @VisibleForTesting
+    CommandRecorder(Now now, Executor ioExecutor, int maxCommands) {
+        this.now = now;
+        this.ioExecutor = ioExecutor;
+        this.maxCommands = maxCommands;
+    }
+
+    public boolean isRecording() {
+        return recording;
+    }
+
+    /**
+     * Starts a new recording, discarding the commands recorded so far.
+     */
+    public synchronized void start() {
+        commands.clear();
+        unwritten.clear();
+        droppedCommands = 0;
+        truncateOnNextWrite = true;
+        startNanos = now.nanoTime();
+        recording = true;
+    }
+
+    /**
+     * @return the commands recorded since the recording started.
+     */
+    public synchronized List<RecordedCommand> stop() {
+        recording = false;
+        return new ArrayList<>(commands);
+    }
+
+    public synchronized List<RecordedCommand> getCommands() {
+        return new ArrayList<>(commands);
+    }
+
+    /**
+     * Callers should check {@link #isRecording()} before serializing arguments.
+     */
+    public synchronized void record(String method, @Nullable String commandId, @Nullable String componentId, @Nullable Object arguments) {
+        if (!recording) return;
+        RecordedCommand command = new RecordedCommand(method, commandId, componentId, arguments == null ? null : arguments.toString(), now.nanoTime() - startNanos);
+        if (commands.size() == maxCommands) commands.pollFirst();
+        commands.addLast(command);
+        if (unwritten.size() == maxCommands) {
+            if (file != null) {
+                appendTo(file);
+            } else {
+                unwritten.pollFirst();
+                droppedCommands++;
+            }
+        }
+        unwritten.addLast(command);
+    }
+
+    /**
+     * Appends the commands recorded since the previous call to the given file on a background thread. The first call
+     * after {@link #start()} replaces the file's contents. Later commands are flushed to the same file whenever too many
+     * of them are pending.
+     */
+    public synchronized void appendTo(File file) {
+        this.file = file;
+        if (unwritten.isEmpty() && !truncateOnNextWrite) return;
+        final List<RecordedCommand> toWrite = new ArrayList<>(unwritten);
+        final boolean append = !truncateOnNextWrite;
+        final int dropped = droppedCommands;
+        unwritten.clear();
+        droppedCommands = 0;
+        truncateOnNextWrite = false;
+        ioExecutor.execute(() -> {
+            try (Writer writer = new FileWriter(file, append)) {
+                if (dropped > 0) writeTruncationMarker(dropped, writer);
+                write(toWrite, writer);
+            } catch (IOException e) {
+                Log.e(TAG, "Failed to write command recording to " + file, e);
+            }
+        });
+    }
+
+    public static void write(List<RecordedCommand> commands, Writer writer) throws IOException {
+        try {
+            for (RecordedCommand command : commands) {
+                writer.write(command.toJson().toString());
+                writer.write('\n');
+            }
+        } catch (JSONException e) {
+            throw new IOException(e);
+        }
+    }
+
+    private static void writeTruncationMarker(int droppedCommands, Writer writer) throws IOException {
+        try {
+            writer.write(new JSONObject().put(TRUNCATED, droppedCommands).toString());
+            writer.write('\n');
+        } catch (JSONException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * @return the recorded commands up to the first truncation marker, if any
+     */
+    public static List<RecordedCommand> read(File file) throws IOException {
+        try (Reader reader = new FileReader(file)) {
+            return read(reader);
+        }
+    }
+
+    public static List<RecordedCommand> read(Reader reader) throws IOException {
+        List<RecordedCommand> result = new ArrayList<>();
+        BufferedReader lines = new BufferedReader(reader);
+        String line;
+        try {
+            while ((line = lines.readLine()) != null) {
+                if (line.trim().isEmpty()) continue;
+                JSONObject json = new JSONObject(line);
+                if (json.has(TRUNCATED)) {
+                    Log.w(TAG, json.getInt(TRUNCATED) + " commands were dropped from the recording, ignoring the commands recorded after them");
+                    break;
+                }
+                result.add(RecordedCommand.fromJson(json));
+            }
+        } catch (JSONException e) {
+            throw new IOException(e);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package com.reactnativenavigation.profiling;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A navigation command which blocked the main thread for longer than the {@link CommandWatchdog} budget.
+ */
+public class CommandStall {
+    public final String commandName;
+    @Nullable public final String commandId;
+    @Nullable public final String componentId;
+    public final long durationNanos;
+    /**
+     * Time spent between consecutive phases the command went through, keyed by the phase which ended each span.
+     */
+    public final Map<String, Long> phaseDurationsNanos;
+    /**
+     * Main thread stack traces sampled while the command was running, if sampling is enabled.
+     */
+    public final List<StackTraceElement[]> stackSamples;
+    /**
+     * Commands still waiting to run on the main thread when the stall ended.
+     */
+    public final int queuedCommands;
+
+    CommandStall(String commandName, @Nullable String commandId, @Nullable String componentId, long durationNanos, Map<String, Long> phaseDurationsNanos, List<StackTraceElement[]> stackSamples, int queuedCommands) {
+        this.commandName = commandName;
+        this.commandId = commandId;
+        this.componentId = componentId;
+        this.durationNanos = durationNanos;
+        this.phaseDurationsNanos = Collections.unmodifiableMap(phaseDurationsNanos);
+        this.stackSamples = Collections.unmodifiableList(stackSamples);
+        this.queuedCommands = queuedCommands;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(commandName)
+                .append(" on ").append(componentId)
+                .append(" blocked the main thread for ").append(durationNanos / 1_000_000d).append("ms")
+                .append(", ").append(queuedCommands).append(" commands queued");
+        for (Map.Entry<String, Long> phase : phaseDurationsNanos.entrySet()) {
+            sb.append(' ').append(phase.getKey()).append('=').append(phase.getValue() / 1_000_000d).append("ms");
+        }
+        for (StackTraceElement[] sample : stackSamples) {
+            sb.append("\n  sample:");
+            for (StackTraceElement element : sample) {
+                sb.append("\n    at ").append(element);
+            }
+        }
+        return sb.toString();
+    }
+}
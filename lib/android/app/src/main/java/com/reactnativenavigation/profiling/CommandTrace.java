@@ -0,0 +1,191 @@
+package com.reactnativenavigation.profiling;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.view.View;
+
+import com.reactnativenavigation.utils.Now;
+import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Records when a navigation command reaches each of its phases, from the moment the bridge call is received until its
+ * promise is resolved. Timestamps are taken from a monotonic clock.
+ *
+ * While a command is handled on the main thread its trace is the {@link #current()} trace, which lets code deeper in the
+ * hierarchy (animators for example) attach phases to the command which triggered them.
+ */
+public class CommandTrace {
+    public enum Phase {
+        Received("received"),
+        Parsed("parsed"),
+        Dequeued("dequeued"),
+        ControllersCreated("controllersCreated"),
+        ViewAttached("viewAttached"),
+        FirstRender("firstRender"),
+        AnimationStart("animationStart"),
+        AnimationEnd("animationEnd"),
+        PromiseResolved("promiseResolved");
+
+        public final String jsName;
+
+        Phase(String jsName) {
+            this.jsName = jsName;
+        }
+    }
+
+    private static final Phase[] PHASES = Phase.values();
+    @Nullable private static CommandTrace current;
+
+    private final String commandName;
+    private final String commandId;
+    private final Now now;
+    private final long[] timestamps = new long[PHASES.length];
+    private int recordedPhases;
+    private int asyncSectionCookie;
+
+    public CommandTrace(String commandName, String commandId, Now now) {
+        this.commandName = commandName;
+        this.commandId = commandId;
+        this.now = now;
+        mark(Phase.Received);
+        if (Tracing.isEnabled()) asyncSectionCookie = Tracing.beginAsyncSection(getSectionName());
+    }
+
+    @Nullable
+    public static CommandTrace current() {
+        return current;
+    }
+
+    public static Phase[] phases() {
+        return PHASES;
+    }
+
+    public String getCommandName() {
+        return commandName;
+    }
+
+    public String getCommandId() {
+        return commandId;
+    }
+
+    /**
+     * Name of the trace sections which cover this command
+     */
+    public String getSectionName() {
+        return "RNN.command." + commandName;
+    }
+
+    /**
+     * Ends the async trace section which tracks the command end to end. Called once the command's promise is settled.
+     */
+    public void finish() {
+        if (asyncSectionCookie == 0) return;
+        Tracing.endAsyncSection(getSectionName(), asyncSectionCookie);
+        asyncSectionCookie = 0;
+    }
+
+    /**
+     * Records the current time for the given phase. Only the first time a phase is reached is recorded.
+     */
+    public void mark(Phase phase) {
+        int mask = 1 << phase.ordinal();
+        if ((recordedPhases & mask) != 0) return;
+        recordedPhases |= mask;
+        timestamps[phase.ordinal()] = now.nanoTime();
+    }
+
+    public boolean hasPhase(Phase phase) {
+        return (recordedPhases & (1 << phase.ordinal())) != 0;
+    }
+
+    public long getTimestampNanos(Phase phase) {
+        return timestamps[phase.ordinal()];
+    }
+
+    public long getDurationNanos(Phase from, Phase to) {
+        if (!hasPhase(from) || !hasPhase(to)) return -1;
+        return getTimestampNanos(to) - getTimestampNanos(from);
+    }
+
+    public void runAsCurrent(Runnable task) {
+        CommandTrace previous = current;
+        current = this;
+        try {
+            task.run();
+        } finally {
+            current = previous;
+        }
+    }
+
+    /**
+     * Tracks when the view of a controller created by this command is attached and first rendered.
+     * Should be called after the controller was handed to the Navigator.
+     */
+    public void observe(ViewController<?> controller) {
+        if (controller.isViewCreated()) {
+            View view = controller.getView();
+            if (view.isAttachedToWindow()) {
+                mark(Phase.ViewAttached);
+            } else {
+                view.addOnAttachStateChangeListener(new View.OnAttachStateChangeListener() {
+                    @Override
+                    public void onViewAttachedToWindow(View v) {
+                        v.removeOnAttachStateChangeListener(this);
+                        mark(Phase.ViewAttached);
+                    }
+
+                    @Override
+                    public void onViewDetachedFromWindow(View v) {
+
+                    }
+                });
+            }
+        }
+        controller.addOnAppearedListener(() -> {
+            if (hasPhase(Phase.FirstRender)) return;
+            mark(Phase.FirstRender);
+            NavigationMetrics.getInstance().onFirstRender(this);
+        });
+    }
+
+    /**
+     * Marks the animation phases of the current command, if any, when the given animator starts and ends.
+     */
+    public static void traceAnimation(Animator animator) {
+        traceAnimation(animator, current);
+    }
+
+    /**
+     * Marks the animation phases of the given trace when the animator starts and ends. Animators created after the
+     * command was handled, in a coroutine for example, should capture {@link #current()} beforehand and pass it here.
+     */
+    public static void traceAnimation(Animator animator, @Nullable CommandTrace trace) {
+        if (trace == null) return;
+        animator.addListener(new AnimatorListenerAdapter() {
+            @Override
+            public void onAnimationStart(Animator animation) {
+                trace.mark(Phase.AnimationStart);
+            }
+
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                trace.mark(Phase.AnimationEnd);
+            }
+        });
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(commandName).append(' ').append(commandId);
+        for (Phase phase : PHASES) {
+            if (hasPhase(phase)) {
+                sb.append(' ').append(phase.jsName).append('=').append(getDurationNanos(Phase.Received, phase) / 1_000_000d).append("ms");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,196 @@
+package com.reactnativenavigation.profiling;
+
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Looper;
+import android.util.Log;
+
+import com.reactnativenavigation.utils.Now;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Attributes main thread stalls to the navigation commands which caused them. While enabled, each command runs inside a
+ * timed wrapper and commands which take longer than the budget are reported to the listeners with a breakdown of the
+ * time spent in each of their phases. Optionally, the main thread's stack is sampled while a command is over budget.
+ *
+ * The number of commands posted to the main thread which didn't run yet is tracked regardless of whether the watchdog
+ * is enabled.
+ */
+public class CommandWatchdog {
+    public interface Listener {
+        void onStall(CommandStall stall);
+    }
+
+    private static final String TAG = "RNN.CommandWatchdog";
+    private static final long DEFAULT_BUDGET_MS = 32;
+    private static final int MAX_STACK_SAMPLES = 8;
+    private static final CommandWatchdog instance = new CommandWatchdog(new Now());
+
+    private final Now now;
+    private final AtomicInteger queuedCommands = new AtomicInteger();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean enabled;
+    private volatile long budgetNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_BUDGET_MS);
+    private volatile boolean stackSamplingEnabled;
+    @Nullable private Handler samplerHandler;
+
+    public static CommandWatchdog getInstance() {
+        return instance;
+    }
+
+    @VisibleForTesting
+    CommandWatchdog(Now now) {
+        this.now = now;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public void setBudget(long budgetMs) {
+        budgetNanos = TimeUnit.MILLISECONDS.toNanos(budgetMs);
+    }
+
+    public void setStackSamplingEnabled(boolean enabled) {
+        stackSamplingEnabled = enabled;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Should be called when a command is posted to the main thread
+     */
+    public void onQueued() {
+        queuedCommands.incrementAndGet();
+    }
+
+    /**
+     * Should be called when a posted command is taken off the main thread's queue, whether it runs or not
+     */
+    public void onDequeued() {
+        queuedCommands.decrementAndGet();
+    }
+
+    public int getQueuedCommandCount() {
+        return queuedCommands.get();
+    }
+
+    /**
+     * Runs the given command task on the calling thread, reporting a stall if it takes longer than the budget.
+     */
+    public void run(String commandName, @Nullable String componentId, @Nullable CommandTrace trace, Runnable task) {
+        if (!enabled) {
+            task.run();
+            return;
+        }
+        StackSampler sampler = stackSamplingEnabled ? startSampling() : null;
+        long start = now.nanoTime();
+        try {
+            task.run();
+        } finally {
+            long end = now.nanoTime();
+            List<StackTraceElement[]> samples = sampler == null ? new ArrayList<>() : sampler.stop();
+            if (end - start > budgetNanos) {
+                report(new CommandStall(
+                        commandName,
+                        trace == null ? null : trace.getCommandId(),
+                        componentId,
+                        end - start,
+                        getPhaseDurations(trace, end),
+                        samples,
+                        queuedCommands.get()
+                ));
+            }
+        }
+    }
+
+    private void report(CommandStall stall) {
+        Log.w(TAG, stall.toString());
+        for (Listener listener : listeners) {
+            listener.onStall(stall);
+        }
+    }
+
+    private static Map<String, Long> getPhaseDurations(@Nullable CommandTrace trace, long end) {
+        Map<String, Long> result = new LinkedHashMap<>();
+        if (trace == null) return result;
+        long previous = trace.getTimestampNanos(CommandTrace.Phase.Received);
+        for (CommandTrace.Phase phase : CommandTrace.phases()) {
+            if (phase == CommandTrace.Phase.Received || !trace.hasPhase(phase)) continue;
+            long timestamp = trace.getTimestampNanos(phase);
+            if (timestamp > end) continue;
+            result.put(phase.jsName, timestamp - previous);
+            previous = timestamp;
+        }
+        result.put("taskEnd", end - previous);
+        return result;
+    }
+
+    private StackSampler startSampling() {
+        if (samplerHandler == null) {
+            HandlerThread thread = new HandlerThread(TAG);
+            thread.start();
+            samplerHandler = new Handler(thread.getLooper());
+        }
+        StackSampler sampler = new StackSampler(samplerHandler, TimeUnit.NANOSECONDS.toMillis(budgetNanos));
+        sampler.start();
+        return sampler;
+    }
+
+    /**
+     * Samples the main thread's stack on a background thread, first when the budget is exceeded and then once per
+     * budget interval until stopped.
+     */
+    private static class StackSampler implements Runnable {
+        private final Handler handler;
+        private final long intervalMs;
+        private final Thread mainThread = Looper.getMainLooper().getThread();
+        private final List<StackTraceElement[]> samples = new ArrayList<>();
+        private boolean stopped;
+
+        StackSampler(Handler handler, long intervalMs) {
+            this.handler = handler;
+            this.intervalMs = Math.max(1, intervalMs);
+        }
+
+        void start() {
+            handler.postDelayed(this, intervalMs);
+        }
+
+        @Override
+        public void run() {
+            StackTraceElement[] sample = mainThread.getStackTrace();
+            synchronized (this) {
+                if (stopped) return;
+                samples.add(sample);
+                if (samples.size() < MAX_STACK_SAMPLES) handler.postDelayed(this, intervalMs);
+            }
+        }
+
+        synchronized List<StackTraceElement[]> stop() {
+            stopped = true;
+            handler.removeCallbacks(this);
+            return new ArrayList<>(samples);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.reactnativenavigation.profiling;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock free histogram of durations. Values are bucketed by powers of two microseconds, so recording a value costs a few
+ * atomic increments and percentiles are reported as the upper bound of the bucket they fall in.
+ */
+public class Histogram {
+    static final int BUCKETS = 32;
+
+    private final String name;
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sumNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    public Histogram(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void recordNanos(long nanos) {
+        if (nanos < 0) return;
+        buckets.incrementAndGet(bucketOf(nanos));
+        count.incrementAndGet();
+        sumNanos.addAndGet(nanos);
+        long max;
+        do {
+            max = maxNanos.get();
+        } while (nanos > max && !maxNanos.compareAndSet(max, nanos));
+    }
+
+    public Snapshot snapshot() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return new Snapshot(name, count.get(), sumNanos.get(), maxNanos.get(), counts);
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        sumNanos.set(0);
+        maxNanos.set(0);
+    }
+
+    static int bucketOf(long nanos) {
+        long micros = nanos / 1000;
+        if (micros == 0) return 0;
+        return Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * Upper bound, in nanoseconds, of the values recorded in the given bucket.
+     */
+    static long upperBoundNanos(int bucket) {
+        return (1L << bucket) * 1000;
+    }
+
+    public static class Snapshot {
+        public final String name;
+        public final long count;
+        public final long sumNanos;
+        public final long maxNanos;
+        private final long[] buckets;
+
+        Snapshot(String name, long count, long sumNanos, long maxNanos, long[] buckets) {
+            this.name = name;
+            this.count = count;
+            this.sumNanos = sumNanos;
+            this.maxNanos = maxNanos;
+            this.buckets = buckets;
+        }
+
+        public long getMeanNanos() {
+            return count == 0 ? 0 : sumNanos / count;
+        }
+
+        /**
+         * @param percentile between 0 and 100
+         */
+        public long getPercentileNanos(double percentile) {
+            long total = 0;
+            for (long bucket : buckets) total += bucket;
+            if (total == 0) return 0;
+            long threshold = (long) Math.ceil(total * percentile / 100d);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= Math.max(threshold, 1)) return Math.min(upperBoundNanos(i), maxNanos);
+            }
+            return maxNanos;
+        }
+    }
+}
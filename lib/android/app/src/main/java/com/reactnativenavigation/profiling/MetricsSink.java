@@ -0,0 +1,8 @@
+package com.reactnativenavigation.profiling;
+
+/**
+ * Receives the metrics collected by {@link NavigationMetrics} each time they are reported.
+ */
+public interface MetricsSink {
+    void onReport(MetricsSnapshot snapshot);
+}
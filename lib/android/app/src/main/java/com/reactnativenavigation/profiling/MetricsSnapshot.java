@@ -0,0 +1,48 @@
+package com.reactnativenavigation.profiling;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Immutable copy of the counters and histograms recorded by {@link NavigationMetrics} at a point in time.
+ */
+public class MetricsSnapshot {
+    public final Map<String, Long> counters;
+    public final Map<String, Histogram.Snapshot> histograms;
+
+    MetricsSnapshot(Map<String, Long> counters, Map<String, Histogram.Snapshot> histograms) {
+        this.counters = Collections.unmodifiableMap(counters);
+        this.histograms = Collections.unmodifiableMap(histograms);
+    }
+
+    public long getCounter(String name) {
+        Long value = counters.get(name);
+        return value == null ? 0 : value;
+    }
+
+    @Nullable
+    public Histogram.Snapshot getHistogram(String name) {
+        return histograms.get(name);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Long> counter : counters.entrySet()) {
+            sb.append(counter.getKey()).append('=').append(counter.getValue()).append('\n');
+        }
+        for (Histogram.Snapshot histogram : histograms.values()) {
+            sb.append(histogram.name)
+                    .append(" count=").append(histogram.count)
+                    .append(" mean=").append(histogram.getMeanNanos() / 1_000_000d).append("ms")
+                    .append(" p90=").append(histogram.getPercentileNanos(90) / 1_000_000d).append("ms")
+                    .append(" max=").append(histogram.maxNanos / 1_000_000d).append("ms")
+                    .append('\n');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,208 @@
+package com.reactnativenavigation.profiling;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.reactnativenavigation.utils.Now;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * In process registry of navigation metrics. Recording is lock free and does nothing while metrics are disabled, which
+ * is the default. Collected metrics are handed to the registered {@link MetricsSink}s each time they are reported,
+ * either on demand or periodically.
+ *
+ * Durations are recorded with a start token returned by {@link #startTimer()}:
+ * <pre>
+ *     long start = NavigationMetrics.getInstance().startTimer();
+ *     ...
+ *     NavigationMetrics.getInstance().recordSince(NavigationMetrics.StackPush, start);
+ * </pre>
+ */
+public class NavigationMetrics {
+    public static final String CommandLatency = "commandLatency";
+    public static final String TimeToFirstRender = "timeToFirstRender";
+    public static final String LayoutCreate = "layoutCreate";
+    public static final String OptionsMerge = "optionsMerge";
+    public static final String StackPush = "stackPush";
+    public static final String StackPop = "stackPop";
+    public static final String ShowModal = "showModal";
+    public static final String DismissModal = "dismissModal";
+    public static final String TransitionReadinessWait = "transitionReadinessWait";
+
+    public static final String ControllersCreated = "controllersCreated";
+    public static final String ControllersDestroyed = "controllersDestroyed";
+    public static final String LiveReactRoots = "liveReactRoots";
+    public static final String TransitionsCancelled = "transitionsCancelled";
+    public static final String TransitionsAbandoned = "transitionsAbandoned";
+    public static final String TransitionsReversed = "transitionsReversed";
+    public static final String TransitionReadinessTimeouts = "transitionReadinessTimeouts";
+    public static final String ElementsNotReady = "elementsNotReady";
+
+    private static final Set<String> Gauges = Collections.singleton(LiveReactRoots);
+    private static final NavigationMetrics instance = new NavigationMetrics(new Now());
+
+    private final Now now;
+    private final ConcurrentMap<String, Histogram> histograms = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, AtomicLong> counters = new ConcurrentHashMap<>();
+    private final List<MetricsSink> sinks = new CopyOnWriteArrayList<>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable periodicReport = new Runnable() {
+        @Override
+        public void run() {
+            report();
+            if (reportingIntervalMs > 0) handler.postDelayed(this, reportingIntervalMs);
+        }
+    };
+    private volatile boolean enabled;
+    private volatile boolean enabledBeforeReporting;
+    private volatile long reportingIntervalMs;
+
+    public static NavigationMetrics getInstance() {
+        return instance;
+    }
+
+    @VisibleForTesting
+    NavigationMetrics(Now now) {
+        this.now = now;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        enabledBeforeReporting = enabled;
+    }
+
+    /**
+     * @return a start token to pass to {@link #recordSince(String, long)}, or 0 when metrics are disabled.
+     */
+    public long startTimer() {
+        return enabled ? now.nanoTime() : 0;
+    }
+
+    public void recordSince(String histogram, long startToken) {
+        if (startToken == 0 || !enabled) return;
+        recordNanos(histogram, now.nanoTime() - startToken);
+    }
+
+    public void recordNanos(String histogram, long nanos) {
+        if (!enabled) return;
+        getHistogram(histogram).recordNanos(nanos);
+    }
+
+    public void increment(String counter) {
+        if (enabled) getCounter(counter).incrementAndGet();
+    }
+
+    /**
+     * Decrements are applied even while metrics are disabled, so a gauge incremented while enabled is always balanced.
+     */
+    public void decrement(String counter) {
+        AtomicLong value = counters.get(counter);
+        if (value != null) value.decrementAndGet();
+    }
+
+    /**
+     * Records the latency of a completed command, both across all commands and per command name.
+     */
+    public void onCommandCompleted(CommandTrace trace) {
+        if (!enabled) return;
+        long latency = trace.getDurationNanos(CommandTrace.Phase.Received, CommandTrace.Phase.PromiseResolved);
+        recordNanos(CommandLatency, latency);
+        recordNanos(CommandLatency + "." + trace.getCommandName(), latency);
+    }
+
+    public void onFirstRender(CommandTrace trace) {
+        recordNanos(TimeToFirstRender, trace.getDurationNanos(CommandTrace.Phase.Received, CommandTrace.Phase.FirstRender));
+    }
+
+    public void addSink(MetricsSink sink) {
+        sinks.add(sink);
+    }
+
+    public void removeSink(MetricsSink sink) {
+        sinks.remove(sink);
+    }
+
+    /**
+     * Reports the current metrics to all sinks every {@code intervalMs} on the main thread. Metrics are enabled while
+     * reporting; {@link #stopPeriodicReporting()} restores the state they were in before reporting started.
+     */
+    public synchronized void startPeriodicReporting(long intervalMs) {
+        if (intervalMs <= 0) throw new IllegalArgumentException("Reporting interval must be positive: " + intervalMs);
+        if (reportingIntervalMs == 0) enabledBeforeReporting = enabled;
+        enabled = true;
+        handler.removeCallbacks(periodicReport);
+        reportingIntervalMs = intervalMs;
+        handler.postDelayed(periodicReport, intervalMs);
+    }
+
+    public synchronized void stopPeriodicReporting() {
+        handler.removeCallbacks(periodicReport);
+        if (reportingIntervalMs == 0) return;
+        reportingIntervalMs = 0;
+        enabled = enabledBeforeReporting;
+    }
+
+    public void report() {
+        if (sinks.isEmpty()) return;
+        MetricsSnapshot snapshot = snapshot();
+        for (MetricsSink sink : sinks) {
+            sink.onReport(snapshot);
+        }
+    }
+
+    @NonNull
+    public MetricsSnapshot snapshot() {
+        Map<String, Long> counterValues = new LinkedHashMap<>();
+        for (Map.Entry<String, AtomicLong> counter : counters.entrySet()) {
+            counterValues.put(counter.getKey(), counter.getValue().get());
+        }
+        Map<String, Histogram.Snapshot> histogramValues = new LinkedHashMap<>();
+        for (Map.Entry<String, Histogram> histogram : histograms.entrySet()) {
+            histogramValues.put(histogram.getKey(), histogram.getValue().snapshot());
+        }
+        return new MetricsSnapshot(counterValues, histogramValues);
+    }
+
+    /**
+     * Clears recorded values. Gauges such as {@link #LiveReactRoots} describe current state rather than recorded
+     * events, so they are left as they are.
+     */
+    public void reset() {
+        for (Histogram histogram : histograms.values()) histogram.reset();
+        for (Map.Entry<String, AtomicLong> counter : counters.entrySet()) {
+            if (!Gauges.contains(counter.getKey())) counter.getValue().set(0);
+        }
+    }
+
+    private Histogram getHistogram(String name) {
+        Histogram histogram = histograms.get(name);
+        if (histogram != null) return histogram;
+        Histogram created = new Histogram(name);
+        Histogram existing = histograms.putIfAbsent(name, created);
+        return existing == null ? created : existing;
+    }
+
+    private AtomicLong getCounter(String name) {
+        AtomicLong counter = counters.get(name);
+        if (counter != null) return counter;
+        AtomicLong created = new AtomicLong();
+        AtomicLong existing = counters.putIfAbsent(name, created);
+        return existing == null ? created : existing;
+    }
+}
@@ -0,0 +1,73 @@
+package com.reactnativenavigation.profiling;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A navigation command as it was received from JS, recorded by {@link CommandRecorder}.
+ */
+public class RecordedCommand {
+    public final String method;
+    @Nullable public final String commandId;
+    @Nullable public final String componentId;
+    /**
+     * The command's layout or options argument serialized as JSON, or null if the command has none.
+     */
+    @Nullable public final String arguments;
+    /**
+     * Time the command was received, in nanoseconds since the recording started.
+     */
+    public final long timestampNanos;
+
+    public RecordedCommand(String method, @Nullable String commandId, @Nullable String componentId, @Nullable String arguments, long timestampNanos) {
+        this.method = method;
+        this.commandId = commandId;
+        this.componentId = componentId;
+        this.arguments = arguments;
+        this.timestampNanos = timestampNanos;
+    }
+
+    @Nullable
+    public JSONObject getArgumentsObject() throws JSONException {
+        return arguments == null ? null : new JSONObject(arguments);
+    }
+
+    @Nullable
+    public JSONArray getArgumentsArray() throws JSONException {
+        return arguments == null ? null : new JSONArray(arguments);
+    }
+
+    public JSONObject toJson() throws JSONException {
+        return new JSONObject()
+                .put("method", method)
+                .put("commandId", commandId)
+                .put("componentId", componentId)
+                .put("arguments", arguments)
+                .put("timestampNanos", timestampNanos);
+    }
+
+    public static RecordedCommand fromJson(JSONObject json) {
+        return new RecordedCommand(
+                json.optString("method"),
+                optString(json, "commandId"),
+                optString(json, "componentId"),
+                optString(json, "arguments"),
+                json.optLong("timestampNanos")
+        );
+    }
+
+    @Nullable
+    private static String optString(JSONObject json, String key) {
+        return json.isNull(key) ? null : json.optString(key);
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return method + "(" + componentId + ") @" + timestampNanos;
+    }
+}
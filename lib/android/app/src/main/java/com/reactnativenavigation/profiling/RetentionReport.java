@@ -0,0 +1,92 @@
+package com.reactnativenavigation.profiling;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Instances tracked by {@link RetentionTracker} which were still reachable when the report was collected, and the
+ * entries holders kept for destroyed instances.
+ */
+public class RetentionReport {
+    public static class Leak {
+        public final String type;
+        public final Throwable creationStack;
+        public final Throwable destroyStack;
+        /**
+         * Number of views, including the root, in the view tree retained by the leaked instance.
+         */
+        public final int retainedViews;
+
+        Leak(String type, Throwable creationStack, Throwable destroyStack, int retainedViews) {
+            this.type = type;
+            this.creationStack = creationStack;
+            this.destroyStack = destroyStack;
+            this.retainedViews = retainedViews;
+        }
+    }
+
+    /**
+     * Number of reachable instances per type, destroyed or not.
+     */
+    public final Map<String, Integer> liveCounts;
+    /**
+     * Instances which were destroyed but are still reachable.
+     */
+    public final List<Leak> leaks;
+    /**
+     * Number of entries referencing destroyed instances or their views, per holder field, e.g.
+     * {@code StackPresenter.titleControllers}.
+     */
+    public final Map<String, Integer> staleEntries;
+
+    RetentionReport(Map<String, Integer> liveCounts, List<Leak> leaks, Map<String, Integer> staleEntries) {
+        this.liveCounts = Collections.unmodifiableMap(liveCounts);
+        this.leaks = Collections.unmodifiableList(leaks);
+        this.staleEntries = Collections.unmodifiableMap(staleEntries);
+    }
+
+    public int getLiveCount(String type) {
+        Integer count = liveCounts.get(type);
+        return count == null ? 0 : count;
+    }
+
+    public int getRetainedViewCount() {
+        int result = 0;
+        for (Leak leak : leaks) result += leak.retainedViews;
+        return result;
+    }
+
+    public int getStaleEntryCount(String holderField) {
+        Integer count = staleEntries.get(holderField);
+        return count == null ? 0 : count;
+    }
+
+    public boolean hasLeaks() {
+        return !leaks.isEmpty() || !staleEntries.isEmpty();
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("live=").append(liveCounts)
+                .append(" leaks=").append(leaks.size())
+                .append(" retainedViews=").append(getRetainedViewCount())
+                .append(" staleEntries=").append(staleEntries);
+        for (Leak leak : leaks) {
+            sb.append("\n").append(leak.type).append(" retaining ").append(leak.retainedViews).append(" views");
+            appendStack(sb, "created", leak.creationStack);
+            appendStack(sb, "destroyed", leak.destroyStack);
+        }
+        return sb.toString();
+    }
+
+    private static void appendStack(StringBuilder sb, String title, Throwable stack) {
+        sb.append("\n  ").append(title).append(':');
+        for (StackTraceElement element : stack.getStackTrace()) {
+            sb.append("\n    at ").append(element);
+        }
+    }
+}
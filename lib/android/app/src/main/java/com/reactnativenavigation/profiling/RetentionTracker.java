@@ -0,0 +1,296 @@
+package com.reactnativenavigation.profiling;
+
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Debug mode which tracks ViewControllers and React root views with weak references, along with the stacks which
+ * created and destroyed them. Instances which are still reachable after they were destroyed, and after a garbage
+ * collection, are reported as leaks together with the number of views they retain. {@link Holder}s such as
+ * ChildControllersRegistry and StackPresenter are inspected as well, and entries they keep for destroyed instances are
+ * reported as stale, whether or not those instances are otherwise reachable.
+ *
+ * Reports are collected on demand with {@link #collect()}, and handed to listeners a few seconds after each command
+ * completes. Entries of instances which were garbage collected are dropped as new instances are tracked, so tracking
+ * doesn't grow while no report is collected. In tests, {@link #assertNoLeaks()} fails with the creation and destroy stacks of the
+ * leaked instances.
+ */
+public class RetentionTracker {
+    public interface Listener {
+        void onReport(RetentionReport report);
+    }
+
+    /**
+     * Keeps references to controllers or their views, e.g. a registry or a map keyed by child view.
+     */
+    public interface Holder {
+        /**
+         * @return the objects currently referenced, keys and values alike, by the name of the field referencing them.
+         */
+        Map<String, Collection<?>> getHeldObjects();
+    }
+
+    private static final String TAG = "RNN.RetentionTracker";
+    private static final long DEFAULT_CHECK_DELAY_MS = 5000;
+    private static final RetentionTracker instance = new RetentionTracker();
+
+    private final Set<Entry> entries = new LinkedHashSet<>();
+    private final ReferenceQueue<Object> collected = new ReferenceQueue<>();
+    private final List<WeakReference<Holder>> holders = new ArrayList<>();
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+    private final Runnable check = this::checkForLeaks;
+    private volatile boolean enabled;
+    private long checkDelayMs = DEFAULT_CHECK_DELAY_MS;
+
+    public static RetentionTracker getInstance() {
+        return instance;
+    }
+
+    @VisibleForTesting
+    RetentionTracker() {
+
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * How long to wait after a command completes before checking for leaks, giving destroyed instances time to become
+     * unreachable.
+     */
+    public void setCheckDelay(long checkDelayMs) {
+        this.checkDelayMs = checkDelayMs;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    public void onCreated(Object instance) {
+        if (!enabled) return;
+        synchronized (entries) {
+            pruneCollected();
+            entries.add(new Entry(instance, collected));
+        }
+    }
+
+    public void onHolderCreated(Holder holder) {
+        if (!enabled) return;
+        synchronized (holders) {
+            Iterator<WeakReference<Holder>> iterator = holders.iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().get() == null) iterator.remove();
+            }
+            holders.add(new WeakReference<>(holder));
+        }
+    }
+
+    /**
+     * @param view the view owned by the destroyed instance, used to estimate how many views a leak retains.
+     */
+    public void onDestroyed(Object instance, @Nullable View view) {
+        if (!enabled) return;
+        synchronized (entries) {
+            pruneCollected();
+            for (Entry entry : entries) {
+                if (entry.get() == instance) {
+                    entry.onDestroyed(view);
+                    return;
+                }
+            }
+        }
+    }
+
+    public void onCommandCompleted() {
+        if (!enabled) return;
+        synchronized (entries) {
+            pruneCollected();
+        }
+        if (listeners.isEmpty()) return;
+        handler.removeCallbacks(check);
+        handler.postDelayed(check, checkDelayMs);
+    }
+
+    /**
+     * Runs the garbage collector and reports the tracked instances which are still reachable, along with the entries
+     * holders keep for destroyed instances.
+     */
+    public RetentionReport collect() {
+        Runtime.getRuntime().gc();
+        System.runFinalization();
+        Runtime.getRuntime().gc();
+        Map<String, Integer> liveCounts = new TreeMap<>();
+        List<RetentionReport.Leak> leaks = new ArrayList<>();
+        Map<Object, Entry> destroyed = new IdentityHashMap<>();
+        synchronized (entries) {
+            Iterator<Entry> iterator = entries.iterator();
+            while (iterator.hasNext()) {
+                Entry entry = iterator.next();
+                if (entry.get() == null) {
+                    iterator.remove();
+                    continue;
+                }
+                Integer count = liveCounts.get(entry.type);
+                liveCounts.put(entry.type, count == null ? 1 : count + 1);
+                if (entry.destroyStack != null) {
+                    leaks.add(new RetentionReport.Leak(entry.type, entry.creationStack, entry.destroyStack, entry.countRetainedViews()));
+                    entry.addDestroyedObjects(destroyed);
+                }
+            }
+        }
+        return new RetentionReport(liveCounts, leaks, countStaleEntries(destroyed));
+    }
+
+    private Map<String, Integer> countStaleEntries(Map<Object, Entry> destroyed) {
+        Map<String, Integer> result = new TreeMap<>();
+        if (destroyed.isEmpty()) return result;
+        synchronized (holders) {
+            Iterator<WeakReference<Holder>> iterator = holders.iterator();
+            while (iterator.hasNext()) {
+                Holder holder = iterator.next().get();
+                if (holder == null) {
+                    iterator.remove();
+                    continue;
+                }
+                for (Map.Entry<String, Collection<?>> held : holder.getHeldObjects().entrySet()) {
+                    int stale = 0;
+                    for (Object object : held.getValue()) {
+                        if (destroyed.containsKey(object)) stale++;
+                    }
+                    if (stale == 0) continue;
+                    String name = holder.getClass().getSimpleName() + "." + held.getKey();
+                    Integer count = result.get(name);
+                    result.put(name, count == null ? stale : count + stale);
+                }
+            }
+        }
+        return result;
+    }
+
+    @VisibleForTesting
+    int getTrackedCount() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * Clears the reference to the given instance as if it was garbage collected.
+     */
+    @VisibleForTesting
+    void simulateCollection(Object instance) {
+        synchronized (entries) {
+            for (Entry entry : entries) {
+                if (entry.get() == instance) {
+                    entry.clear();
+                    entry.enqueue();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void pruneCollected() {
+        Reference<?> reference;
+        while ((reference = collected.poll()) != null) {
+            entries.remove(reference);
+        }
+    }
+
+    public void assertNoLeaks() {
+        RetentionReport report = collect();
+        if (report.hasLeaks()) throw new AssertionError("Destroyed instances are still reachable: " + report);
+    }
+
+    public void clear() {
+        handler.removeCallbacks(check);
+        synchronized (entries) {
+            entries.clear();
+            pruneCollected();
+        }
+        synchronized (holders) {
+            holders.clear();
+        }
+    }
+
+    private void checkForLeaks() {
+        RetentionReport report = collect();
+        if (report.hasLeaks()) Log.w(TAG, report.toString());
+        for (Listener listener : listeners) {
+            listener.onReport(report);
+        }
+    }
+
+    private static int countViews(View view) {
+        int result = 1;
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0; i < group.getChildCount(); i++) {
+                result += countViews(group.getChildAt(i));
+            }
+        }
+        return result;
+    }
+
+    private static class Entry extends WeakReference<Object> {
+        final String type;
+        final Throwable creationStack = new Throwable("created");
+        @Nullable Throwable destroyStack;
+        @Nullable WeakReference<View> view;
+
+        Entry(Object instance, ReferenceQueue<Object> queue) {
+            super(instance, queue);
+            String simpleName = instance.getClass().getSimpleName();
+            this.type = simpleName.isEmpty() ? instance.getClass().getName() : simpleName;
+        }
+
+        void onDestroyed(@Nullable View view) {
+            destroyStack = new Throwable("destroyed");
+            if (view != null) this.view = new WeakReference<>(view);
+        }
+
+        void addDestroyedObjects(Map<Object, Entry> destroyed) {
+            Object leaked = get();
+            if (leaked != null) destroyed.put(leaked, this);
+            View retained = view == null ? null : view.get();
+            if (retained != null) destroyed.put(retained, this);
+        }
+
+        int countRetainedViews() {
+            Object leaked = get();
+            if (leaked instanceof View) return countViews((View) leaked);
+            View retained = view == null ? null : view.get();
+            return retained == null ? 0 : countViews(retained);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.reactnativenavigation.profiling;
+
+import androidx.core.os.TraceCompat;
+
+/**
+ * Emits sections to the system trace so they show up in Perfetto and Systrace captures.
+ */
+public class SystemTracer implements Tracer {
+    /**
+     * System trace section names are truncated by the platform after this many characters.
+     */
+    private static final int MAX_SECTION_NAME_LENGTH = 127;
+
+    @Override
+    public void beginSection(String name) {
+        TraceCompat.beginSection(truncate(name));
+    }
+
+    @Override
+    public void endSection() {
+        TraceCompat.endSection();
+    }
+
+    @Override
+    public void beginAsyncSection(String name, int cookie) {
+        TraceCompat.beginAsyncSection(truncate(name), cookie);
+    }
+
+    @Override
+    public void endAsyncSection(String name, int cookie) {
+        TraceCompat.endAsyncSection(truncate(name), cookie);
+    }
+
+    private static String truncate(String name) {
+        return name.length() <= MAX_SECTION_NAME_LENGTH ? name : name.substring(0, MAX_SECTION_NAME_LENGTH);
+    }
+}
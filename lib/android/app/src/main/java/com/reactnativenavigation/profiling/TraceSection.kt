@@ -0,0 +1,13 @@
+package com.reactnativenavigation.profiling
+
+/**
+ * Runs [block] inside a [Tracing] section.
+ */
+inline fun <T> traceSection(name: String, block: () -> T): T {
+    Tracing.beginSection(name)
+    try {
+        return block()
+    } finally {
+        Tracing.endSection()
+    }
+}
@@ -0,0 +1,15 @@
+package com.reactnativenavigation.profiling;
+
+/**
+ * Backend of {@link Tracing}. Synchronous sections nest and must be ended on the thread which began them, async
+ * sections are identified by their name and cookie and may end on any thread.
+ */
+public interface Tracer {
+    void beginSection(String name);
+
+    void endSection();
+
+    void beginAsyncSection(String name, int cookie);
+
+    void endAsyncSection(String name, int cookie);
+}
@@ -0,0 +1,74 @@
+package com.reactnativenavigation.profiling;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Trace sections around the navigation hot paths. Tracing is off unless a {@link Tracer} is installed, in which case
+ * each call costs a single volatile read. Sections should be ended in a finally block:
+ * <pre>
+ *     Tracing.beginSection("RNN.LayoutFactory.create");
+ *     try {
+ *         ...
+ *     } finally {
+ *         Tracing.endSection();
+ *     }
+ * </pre>
+ * The tracer should be installed before navigation starts, a section which began without a tracer won't be ended by one.
+ */
+public final class Tracing {
+    private static final AtomicInteger nextCookie = new AtomicInteger(1);
+    @Nullable private static volatile Tracer tracer;
+
+    private Tracing() {
+
+    }
+
+    public static void setTracer(@Nullable Tracer tracer) {
+        Tracing.tracer = tracer;
+    }
+
+    @Nullable
+    public static Tracer getTracer() {
+        return tracer;
+    }
+
+    public static boolean isEnabled() {
+        return tracer != null;
+    }
+
+    public static void beginSection(String name) {
+        Tracer t = tracer;
+        if (t != null) t.beginSection(name);
+    }
+
+    /**
+     * Begins a section named {@code prefix + name}. The name is only built while tracing is enabled.
+     */
+    public static void beginSection(String prefix, String name) {
+        Tracer t = tracer;
+        if (t != null) t.beginSection(prefix + name);
+    }
+
+    public static void endSection() {
+        Tracer t = tracer;
+        if (t != null) t.endSection();
+    }
+
+    /**
+     * @return the cookie to end the section with, or 0 if tracing is disabled.
+     */
+    public static int beginAsyncSection(String name) {
+        Tracer t = tracer;
+        if (t == null) return 0;
+        int cookie = nextCookie.getAndIncrement();
+        t.beginAsyncSection(name, cookie);
+        return cookie;
+    }
+
+    public static void endAsyncSection(String name, int cookie) {
+        Tracer t = tracer;
+        if (t != null && cookie != 0) t.endAsyncSection(name, cookie);
+    }
+}
@@ -0,0 +1,54 @@
+package com.reactnativenavigation.profiling;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * Frames rendered while a navigation transition was running.
+ */
+public class TransitionFrameStats {
+    public enum TransitionType {
+        Push("push"),
+        Pop("pop"),
+        SetStackRoot("setStackRoot"),
+        SetRoot("setRoot"),
+        ShowModal("showModal"),
+        DismissModal("dismissModal");
+
+        public final String jsName;
+
+        TransitionType(String jsName) {
+            this.jsName = jsName;
+        }
+    }
+
+    public final TransitionType type;
+    @Nullable public final String componentName;
+    public final boolean hasSharedElements;
+    public final boolean cancelled;
+    public final int frameCount;
+    public final int droppedFrames;
+    public final long longestFrameNanos;
+    public final long durationNanos;
+
+    TransitionFrameStats(TransitionType type, @Nullable String componentName, boolean hasSharedElements, boolean cancelled, int frameCount, int droppedFrames, long longestFrameNanos, long durationNanos) {
+        this.type = type;
+        this.componentName = componentName;
+        this.hasSharedElements = hasSharedElements;
+        this.cancelled = cancelled;
+        this.frameCount = frameCount;
+        this.droppedFrames = droppedFrames;
+        this.longestFrameNanos = longestFrameNanos;
+        this.durationNanos = durationNanos;
+    }
+
+    @NonNull
+    @Override
+    public String toString() {
+        return type.jsName + (hasSharedElements ? " (shared elements) " : " ") + componentName +
+               " frames=" + frameCount +
+               " dropped=" + droppedFrames +
+               " longest=" + longestFrameNanos / 1_000_000d + "ms" +
+               (cancelled ? " cancelled" : "");
+    }
+}
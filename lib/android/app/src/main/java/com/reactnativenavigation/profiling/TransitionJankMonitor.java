@@ -0,0 +1,151 @@
+package com.reactnativenavigation.profiling;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.view.Choreographer;
+import android.view.Display;
+import android.view.View;
+
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Opt-in monitor which counts the frames rendered while a navigation transition runs. A frame callback is registered
+ * when the transition's animator starts and removed when it ends or is cancelled, at which point the collected
+ * {@link TransitionFrameStats} are handed to the registered listeners.
+ */
+public class TransitionJankMonitor {
+    public interface Listener {
+        void onTransitionFinished(TransitionFrameStats stats);
+    }
+
+    private static final float DEFAULT_REFRESH_RATE = 60f;
+    private static final TransitionJankMonitor instance = new TransitionJankMonitor();
+
+    private final List<Listener> listeners = new CopyOnWriteArrayList<>();
+    private volatile boolean enabled;
+    private volatile boolean jsListening;
+
+    public static TransitionJankMonitor getInstance() {
+        return instance;
+    }
+
+    @VisibleForTesting
+    TransitionJankMonitor() {
+
+    }
+
+    public boolean isEnabled() {
+        return enabled || jsListening;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Enables the monitor while JS has transition frame stats listeners. Monitoring enabled with
+     * {@link #setEnabled(boolean)} stays on after JS stops listening.
+     */
+    public void setJsListening(boolean listening) {
+        jsListening = listening;
+    }
+
+    public void addListener(Listener listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Listener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Counts the frames rendered while the given transition animator runs. Does nothing while the monitor is disabled.
+     *
+     * @param view a view taking part in the transition, used to resolve the display's refresh rate
+     */
+    public void monitor(Animator transition, TransitionType type, @Nullable String componentName, boolean hasSharedElements, View view) {
+        if (!isEnabled()) return;
+        transition.addListener(new AnimatorListenerAdapter() {
+            @Nullable private FrameCounter counter;
+
+            @Override
+            public void onAnimationStart(Animator animation) {
+                if (counter != null) return;
+                counter = new FrameCounter(getFrameIntervalNanos(view));
+                Choreographer.getInstance().postFrameCallback(counter);
+            }
+
+            @Override
+            public void onAnimationCancel(Animator animation) {
+                if (counter != null) counter.cancelled = true;
+            }
+
+            @Override
+            public void onAnimationEnd(Animator animation) {
+                if (counter == null) return;
+                Choreographer.getInstance().removeFrameCallback(counter);
+                report(counter.toStats(type, componentName, hasSharedElements));
+                counter = null;
+            }
+        });
+    }
+
+    private void report(TransitionFrameStats stats) {
+        for (Listener listener : listeners) {
+            listener.onTransitionFinished(stats);
+        }
+    }
+
+    private static long getFrameIntervalNanos(View view) {
+        Display display = view.getDisplay();
+        float refreshRate = display == null ? DEFAULT_REFRESH_RATE : display.getRefreshRate();
+        if (refreshRate < 1) refreshRate = DEFAULT_REFRESH_RATE;
+        return (long) (1_000_000_000L / refreshRate);
+    }
+
+    @VisibleForTesting
+    static class FrameCounter implements Choreographer.FrameCallback {
+        private final long frameIntervalNanos;
+        private long firstFrameTimeNanos = -1;
+        private long lastFrameTimeNanos;
+        private int frameCount;
+        private int droppedFrames;
+        private long longestFrameNanos;
+        boolean cancelled;
+
+        FrameCounter(long frameIntervalNanos) {
+            this.frameIntervalNanos = frameIntervalNanos;
+        }
+
+        @Override
+        public void doFrame(long frameTimeNanos) {
+            onFrame(frameTimeNanos);
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+
+        void onFrame(long frameTimeNanos) {
+            if (firstFrameTimeNanos < 0) {
+                firstFrameTimeNanos = frameTimeNanos;
+            } else {
+                long frameNanos = frameTimeNanos - lastFrameTimeNanos;
+                longestFrameNanos = Math.max(longestFrameNanos, frameNanos);
+                // A frame which spans three vsync intervals dropped two frames
+                long missedVsyncs = (frameNanos + frameIntervalNanos / 2) / frameIntervalNanos - 1;
+                if (missedVsyncs > 0) droppedFrames += missedVsyncs;
+            }
+            lastFrameTimeNanos = frameTimeNanos;
+            frameCount++;
+        }
+
+        TransitionFrameStats toStats(TransitionType type, @Nullable String componentName, boolean hasSharedElements) {
+            long duration = frameCount == 0 ? 0 : lastFrameTimeNanos - firstFrameTimeNanos;
+            return new TransitionFrameStats(type, componentName, hasSharedElements, cancelled, frameCount, droppedFrames, longestFrameNanos, duration);
+        }
+    }
+}
@@ -1,8 +1,12 @@
 package com.reactnativenavigation.react;
 
 import com.facebook.react.bridge.Promise;
+import com.reactnativenavigation.profiling.CommandTrace;
+import com.reactnativenavigation.profiling.NavigationMetrics;
+import com.reactnativenavigation.profiling.RetentionTracker;
 import com.reactnativenavigation.react.events.EventEmitter;
 import com.reactnativenavigation.utils.Now;
+import com.reactnativenavigation.utils.UiThread;
 
 import androidx.annotation.Nullable;
 
@@ -12,23 +16,36 @@ public class NativeCommandListener extends CommandListenerAdapter {
     @Nullable private Promise promise;
     private EventEmitter eventEmitter;
     private Now now;
+    private CommandTrace trace;
 
     public NativeCommandListener(String commandName, String commandId, @Nullable Promise promise, EventEmitter eventEmitter, Now now) {
+        this(commandName, commandId, promise, eventEmitter, now, new CommandTrace(commandName, commandId, now));
+    }
+
+    public NativeCommandListener(String commandName, String commandId, @Nullable Promise promise, EventEmitter eventEmitter, Now now, CommandTrace trace) {
         this.commandName = commandName;
         this.commandId = commandId;
         this.promise = promise;
         this.eventEmitter = eventEmitter;
         this.now = now;
+        this.trace = trace;
     }
 
     @Override
     public void onSuccess(String childId) {
         if (promise != null) promise.resolve(childId);
+        trace.mark(CommandTrace.Phase.PromiseResolved);
+        NavigationMetrics.getInstance().onCommandCompleted(trace);
+        trace.finish();
+        RetentionTracker.getInstance().onCommandCompleted();
         eventEmitter.emitCommandCompleted(commandName, commandId, now.now());
+        // Commands can complete synchronously, before the command finished observing its views
+        if (eventEmitter.shouldEmitCommandTrace()) UiThread.post(() -> eventEmitter.emitCommandTrace(trace));
     }
 
     @Override
     public void onError(String message) {
         if (promise != null) promise.reject(new Throwable(message));
+        trace.finish();
     }
 }
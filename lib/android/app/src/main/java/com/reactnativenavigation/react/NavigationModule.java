@@ -20,7 +20,15 @@ import com.reactnativenavigation.options.Options;
 import com.reactnativenavigation.options.parsers.JSONParser;
 import com.reactnativenavigation.options.parsers.LayoutNodeParser;
 import com.reactnativenavigation.options.parsers.TypefaceLoader;
+import com.reactnativenavigation.profiling.CommandRecorder;
+import com.reactnativenavigation.profiling.CommandTrace;
+import com.reactnativenavigation.profiling.CommandWatchdog;
+import com.reactnativenavigation.profiling.MetricsSink;
+import com.reactnativenavigation.profiling.NavigationMetrics;
+import com.reactnativenavigation.profiling.Tracing;
+import com.reactnativenavigation.profiling.TransitionJankMonitor;
 import com.reactnativenavigation.react.events.EventEmitter;
+import com.reactnativenavigation.react.events.EventSubscriptions;
 import com.reactnativenavigation.utils.LaunchArgsParser;
 import com.reactnativenavigation.utils.Now;
 import com.reactnativenavigation.utils.SystemUiUtils;
@@ -29,7 +37,11 @@ import com.reactnativenavigation.utils.UiUtils;
 import com.reactnativenavigation.viewcontrollers.navigator.Navigator;
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController;
 
+import org.json.JSONObject;
+
+import java.io.File;
 import java.util.ArrayList;
+import java.util.Map;
 import java.util.Objects;
 
 import static com.reactnativenavigation.utils.UiUtils.pxToDp;
@@ -40,10 +52,17 @@ public class NavigationModule extends ReactContextBaseJavaModule {
     private static final String NAME = "RNNBridgeModule";
 
     private final Now now = new Now();
+    private final CommandRecorder recorder = CommandRecorder.getInstance();
     private final ReactInstanceManager reactInstanceManager;
     private final JSONParser jsonParser;
     private final LayoutFactory layoutFactory;
     private EventEmitter eventEmitter;
+    private final MetricsSink metricsSink = snapshot -> {
+        if (eventEmitter != null) eventEmitter.emitNavigationMetrics(snapshot);
+    };
+    private final TransitionJankMonitor.Listener transitionFrameStatsListener = stats -> {
+        if (eventEmitter != null) eventEmitter.emitTransitionFrameStats(stats);
+    };
 
     @SuppressWarnings("WeakerAccess")
     public NavigationModule(ReactApplicationContext reactContext, ReactInstanceManager reactInstanceManager, LayoutFactory layoutFactory) {
@@ -55,10 +74,16 @@ public class NavigationModule extends ReactContextBaseJavaModule {
         this.reactInstanceManager = reactInstanceManager;
         this.jsonParser = jsonParser;
         this.layoutFactory = layoutFactory;
+        EventSubscriptions.getInstance().reset();
+        NavigationMetrics.getInstance().stopPeriodicReporting();
+        NavigationMetrics.getInstance().addSink(metricsSink);
+        TransitionJankMonitor.getInstance().setJsListening(false);
+        TransitionJankMonitor.getInstance().addListener(transitionFrameStatsListener);
         reactContext.addLifecycleEventListener(new LifecycleEventListenerAdapter() {
             @Override
             public void onHostPause() {
                 super.onHostPause();
+                writeCommandRecording();
                 UiUtils.runOnMainThread(() -> {
                     if (activity() != null) navigator().onHostPause();
                 });
@@ -111,18 +136,73 @@ public class NavigationModule extends ReactContextBaseJavaModule {
         return createNavigationConstantsMap();
     }
 
+    @ReactMethod
+    public void setEventFilteringEnabled(boolean enabled) {
+        EventSubscriptions.getInstance().setFilteringEnabled(enabled);
+    }
+
+    @ReactMethod
+    public void addEventListener(String eventName) {
+        EventSubscriptions.getInstance().addEventListener(eventName);
+    }
+
+    @ReactMethod
+    public void removeEventListener(String eventName) {
+        EventSubscriptions.getInstance().removeEventListener(eventName);
+    }
+
+    @ReactMethod
+    public void setNavigationMetricsReportingInterval(double intervalMs) {
+        if (intervalMs > 0) {
+            NavigationMetrics.getInstance().startPeriodicReporting((long) intervalMs);
+        } else {
+            NavigationMetrics.getInstance().stopPeriodicReporting();
+        }
+    }
+
+    @ReactMethod
+    public void setTransitionJankMonitorEnabled(boolean enabled) {
+        TransitionJankMonitor.getInstance().setJsListening(enabled);
+    }
+
+    @ReactMethod
+    public void addComponentEventListener(String componentId) {
+        EventSubscriptions.getInstance().addComponentListener(componentId);
+    }
+
+    @ReactMethod
+    public void removeComponentEventListener(String componentId) {
+        EventSubscriptions.getInstance().removeComponentListener(componentId);
+    }
+
+    @ReactMethod
+    public void getSuppressedEventCounts(Promise promise) {
+        WritableMap counts = Arguments.createMap();
+        for (Map.Entry<String, Long> entry : EventSubscriptions.getInstance().getSuppressedCounts().entrySet()) {
+            counts.putDouble(entry.getKey(), entry.getValue());
+        }
+        promise.resolve(counts);
+    }
+
     @ReactMethod
     public void setRoot(String commandId, ReadableMap rawLayoutTree, Promise promise) {
-        final LayoutNode layoutTree = LayoutNodeParser.parse(Objects.requireNonNull(jsonParser.parse(rawLayoutTree).optJSONObject("root")));
-        handle(() -> {
+        final CommandTrace trace = new CommandTrace("setRoot", commandId, now);
+        final JSONObject json = jsonParser.parse(rawLayoutTree);
+        record("setRoot", commandId, null, json);
+        final LayoutNode layoutTree = LayoutNodeParser.parse(Objects.requireNonNull(json.optJSONObject("root")));
+        trace.mark(CommandTrace.Phase.Parsed);
+        handle(trace, layoutTree.id, () -> {
             final ViewController<?> viewController = layoutFactory.create(layoutTree);
-            navigator().setRoot(viewController, new NativeCommandListener("setRoot", commandId, promise, eventEmitter, now), reactInstanceManager);
+            trace.mark(CommandTrace.Phase.ControllersCreated);
+            navigator().setRoot(viewController, createListener(trace, promise), reactInstanceManager);
+            trace.observe(viewController);
         });
     }
 
     @ReactMethod
     public void setDefaultOptions(ReadableMap options) {
-        handle(() -> {
+        record("setDefaultOptions", null, null, options);
+        handle("setDefaultOptions", null, () -> {
             Options defaultOptions = parse(options);
             layoutFactory.setDefaultOptions(defaultOptions);
             navigator().setDefaultOptions(defaultOptions);
@@ -131,100 +211,191 @@ public class NavigationModule extends ReactContextBaseJavaModule {
 
     @ReactMethod
     public void mergeOptions(String onComponentId, @Nullable ReadableMap options) {
-        handle(() -> navigator().mergeOptions(onComponentId, parse(options)));
+        record("mergeOptions", null, onComponentId, options);
+        handle("mergeOptions", onComponentId, () -> navigator().mergeOptions(onComponentId, parse(options)));
     }
 
     @ReactMethod
     public void push(String commandId, String onComponentId, ReadableMap rawLayoutTree, Promise promise) {
-        final LayoutNode layoutTree = LayoutNodeParser.parse(jsonParser.parse(rawLayoutTree));
-        handle(() -> {
+        final CommandTrace trace = new CommandTrace("push", commandId, now);
+        final JSONObject json = jsonParser.parse(rawLayoutTree);
+        record("push", commandId, onComponentId, json);
+        final LayoutNode layoutTree = LayoutNodeParser.parse(json);
+        trace.mark(CommandTrace.Phase.Parsed);
+        handle(trace, onComponentId, () -> {
             final ViewController<?> viewController = layoutFactory.create(layoutTree);
-            navigator().push(onComponentId, viewController, new NativeCommandListener("push", commandId, promise, eventEmitter, now));
+            trace.mark(CommandTrace.Phase.ControllersCreated);
+            navigator().push(onComponentId, viewController, createListener(trace, promise));
+            trace.observe(viewController);
         });
     }
 
     @ReactMethod
     public void setStackRoot(String commandId, String onComponentId, ReadableArray children, Promise promise) {
-        handle(() -> {
-            ArrayList<ViewController<?>> _children = new ArrayList<>();
+        final CommandTrace trace = new CommandTrace("setStackRoot", commandId, now);
+        record("setStackRoot", commandId, onComponentId, children);
+        handle(trace, onComponentId, () -> {
+            ArrayList<LayoutNode> layoutTrees = new ArrayList<>();
             for (int i = 0; i < children.size(); i++) {
-                final LayoutNode layoutTree = LayoutNodeParser.parse(jsonParser.parse(children.getMap(i)));
+                layoutTrees.add(LayoutNodeParser.parse(jsonParser.parse(children.getMap(i))));
+            }
+            trace.mark(CommandTrace.Phase.Parsed);
+            ArrayList<ViewController<?>> _children = new ArrayList<>();
+            for (LayoutNode layoutTree : layoutTrees) {
                 _children.add(layoutFactory.create(layoutTree));
             }
-            navigator().setStackRoot(onComponentId, _children, new NativeCommandListener("setStackRoot", commandId, promise, eventEmitter, now));
+            trace.mark(CommandTrace.Phase.ControllersCreated);
+            navigator().setStackRoot(onComponentId, _children, createListener(trace, promise));
+            if (!_children.isEmpty()) trace.observe(_children.get(_children.size() - 1));
         });
     }
 
     @ReactMethod
     public void pop(String commandId, String componentId, @Nullable ReadableMap mergeOptions, Promise promise) {
-        handle(() -> navigator().pop(componentId, parse(mergeOptions), new NativeCommandListener("pop", commandId, promise, eventEmitter, now)));
+        final CommandTrace trace = new CommandTrace("pop", commandId, now);
+        record("pop", commandId, componentId, mergeOptions);
+        handle(trace, componentId, () -> navigator().pop(componentId, parse(trace, mergeOptions), createListener(trace, promise)));
     }
 
     @ReactMethod
     public void popTo(String commandId, String componentId, @Nullable ReadableMap mergeOptions, Promise promise) {
-        handle(() -> navigator().popTo(componentId, parse(mergeOptions), new NativeCommandListener("popTo", commandId, promise, eventEmitter, now)));
+        final CommandTrace trace = new CommandTrace("popTo", commandId, now);
+        record("popTo", commandId, componentId, mergeOptions);
+        handle(trace, componentId, () -> navigator().popTo(componentId, parse(trace, mergeOptions), createListener(trace, promise)));
     }
 
     @ReactMethod
     public void popToRoot(String commandId, String componentId, @Nullable ReadableMap mergeOptions, Promise promise) {
-        handle(() -> navigator().popToRoot(componentId, parse(mergeOptions), new NativeCommandListener("popToRoot", commandId, promise, eventEmitter, now)));
+        final CommandTrace trace = new CommandTrace("popToRoot", commandId, now);
+        record("popToRoot", commandId, componentId, mergeOptions);
+        handle(trace, componentId, () -> navigator().popToRoot(componentId, parse(trace, mergeOptions), createListener(trace, promise)));
     }
 
     @ReactMethod
     public void showModal(String commandId, ReadableMap rawLayoutTree, Promise promise) {
-        final LayoutNode layoutTree = LayoutNodeParser.parse(jsonParser.parse(rawLayoutTree));
-        handle(() -> {
+        final CommandTrace trace = new CommandTrace("showModal", commandId, now);
+        final JSONObject json = jsonParser.parse(rawLayoutTree);
+        record("showModal", commandId, null, json);
+        final LayoutNode layoutTree = LayoutNodeParser.parse(json);
+        trace.mark(CommandTrace.Phase.Parsed);
+        handle(trace, layoutTree.id, () -> {
             final ViewController<?> viewController = layoutFactory.create(layoutTree);
-            navigator().showModal(viewController, new NativeCommandListener("showModal", commandId, promise, eventEmitter, now));
+            trace.mark(CommandTrace.Phase.ControllersCreated);
+            navigator().showModal(viewController, createListener(trace, promise));
+            trace.observe(viewController);
         });
     }
 
     @ReactMethod
     public void dismissModal(String commandId, String componentId, @Nullable ReadableMap mergeOptions, Promise promise) {
-        handle(() -> {
-            navigator().mergeOptions(componentId, parse(mergeOptions));
-            navigator().dismissModal(componentId, new NativeCommandListener("dismissModal", commandId, promise, eventEmitter, now));
+        final CommandTrace trace = new CommandTrace("dismissModal", commandId, now);
+        record("dismissModal", commandId, componentId, mergeOptions);
+        handle(trace, componentId, () -> {
+            navigator().mergeOptions(componentId, parse(trace, mergeOptions));
+            navigator().dismissModal(componentId, createListener(trace, promise));
         });
     }
 
     @ReactMethod
     public void dismissAllModals(String commandId, @Nullable ReadableMap mergeOptions, Promise promise) {
-        handle(() -> navigator().dismissAllModals(parse(mergeOptions), new NativeCommandListener("dismissAllModals", commandId, promise, eventEmitter, now)));
+        final CommandTrace trace = new CommandTrace("dismissAllModals", commandId, now);
+        record("dismissAllModals", commandId, null, mergeOptions);
+        handle(trace, null, () -> navigator().dismissAllModals(parse(trace, mergeOptions), createListener(trace, promise)));
     }
 
     @ReactMethod
     public void showOverlay(String commandId, ReadableMap rawLayoutTree, Promise promise) {
-        final LayoutNode layoutTree = LayoutNodeParser.parse(jsonParser.parse(rawLayoutTree));
-        handle(() -> {
+        final CommandTrace trace = new CommandTrace("showOverlay", commandId, now);
+        final JSONObject json = jsonParser.parse(rawLayoutTree);
+        record("showOverlay", commandId, null, json);
+        final LayoutNode layoutTree = LayoutNodeParser.parse(json);
+        trace.mark(CommandTrace.Phase.Parsed);
+        handle(trace, layoutTree.id, () -> {
             final ViewController<?> viewController = layoutFactory.create(layoutTree);
-            navigator().showOverlay(viewController, new NativeCommandListener("showOverlay", commandId, promise, eventEmitter, now));
+            trace.mark(CommandTrace.Phase.ControllersCreated);
+            navigator().showOverlay(viewController, createListener(trace, promise));
+            trace.observe(viewController);
         });
     }
 
     @ReactMethod
     public void dismissOverlay(String commandId, String componentId, Promise promise) {
-        handle(() -> navigator().dismissOverlay(componentId, new NativeCommandListener("dismissOverlay", commandId, promise, eventEmitter, now)));
+        final CommandTrace trace = new CommandTrace("dismissOverlay", commandId, now);
+        record("dismissOverlay", commandId, componentId, (JSONObject) null);
+        handle(trace, componentId, () -> navigator().dismissOverlay(componentId, createListener(trace, promise)));
     }
 
     @ReactMethod
     public void dismissAllOverlays(String commandId, Promise promise) {
-        handle(() -> navigator().dismissAllOverlays(new NativeCommandListener("dismissAllOverlays", commandId, promise, eventEmitter, now)));
+        final CommandTrace trace = new CommandTrace("dismissAllOverlays", commandId, now);
+        record("dismissAllOverlays", commandId, null, (JSONObject) null);
+        handle(trace, null, () -> navigator().dismissAllOverlays(createListener(trace, promise)));
+    }
+
+    private void record(String method, @Nullable String commandId, @Nullable String componentId, @Nullable ReadableMap arguments) {
+        if (recorder.isRecording()) record(method, commandId, componentId, arguments == null ? null : jsonParser.parse(arguments));
+    }
+
+    private void record(String method, @Nullable String commandId, @Nullable String componentId, ReadableArray arguments) {
+        if (recorder.isRecording()) recorder.record(method, commandId, componentId, jsonParser.parse(arguments));
+    }
+
+    private void record(String method, @Nullable String commandId, @Nullable String componentId, @Nullable JSONObject arguments) {
+        recorder.record(method, commandId, componentId, arguments);
+    }
+
+    private void writeCommandRecording() {
+        if (!recorder.isRecording() || activity() == null) return;
+        recorder.appendTo(new File(activity().getCacheDir(), CommandRecorder.RECORDING_FILE_NAME));
     }
 
     private Navigator navigator() {
         return activity().getNavigator();
     }
 
+    private NativeCommandListener createListener(CommandTrace trace, Promise promise) {
+        return new NativeCommandListener(trace.getCommandName(), trace.getCommandId(), promise, eventEmitter, now, trace);
+    }
+
+    private Options parse(CommandTrace trace, @Nullable ReadableMap mergeOptions) {
+        Options options = parse(mergeOptions);
+        trace.mark(CommandTrace.Phase.Parsed);
+        return options;
+    }
+
     private Options parse(@Nullable ReadableMap mergeOptions) {
         ReactApplicationContext ctx = getReactApplicationContext();
         return mergeOptions ==
                 null ? Options.EMPTY : Options.parse(ctx, new TypefaceLoader(activity()), jsonParser.parse(mergeOptions));
     }
 
+    protected void handle(CommandTrace trace, @Nullable String componentId, Runnable task) {
+        handle(trace.getCommandName(), componentId, trace, () -> {
+            trace.mark(CommandTrace.Phase.Dequeued);
+            Tracing.beginSection("RNN.command.", trace.getCommandName());
+            try {
+                trace.runAsCurrent(task);
+            } finally {
+                Tracing.endSection();
+            }
+        });
+    }
+
+    protected void handle(String commandName, @Nullable String componentId, Runnable task) {
+        handle(commandName, componentId, null, task);
+    }
+
     protected void handle(Runnable task) {
+        handle("command", null, null, task);
+    }
+
+    private void handle(String commandName, @Nullable String componentId, @Nullable CommandTrace trace, Runnable task) {
+        final CommandWatchdog watchdog = CommandWatchdog.getInstance();
+        watchdog.onQueued();
         UiThread.post(() -> {
+            watchdog.onDequeued();
             if (getCurrentActivity() != null && !activity().isFinishing()) {
-                task.run();
+                watchdog.run(commandName, componentId, trace, task);
             }
         });
     }
@@ -235,6 +406,8 @@ public class NavigationModule extends ReactContextBaseJavaModule {
 
     @Override
     public void onCatalystInstanceDestroy() {
+        NavigationMetrics.getInstance().removeSink(metricsSink);
+        TransitionJankMonitor.getInstance().removeListener(transitionFrameStatsListener);
         final NavigationActivity navigationActivity = activity();
         if (navigationActivity != null) {
             navigationActivity.onCatalystInstanceDestroy();
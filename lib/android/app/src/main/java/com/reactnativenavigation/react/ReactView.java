@@ -5,6 +5,7 @@ import android.content.Context;
 import android.os.Bundle;
 import android.view.MotionEvent;
 
+import androidx.annotation.Nullable;
 import androidx.annotation.RestrictTo;
 
 import com.facebook.react.ReactInstanceManager;
@@ -14,6 +15,8 @@ import com.facebook.react.config.ReactFeatureFlags;
 import com.facebook.react.uimanager.JSTouchDispatcher;
 import com.facebook.react.uimanager.UIManagerModule;
 import com.facebook.react.uimanager.events.EventDispatcher;
+import com.reactnativenavigation.profiling.NavigationMetrics;
+import com.reactnativenavigation.profiling.RetentionTracker;
 import com.reactnativenavigation.react.events.ComponentType;
 import com.reactnativenavigation.react.events.EventEmitter;
 import com.reactnativenavigation.viewcontrollers.viewcontroller.IReactView;
@@ -27,7 +30,9 @@ public class ReactView extends ReactRootView implements IReactView, Renderable {
     private final String componentId;
     private final String componentName;
     private boolean isAttachedToReactInstance = false;
+    private boolean isCountedAsLive = false;
     private final JSTouchDispatcher jsTouchDispatcher;
+    @Nullable private EventEmitter eventEmitter;
 
     public ReactView(final Context context, ReactInstanceManager reactInstanceManager, String componentId, String componentName) {
         super(context);
@@ -36,6 +41,7 @@ public class ReactView extends ReactRootView implements IReactView, Renderable {
         this.componentName = componentName;
         jsTouchDispatcher = new JSTouchDispatcher(this);
         setIsFabric(ReactFeatureFlags.enableFabricRenderer);
+        RetentionTracker.getInstance().onCreated(this);
     }
 
     @Override
@@ -47,6 +53,10 @@ public class ReactView extends ReactRootView implements IReactView, Renderable {
     public void start() {
         if (isAttachedToReactInstance) return;
         isAttachedToReactInstance = true;
+        if (NavigationMetrics.getInstance().isEnabled()) {
+            isCountedAsLive = true;
+            NavigationMetrics.getInstance().increment(NavigationMetrics.LiveReactRoots);
+        }
         final Bundle opts = new Bundle();
         opts.putString("componentId", componentId);
         startReactApplication(reactInstanceManager, componentName, opts);
@@ -64,6 +74,11 @@ public class ReactView extends ReactRootView implements IReactView, Renderable {
 
     @Override
     public void destroy() {
+        RetentionTracker.getInstance().onDestroyed(this, this);
+        if (isCountedAsLive) {
+            isCountedAsLive = false;
+            NavigationMetrics.getInstance().decrement(NavigationMetrics.LiveReactRoots);
+        }
         unmountReactApplication();
     }
 
@@ -72,7 +87,7 @@ public class ReactView extends ReactRootView implements IReactView, Renderable {
             if (this.reactInstanceManager == null) return;
             ReactContext currentReactContext = reactInstanceManager.getCurrentReactContext();
             if (currentReactContext != null)
-                new EventEmitter(currentReactContext).emitComponentWillAppear(componentId, componentName, type);
+                eventEmitter(currentReactContext).emitComponentWillAppear(componentId, componentName, type);
         });
     }
 
@@ -81,7 +96,7 @@ public class ReactView extends ReactRootView implements IReactView, Renderable {
             if (this.reactInstanceManager == null) return;
             ReactContext currentReactContext = reactInstanceManager.getCurrentReactContext();
             if (currentReactContext != null) {
-                new EventEmitter(currentReactContext).emitComponentDidAppear(componentId, componentName, type);
+                eventEmitter(currentReactContext).emitComponentDidAppear(componentId, componentName, type);
             }
         });
     }
@@ -90,7 +105,7 @@ public class ReactView extends ReactRootView implements IReactView, Renderable {
         if (this.reactInstanceManager == null) return;
         ReactContext currentReactContext = reactInstanceManager.getCurrentReactContext();
         if (currentReactContext != null) {
-            new EventEmitter(currentReactContext).emitComponentDidDisappear(componentId, componentName, type);
+            eventEmitter(currentReactContext).emitComponentDidDisappear(componentId, componentName, type);
         }
     }
 
@@ -99,13 +114,20 @@ public class ReactView extends ReactRootView implements IReactView, Renderable {
         if (this.reactInstanceManager == null) return;
         ReactContext currentReactContext = reactInstanceManager.getCurrentReactContext();
         if (currentReactContext != null) {
-            new EventEmitter(currentReactContext).emitOnNavigationButtonPressed(componentId, buttonId);
+            eventEmitter(currentReactContext).emitOnNavigationButtonPressed(componentId, buttonId);
+        }
+    }
+
+    private EventEmitter eventEmitter(ReactContext reactContext) {
+        if (eventEmitter == null || !eventEmitter.isAttachedTo(reactContext)) {
+            eventEmitter = new EventEmitter(reactContext);
         }
+        return eventEmitter;
     }
 
     @Override
     public ScrollEventListener getScrollEventListener() {
-        return new ScrollEventListener(getEventDispatcher());
+        return new ScrollEventListener(this);
     }
 
     @Override
@@ -0,0 +1,77 @@
+package com.reactnativenavigation.react.events;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.WritableArray;
+import com.facebook.react.bridge.WritableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule.RCTDeviceEventEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import androidx.annotation.Nullable;
+import androidx.annotation.RestrictTo;
+
+/**
+ * Buffers events emitted during a single main thread task and sends them to JS as one
+ * {@code RNN.EventBatch} event once the task completes. Events are delivered in the order they were emitted,
+ * and JS re-dispatches each one under its original name.
+ */
+public class EventBatcher {
+    static final String EventBatch = "RNN.EventBatch";
+    private static EventBatcher instance;
+
+    private final Handler handler;
+    private final Runnable flushRunnable = this::flush;
+    private final List<String> names = new ArrayList<>();
+    private final List<WritableMap> payloads = new ArrayList<>();
+    @Nullable private ReactContext pendingContext;
+
+    public static synchronized EventBatcher getInstance() {
+        if (instance == null) instance = new EventBatcher(new Handler(Looper.getMainLooper()));
+        return instance;
+    }
+
+    @RestrictTo(RestrictTo.Scope.TESTS)
+    EventBatcher(Handler handler) {
+        this.handler = handler;
+    }
+
+    public synchronized void enqueue(ReactContext reactContext, String eventName, WritableMap data) {
+        if (pendingContext != null && pendingContext != reactContext) flush();
+        if (names.isEmpty()) {
+            pendingContext = reactContext;
+            handler.post(flushRunnable);
+        }
+        names.add(eventName);
+        payloads.add(data);
+    }
+
+    public synchronized void flush() {
+        handler.removeCallbacks(flushRunnable);
+        if (pendingContext == null || names.isEmpty()) return;
+        RCTDeviceEventEmitter emitter = pendingContext.getJSModule(RCTDeviceEventEmitter.class);
+        if (names.size() == 1) {
+            emitter.emit(names.get(0), payloads.get(0));
+        } else {
+            emitter.emit(EventBatch, createBatch());
+        }
+        names.clear();
+        payloads.clear();
+        pendingContext = null;
+    }
+
+    private WritableArray createBatch() {
+        WritableArray batch = Arguments.createArray();
+        for (int i = 0; i < names.size(); i++) {
+            WritableMap event = Arguments.createMap();
+            event.putString("name", names.get(i));
+            event.putMap("data", payloads.get(i));
+            batch.pushMap(event);
+        }
+        return batch;
+    }
+}
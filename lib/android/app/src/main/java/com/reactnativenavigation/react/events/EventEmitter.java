@@ -5,7 +5,14 @@ import android.util.Log;
 import com.facebook.react.bridge.Arguments;
 import com.facebook.react.bridge.ReactContext;
 import com.facebook.react.bridge.WritableMap;
-import com.facebook.react.modules.core.DeviceEventManagerModule;
+import com.reactnativenavigation.RNNFeatureToggles;
+import com.reactnativenavigation.RNNToggles;
+import com.reactnativenavigation.profiling.CommandTrace;
+import com.reactnativenavigation.profiling.Histogram;
+import com.reactnativenavigation.profiling.MetricsSnapshot;
+import com.reactnativenavigation.profiling.TransitionFrameStats;
+
+import java.util.Map;
 
 import javax.annotation.Nullable;
 
@@ -22,11 +29,26 @@ public class EventEmitter {
     private static final String NavigationButtonPressed = "RNN.NavigationButtonPressed";
     private static final String ModalDismissed = "RNN.ModalDismissed";
     private static final String ScreenPopped = "RNN.ScreenPopped";
+    private static final String CommandTraceEvent = "RNN.CommandTrace";
+    private static final String NavigationMetricsEvent = "RNN.NavigationMetrics";
+    private static final String TransitionFrameStatsEvent = "RNN.TransitionFrameStats";
     @Nullable
     private ReactContext reactContext;
+    @Nullable
+    private RCTDeviceEventEmitter jsEmitter;
+    private final EventSubscriptions subscriptions;
 
     public EventEmitter(@Nullable ReactContext reactContext) {
+        this(reactContext, EventSubscriptions.getInstance());
+    }
+
+    EventEmitter(@Nullable ReactContext reactContext, EventSubscriptions subscriptions) {
         this.reactContext = reactContext;
+        this.subscriptions = subscriptions;
+    }
+
+    public boolean isAttachedTo(@Nullable ReactContext reactContext) {
+        return this.reactContext == reactContext;
     }
 
     public void appLaunched() {
@@ -34,6 +56,7 @@ public class EventEmitter {
     }
 
     public void emitComponentDidDisappear(String id, String componentName, ComponentType type) {
+        if (!subscriptions.shouldEmit(ComponentDidDisappear, id)) return;
         WritableMap event = Arguments.createMap();
         event.putString("componentId", id);
         event.putString("componentName", componentName);
@@ -42,6 +65,7 @@ public class EventEmitter {
     }
 
     public void emitComponentWillAppear(String id, String componentName, ComponentType type) {
+        if (!subscriptions.shouldEmit(ComponentWillAppear, id)) return;
         WritableMap event = Arguments.createMap();
         event.putString("componentId", id);
         event.putString("componentName", componentName);
@@ -50,6 +74,7 @@ public class EventEmitter {
     }
 
     public void emitComponentDidAppear(String id, String componentName, ComponentType type) {
+        if (!subscriptions.shouldEmit(ComponentDidAppear, id)) return;
         WritableMap event = Arguments.createMap();
         event.putString("componentId", id);
         event.putString("componentName", componentName);
@@ -58,6 +83,7 @@ public class EventEmitter {
     }
 
     public void emitOnNavigationButtonPressed(String id, String buttonId) {
+        if (!subscriptions.shouldEmit(NavigationButtonPressed, id)) return;
         WritableMap event = Arguments.createMap();
         event.putString("componentId", id);
         event.putString("buttonId", buttonId);
@@ -65,6 +91,7 @@ public class EventEmitter {
     }
 
     public void emitBottomTabSelected(int unselectedTabIndex, int selectedTabIndex) {
+        if (!subscriptions.shouldEmit(BottomTabSelected)) return;
         WritableMap event = Arguments.createMap();
         event.putInt("unselectedTabIndex", unselectedTabIndex);
         event.putInt("selectedTabIndex", selectedTabIndex);
@@ -72,12 +99,14 @@ public class EventEmitter {
     }
 
     public void emitBottomTabPressed(int tabIndex) {
+        if (!subscriptions.shouldEmit(BottomTabPressed)) return;
         WritableMap event = Arguments.createMap();
         event.putInt("tabIndex", tabIndex);
         emit(BottomTabPressed, event);
     }
 
     public void emitCommandCompleted(String commandName, String commandId, long completionTime) {
+        if (!subscriptions.shouldEmit(CommandCompleted)) return;
         WritableMap event = Arguments.createMap();
         event.putString("commandName", commandName);
         event.putString("commandId", commandId);
@@ -85,7 +114,62 @@ public class EventEmitter {
         emit(CommandCompleted, event);
     }
 
+    public boolean shouldEmitCommandTrace() {
+        return subscriptions.shouldEmit(CommandTraceEvent);
+    }
+
+    public void emitCommandTrace(CommandTrace trace) {
+        if (!shouldEmitCommandTrace()) return;
+        WritableMap phases = Arguments.createMap();
+        for (CommandTrace.Phase phase : CommandTrace.phases()) {
+            if (trace.hasPhase(phase)) phases.putDouble(phase.jsName, trace.getTimestampNanos(phase) / 1_000_000d);
+        }
+        WritableMap event = Arguments.createMap();
+        event.putString("commandName", trace.getCommandName());
+        event.putString("commandId", trace.getCommandId());
+        event.putMap("phases", phases);
+        emit(CommandTraceEvent, event);
+    }
+
+    public void emitNavigationMetrics(MetricsSnapshot snapshot) {
+        if (!subscriptions.shouldEmit(NavigationMetricsEvent)) return;
+        WritableMap counters = Arguments.createMap();
+        for (Map.Entry<String, Long> counter : snapshot.counters.entrySet()) {
+            counters.putDouble(counter.getKey(), counter.getValue());
+        }
+        WritableMap histograms = Arguments.createMap();
+        for (Histogram.Snapshot histogram : snapshot.histograms.values()) {
+            WritableMap values = Arguments.createMap();
+            values.putDouble("count", histogram.count);
+            values.putDouble("mean", histogram.getMeanNanos() / 1_000_000d);
+            values.putDouble("p50", histogram.getPercentileNanos(50) / 1_000_000d);
+            values.putDouble("p90", histogram.getPercentileNanos(90) / 1_000_000d);
+            values.putDouble("p99", histogram.getPercentileNanos(99) / 1_000_000d);
+            values.putDouble("max", histogram.maxNanos / 1_000_000d);
+            histograms.putMap(histogram.name, values);
+        }
+        WritableMap event = Arguments.createMap();
+        event.putMap("counters", counters);
+        event.putMap("histograms", histograms);
+        emit(NavigationMetricsEvent, event);
+    }
+
+    public void emitTransitionFrameStats(TransitionFrameStats stats) {
+        if (!subscriptions.shouldEmit(TransitionFrameStatsEvent)) return;
+        WritableMap event = Arguments.createMap();
+        event.putString("transition", stats.type.jsName);
+        event.putString("componentName", stats.componentName);
+        event.putBoolean("sharedElements", stats.hasSharedElements);
+        event.putBoolean("cancelled", stats.cancelled);
+        event.putInt("frameCount", stats.frameCount);
+        event.putInt("droppedFrames", stats.droppedFrames);
+        event.putDouble("longestFrame", stats.longestFrameNanos / 1_000_000d);
+        event.putDouble("duration", stats.durationNanos / 1_000_000d);
+        emit(TransitionFrameStatsEvent, event);
+    }
+
     public void emitModalDismissed(String id, String componentName, int modalsDismissed) {
+        if (!subscriptions.shouldEmit(ModalDismissed)) return;
         WritableMap event = Arguments.createMap();
         event.putString("componentId", id);
         event.putString("componentName", componentName);
@@ -94,6 +178,7 @@ public class EventEmitter {
     }
 
     public void emitScreenPoppedEvent(String componentId) {
+        if (!subscriptions.shouldEmit(ScreenPopped, componentId)) return;
         WritableMap event = Arguments.createMap();
         event.putString("componentId", componentId);
         emit(ScreenPopped, event);
@@ -104,7 +189,11 @@ public class EventEmitter {
             Log.e("RNN", "Could not send event " + eventName + ". React context is null!");
             return;
         }
-        RCTDeviceEventEmitter emitter = reactContext.getJSModule(DeviceEventManagerModule.RCTDeviceEventEmitter.class);
-        emitter.emit(eventName, data);
+        if (RNNFeatureToggles.isEnabled(RNNToggles.BATCHED_EVENTS)) {
+            EventBatcher.getInstance().enqueue(reactContext, eventName, data);
+            return;
+        }
+        if (jsEmitter == null) jsEmitter = reactContext.getJSModule(RCTDeviceEventEmitter.class);
+        jsEmitter.emit(eventName, data);
     }
 }
@@ -0,0 +1,101 @@
+package com.reactnativenavigation.react.events;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import androidx.annotation.RestrictTo;
+
+/**
+ * Keeps track of the events JS is listening to. Once JS enables filtering, {@link EventEmitter} consults this
+ * registry and skips events which have no subscribers. Component events are sent if JS listens to the event
+ * globally, or if a listener is bound to the component which triggered the event.
+ */
+public class EventSubscriptions {
+    private static EventSubscriptions instance;
+
+    private boolean filteringEnabled;
+    private final Map<String, Integer> eventListeners = new HashMap<>();
+    private final Map<String, Integer> componentListeners = new HashMap<>();
+    private final Map<String, Long> suppressedEvents = new HashMap<>();
+
+    public static synchronized EventSubscriptions getInstance() {
+        if (instance == null) instance = new EventSubscriptions();
+        return instance;
+    }
+
+    @RestrictTo(RestrictTo.Scope.TESTS)
+    EventSubscriptions() {
+
+    }
+
+    public synchronized void setFilteringEnabled(boolean enabled) {
+        filteringEnabled = enabled;
+    }
+
+    public synchronized void addEventListener(String eventName) {
+        increment(eventListeners, eventName);
+    }
+
+    public synchronized void removeEventListener(String eventName) {
+        decrement(eventListeners, eventName);
+    }
+
+    public synchronized void addComponentListener(String componentId) {
+        increment(componentListeners, componentId);
+    }
+
+    public synchronized void removeComponentListener(String componentId) {
+        decrement(componentListeners, componentId);
+    }
+
+    synchronized boolean shouldEmit(String eventName) {
+        if (!filteringEnabled || eventListeners.containsKey(eventName)) return true;
+        onSuppressed(eventName);
+        return false;
+    }
+
+    synchronized boolean shouldEmit(String eventName, String componentId) {
+        if (!filteringEnabled || eventListeners.containsKey(eventName) || componentListeners.containsKey(componentId)) return true;
+        onSuppressed(eventName);
+        return false;
+    }
+
+    public synchronized long getSuppressedCount(String eventName) {
+        Long count = suppressedEvents.get(eventName);
+        return count == null ? 0 : count;
+    }
+
+    public synchronized Map<String, Long> getSuppressedCounts() {
+        return new HashMap<>(suppressedEvents);
+    }
+
+    /**
+     * Called when a new JS context is created; subscriptions made by the previous context are no longer relevant.
+     */
+    public synchronized void reset() {
+        filteringEnabled = false;
+        eventListeners.clear();
+        componentListeners.clear();
+        suppressedEvents.clear();
+    }
+
+    private void onSuppressed(String eventName) {
+        Long count = suppressedEvents.get(eventName);
+        suppressedEvents.put(eventName, count == null ? 1 : count + 1);
+    }
+
+    private static void increment(Map<String, Integer> counts, String key) {
+        Integer count = counts.get(key);
+        counts.put(key, count == null ? 1 : count + 1);
+    }
+
+    private static void decrement(Map<String, Integer> counts, String key) {
+        Integer count = counts.get(key);
+        if (count == null) return;
+        if (count <= 1) {
+            counts.remove(key);
+        } else {
+            counts.put(key, count - 1);
+        }
+    }
+}
@@ -4,4 +4,12 @@ public class Now {
     public long now() {
         return System.currentTimeMillis();
     }
+
+    /**
+     * @return the current value of a monotonic clock, in nanoseconds. Only meaningful when compared to other values
+     * returned by this method.
+     */
+    public long nanoTime() {
+        return System.nanoTime();
+    }
 }
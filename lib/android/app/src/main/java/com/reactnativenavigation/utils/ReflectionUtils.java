@@ -3,15 +3,19 @@ package com.reactnativenavigation.utils;
 import androidx.annotation.Nullable;
 
 import java.lang.reflect.Field;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class ReflectionUtils {
+	private static final Object MISSING_FIELD = new Object();
+	private static final ConcurrentMap<Class<?>, ConcurrentMap<String, Object>> fieldCache = new ConcurrentHashMap<>();
+
 	public static void setField(Object obj, String name, Object value) {
 		try {
-			Field field = getField(obj.getClass(), name);
+			Field field = getAccessibleField(obj.getClass(), name);
 			if (field == null) {
 				return;
 			}
-			field.setAccessible(true);
 			field.set(obj, value);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -21,11 +25,10 @@ public class ReflectionUtils {
 	@Nullable
 	public static Object getDeclaredField(Object obj, String fieldName) {
 		try {
-			Field f = getField(obj.getClass(), fieldName);
+			Field f = getAccessibleField(obj.getClass(), fieldName);
 			if (f == null) {
 				return null;
 			}
-			f.setAccessible(true);
 			return f.get(obj);
 		} catch (Exception e) {
 			e.printStackTrace();
@@ -33,7 +36,59 @@ public class ReflectionUtils {
 		return null;
 	}
 
-	private static Field getField(Class<?> clazz, String name) {
+	public static int getIntField(Object obj, String fieldName, int defaultValue) {
+		try {
+			Field f = getAccessibleField(obj.getClass(), fieldName);
+			return f == null ? defaultValue : f.getInt(obj);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		return defaultValue;
+	}
+
+	public static double getDoubleField(Object obj, String fieldName, double defaultValue) {
+		try {
+			Field f = getAccessibleField(obj.getClass(), fieldName);
+			return f == null ? defaultValue : f.getDouble(obj);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		return defaultValue;
+	}
+
+	/**
+	 * Resolves a field declared by the given class or one of its super classes and makes it accessible.
+	 * Lookups are cached per class and field name, including lookups of fields which don't exist.
+	 */
+	@Nullable
+	public static Field getAccessibleField(Class<?> clazz, String name) {
+		ConcurrentMap<String, Object> classFields = fieldCache.get(clazz);
+		if (classFields == null) {
+			ConcurrentMap<String, Object> existing = fieldCache.putIfAbsent(clazz, classFields = new ConcurrentHashMap<>());
+			if (existing != null) classFields = existing;
+		}
+		Object field = classFields.get(name);
+		if (field == null) {
+			field = resolveField(clazz, name);
+			classFields.putIfAbsent(name, field);
+		}
+		return field == MISSING_FIELD ? null : (Field) field;
+	}
+
+	private static Object resolveField(Class<?> clazz, String name) {
+		Field field = getField(clazz, name);
+		if (field == null) return MISSING_FIELD;
+		try {
+			field.setAccessible(true);
+			return field;
+		} catch (Exception e) {
+			return MISSING_FIELD;
+		}
+	}
+
+	@Nullable
+	private static Field getField(@Nullable Class<?> clazz, String name) {
+		if (clazz == null) return null;
 		try {
 			return clazz.getDeclaredField(name);
 		} catch (NoSuchFieldException nsfe) {
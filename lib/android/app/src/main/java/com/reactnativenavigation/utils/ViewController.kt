@@ -1,14 +1,16 @@
 package com.reactnativenavigation.utils
 
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
+import kotlinx.coroutines.suspendCancellableCoroutine
 import kotlin.coroutines.resume
-import kotlin.coroutines.suspendCoroutine
 
-suspend fun ViewController<*>.awaitRender() = suspendCoroutine<Unit> { cont ->
-    addOnAppearedListener(object : Runnable {
+suspend fun ViewController<*>.awaitRender() = suspendCancellableCoroutine<Unit> { cont ->
+    val listener = object : Runnable {
         override fun run() {
             removeOnAppearedListener(this)
             cont.resume(Unit)
         }
-    })
-}
\ No newline at end of file
+    }
+    addOnAppearedListener(listener)
+    cont.invokeOnCancellation { removeOnAppearedListener(listener) }
+}
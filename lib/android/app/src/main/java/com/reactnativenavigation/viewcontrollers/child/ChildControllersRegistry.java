@@ -1,12 +1,22 @@
 package com.reactnativenavigation.viewcontrollers.child;
 
+import com.reactnativenavigation.profiling.RetentionTracker;
+
 import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
 
 import static com.reactnativenavigation.utils.ObjectUtils.perform;
 
-public class ChildControllersRegistry {
+public class ChildControllersRegistry implements RetentionTracker.Holder {
     private ArrayDeque<ChildController<?>> children = new ArrayDeque<>();
 
+    public ChildControllersRegistry() {
+        RetentionTracker.getInstance().onHolderCreated(this);
+    }
+
     public void onViewAppeared(ChildController<?> child) {
         children.push(child);
     }
@@ -31,4 +41,9 @@ public class ChildControllersRegistry {
     public void onChildDestroyed(ChildController<?> child) {
         children.remove(child);
     }
+
+    @Override
+    public Map<String, Collection<?>> getHeldObjects() {
+        return Collections.singletonMap("children", new ArrayList<>(children));
+    }
 }
@@ -0,0 +1,23 @@
+package com.reactnativenavigation.viewcontrollers.common
+
+import android.animation.AnimatorSet
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType
+import com.reactnativenavigation.views.animations.ViewPropertiesAnimator
+
+/**
+ * Creates the top level [AnimatorSet] of each screen transition. Every animator of a transition, including shared
+ * element animators, is played by this set, so replacing the [default] factory lets tests and benchmarks observe each
+ * transition and step it frame by frame. Subclasses should call through to [create] so that pooled animators are
+ * recycled once the transition ends.
+ */
+open class AnimatorSetFactory {
+    open fun create(type: TransitionType): AnimatorSet = AnimatorSet().also { ViewPropertiesAnimator.recycleOnEnd(it) }
+
+    companion object {
+        /**
+         * Factory used by animators created after it's set.
+         */
+        @JvmStatic
+        var default = AnimatorSetFactory()
+    }
+}
@@ -0,0 +1,62 @@
+package com.reactnativenavigation.viewcontrollers.common
+
+import android.animation.Animator
+import android.animation.AnimatorListenerAdapter
+import android.animation.AnimatorSet
+import android.view.View
+import com.reactnativenavigation.options.Options
+import com.reactnativenavigation.options.params.Bool
+
+/**
+ * Renders the roots of transitioning screens into hardware layers for the duration of a transition, so that
+ * animating alpha, translation, scale and rotation doesn't redraw the screen's view hierarchy on every frame.
+ *
+ * Layers are only applied to views which don't already have a layer and are dropped once the transition ends or is
+ * cancelled. Transitions with shared elements or element transitions are never layered, since reparenting views into
+ * the overlay and animating their bounds would invalidate the layer on every frame. Screens whose content changes as
+ * the user scrolls (hideOnScroll) are skipped for the same reason.
+ */
+object HardwareLayers {
+    /**
+     * Used when a transition doesn't set the hardwareLayer animation option
+     */
+    @JvmStatic
+    var enabledByDefault = false
+
+    @JvmStatic
+    fun isEnabled(hardwareLayer: Bool): Boolean = hardwareLayer.get(enabledByDefault)
+
+    @JvmStatic
+    fun isScrollDependent(options: Options): Boolean {
+        return options.topBar.hideOnScroll.isTrue ||
+                options.bottomTabsOptions.hideOnScroll.isTrue ||
+                options.fabOptions.hideOnScroll.isTrue
+    }
+
+    @JvmStatic
+    fun apply(set: AnimatorSet, vararg views: View?) {
+        val targets = views.filterNotNull()
+        if (targets.isEmpty()) return
+        set.addListener(object : AnimatorListenerAdapter() {
+            private val layered = mutableListOf<View>()
+
+            override fun onAnimationStart(animation: Animator) {
+                targets.forEach {
+                    if (it.layerType != View.LAYER_TYPE_NONE) return@forEach
+                    it.setLayerType(View.LAYER_TYPE_HARDWARE, null)
+                    if (it.isAttachedToWindow) it.buildLayer()
+                    layered.add(it)
+                }
+            }
+
+            override fun onAnimationCancel(animation: Animator) = dropLayers()
+
+            override fun onAnimationEnd(animation: Animator) = dropLayers()
+
+            private fun dropLayers() {
+                layered.forEach { it.setLayerType(View.LAYER_TYPE_NONE, null) }
+                layered.clear()
+            }
+        })
+    }
+}
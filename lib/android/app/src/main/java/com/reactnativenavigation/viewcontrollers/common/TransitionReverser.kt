@@ -0,0 +1,98 @@
+package com.reactnativenavigation.viewcontrollers.common
+
+import android.animation.Animator
+import android.animation.AnimatorSet
+import android.animation.ValueAnimator
+import android.os.Build
+import android.view.animation.LinearInterpolator
+import androidx.annotation.RequiresApi
+import androidx.core.animation.doOnEnd
+import com.reactnativenavigation.profiling.NavigationMetrics
+
+/**
+ * Plays a running transition back to its start from the point it reached, instead of cancelling it and snapping its
+ * views, e.g. when a screen is popped while its push transition is still running. Reversing a transition takes as long
+ * as the transition already ran, so interrupting a transition early also saves most of the opposite transition.
+ *
+ * On API 26+ the transition is paused and seeked back to its start. On older versions, where an [AnimatorSet] can't be
+ * seeked, the transition is stopped where it is, without notifying its listeners, and copies of the animators it
+ * played are seeked back instead. Animators it hasn't started yet are never played.
+ *
+ * Once the reversal completes the transition is cancelled, which notifies its listeners without moving its views.
+ */
+object TransitionReverser {
+    /**
+     * @param transition the transition to reverse
+     * @param createReverser creates the empty set which plays the reversal. Its listeners are notified once the
+     * transition is back at its start.
+     * @return false if the transition can't be reversed because it hasn't started playing yet, in which case
+     * the transition is left untouched
+     */
+    fun reverse(transition: AnimatorSet, createReverser: () -> AnimatorSet): Boolean {
+        if (!transition.isStarted) return false
+        val playTime = playTime(transition)
+        if (playTime <= 0) return false
+        val rewind = if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            seekToStart(transition, playTime)
+        } else {
+            reverseChildren(transition, playTime)
+        }
+        rewind.interpolator = LinearInterpolator()
+        rewind.doOnEnd { transition.cancel() }
+        createReverser().apply {
+            play(rewind)
+            start()
+        }
+        NavigationMetrics.getInstance().increment(NavigationMetrics.TransitionsReversed)
+        return true
+    }
+
+    private fun playTime(transition: AnimatorSet): Long {
+        return if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+            val maxPlayTime = (transition.totalDuration - transition.startDelay).coerceAtLeast(0)
+            transition.currentPlayTime.coerceIn(0, maxPlayTime)
+        } else {
+            leaves(transition).filter { it.isRunning }.maxOfOrNull { it.currentPlayTime } ?: 0
+        }
+    }
+
+    @RequiresApi(Build.VERSION_CODES.O)
+    private fun seekToStart(transition: AnimatorSet, playTime: Long): Animator {
+        transition.pause()
+        return ValueAnimator.ofFloat(playTime.toFloat(), 0f).apply {
+            duration = playTime
+            addUpdateListener { transition.currentPlayTime = (it.animatedValue as Float).toLong() }
+        }
+    }
+
+    private fun reverseChildren(transition: AnimatorSet, playTime: Long): Animator {
+        val reversals = leaves(transition).mapNotNull { leaf ->
+            val fraction = when {
+                leaf.isRunning -> leaf.currentPlayTime.toFloat() / leaf.duration.coerceAtLeast(1)
+                leaf.animatedFraction > 0 -> 1f
+                else -> return@mapNotNull null
+            }
+            leaf.clone().apply { removeAllListeners() } to fraction.coerceIn(0f, 1f)
+        }
+        val listeners = transition.listeners?.toList().orEmpty()
+        transition.removeAllListeners()
+        transition.cancel()
+        return ValueAnimator.ofFloat(1f, 0f).apply {
+            duration = playTime
+            addUpdateListener { rewind ->
+                val progress = rewind.animatedValue as Float
+                reversals.forEach { (reversal, fraction) -> reversal.setCurrentFraction(fraction * progress) }
+            }
+            doOnEnd {
+                listeners.forEach { it.onAnimationCancel(transition) }
+                listeners.forEach { it.onAnimationEnd(transition) }
+            }
+        }
+    }
+
+    private fun leaves(animator: Animator): List<ValueAnimator> = when (animator) {
+        is AnimatorSet -> animator.childAnimations.flatMap { leaves(it) }
+        is ValueAnimator -> listOf(animator)
+        else -> emptyList()
+    }
+}
@@ -0,0 +1,89 @@
+package com.reactnativenavigation.viewcontrollers.common
+
+import com.reactnativenavigation.profiling.NavigationMetrics
+import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.Job
+import kotlinx.coroutines.SupervisorJob
+import kotlinx.coroutines.launch
+
+/**
+ * Runs the suspending part of screen transitions, such as waiting for the appearing screen to render, on the main
+ * thread. Each transition is launched for the controller it animates and at most one transition runs per controller:
+ *
+ * - Launching a transition for a controller cancels its previous transition if it's still suspended, e.g. when a
+ *   screen is popped or dismissed while its push or show transition still waits for it to render.
+ * - Destroying a controller cancels its transition, so suspended work doesn't keep destroyed screens and their views
+ *   alive.
+ *
+ * Cancelled transitions are counted by [NavigationMetrics.TransitionsCancelled] and abandoned ones, whose controller
+ * was destroyed, by [NavigationMetrics.TransitionsAbandoned]. Transitions which are superseded before they complete
+ * are notified through their `onCancelled` callback, so the command they animate can still complete.
+ */
+class TransitionScope {
+    private val scope = CoroutineScope(SupervisorJob() + Dispatchers.Main.immediate)
+    private val transitions = HashMap<ViewController<*>, Transition>()
+
+    var cancelledCount = 0
+        private set
+    var abandonedCount = 0
+        private set
+
+    val activeCount: Int
+        get() = transitions.size
+
+    /**
+     * @param onCancelled invoked if the transition is superseded by a newer command before it completes
+     */
+    fun launch(controller: ViewController<*>, onCancelled: (() -> Unit)? = null, block: suspend CoroutineScope.() -> Unit): Job {
+        transitions.remove(controller)?.cancel(abandoned = false)
+        val transition = Transition(controller, onCancelled)
+        transitions[controller] = transition
+        val job = scope.launch { block() }
+        transition.job = job
+        job.invokeOnCompletion { transition.remove() }
+        if (job.isActive) controller.addOnDestroyListener(transition)
+        return job
+    }
+
+    /**
+     * Cancels the transition of the given controller because a newer command superseded it
+     */
+    fun cancel(controller: ViewController<*>) {
+        transitions[controller]?.cancel(abandoned = false)
+    }
+
+    /**
+     * Cancels the transitions of all controllers, e.g. when the layout which owns this scope is destroyed
+     */
+    fun cancelAll() {
+        transitions.values.toList().forEach { it.cancel(abandoned = true) }
+    }
+
+    private inner class Transition(val controller: ViewController<*>, val onCancelled: (() -> Unit)?) : Runnable {
+        var job: Job? = null
+
+        override fun run() = cancel(abandoned = true)
+
+        fun cancel(abandoned: Boolean) {
+            val job = job ?: return
+            remove()
+            if (!job.isActive) return
+            if (abandoned) {
+                abandonedCount++
+                NavigationMetrics.getInstance().increment(NavigationMetrics.TransitionsAbandoned)
+            } else {
+                cancelledCount++
+                NavigationMetrics.getInstance().increment(NavigationMetrics.TransitionsCancelled)
+            }
+            job.cancel()
+            if (!abandoned) onCancelled?.invoke()
+        }
+
+        fun remove() {
+            if (transitions[controller] === this) transitions.remove(controller)
+            controller.removeOnDestroyListener(this)
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.reactnativenavigation.viewcontrollers.component;
 
 import android.view.View;
+import android.view.ViewGroup;
 import android.view.ViewGroup.MarginLayoutParams;
 
 import androidx.annotation.NonNull;
@@ -15,6 +16,13 @@ public class ComponentPresenterBase {
         }
     }
 
+    public void applyTopInsetOffset(@NonNull ViewGroup view, int offset) {
+        for (int i = 0; i < view.getChildCount(); i++) {
+            View child = view.getChildAt(i);
+            if (child.getTranslationY() != offset) child.setTranslationY(offset);
+        }
+    }
+
     public void applyBottomInset(@NonNull View view, int bottomInset) {
         if(!(view.getLayoutParams() instanceof MarginLayoutParams)) return;
 
@@ -151,6 +151,12 @@ public class ComponentViewController extends ChildController<ComponentLayout> {
             presenter.applyTopInsets(view, getTopInset());
     }
 
+    @Override
+    public void applyTopInsetOffset(int offset) {
+        if (view != null)
+            presenter.applyTopInsetOffset(view, offset);
+    }
+
     @Override
     public int getTopInset() {
         int statusBarInset = resolveCurrentOptions(presenter.defaultOptions).statusBar.isHiddenOrDrawBehind() ? 0
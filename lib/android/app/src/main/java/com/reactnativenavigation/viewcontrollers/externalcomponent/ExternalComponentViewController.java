@@ -70,6 +70,11 @@ public class ExternalComponentViewController extends ChildController<ExternalCom
         if (view != null) presenter.applyTopInsets(view, getTopInset());
     }
 
+    @Override
+    public void applyTopInsetOffset(int offset) {
+        if (view != null) presenter.applyTopInsetOffset(view, offset);
+    }
+
     @Override
     public int getTopInset() {
         int statusBarInset = resolveCurrentOptions().statusBar.drawBehind.isTrue() ? 0 : SystemUiUtils.getStatusBarHeight(getActivity());
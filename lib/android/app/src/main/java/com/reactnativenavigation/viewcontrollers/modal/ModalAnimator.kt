@@ -9,20 +9,28 @@ import com.reactnativenavigation.options.FadeAnimation
 import com.reactnativenavigation.options.StackAnimationOptions
 import com.reactnativenavigation.options.TransitionAnimationOptions
 import com.reactnativenavigation.options.params.Bool
+import com.reactnativenavigation.profiling.CommandTrace
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType
+import com.reactnativenavigation.profiling.TransitionJankMonitor
+import com.reactnativenavigation.profiling.traceSection
 import com.reactnativenavigation.utils.ScreenAnimationListener
 import com.reactnativenavigation.utils.awaitRender
+import com.reactnativenavigation.viewcontrollers.common.AnimatorSetFactory
 import com.reactnativenavigation.viewcontrollers.common.BaseAnimator
+import com.reactnativenavigation.viewcontrollers.common.HardwareLayers
+import com.reactnativenavigation.viewcontrollers.common.TransitionReverser
+import com.reactnativenavigation.viewcontrollers.common.TransitionScope
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
+import com.reactnativenavigation.views.element.ReadinessBudget
 import com.reactnativenavigation.views.element.TransitionAnimatorCreator
-import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.GlobalScope
-import kotlinx.coroutines.launch
 import java.util.*
 
 open class ModalAnimator @JvmOverloads constructor(
         context: Context,
         private val transitionAnimatorCreator: TransitionAnimatorCreator = TransitionAnimatorCreator(),
-        private val defaultAnimation: StackAnimationOptions = FadeAnimation
+        private val defaultAnimation: StackAnimationOptions = FadeAnimation,
+        private val animatorSetFactory: AnimatorSetFactory = AnimatorSetFactory.default,
+        private val transitionScope: TransitionScope = TransitionScope()
 ) : BaseAnimator(context) {
     val isRunning: Boolean
         get() = runningAnimators.isNotEmpty()
@@ -37,23 +45,37 @@ open class ModalAnimator @JvmOverloads constructor(
             animationOptions: TransitionAnimationOptions,
             listener: ScreenAnimationListener
     ) {
-        val set = createShowModalAnimator(appearing, listener)
+        traceSection("RNN.ModalAnimator.show") { startShow(appearing, disappearing, animationOptions, listener) }
+    }
+
+    private fun startShow(
+            appearing: ViewController<*>,
+            disappearing: ViewController<*>?,
+            animationOptions: TransitionAnimationOptions,
+            listener: ScreenAnimationListener
+    ) {
+        val set = createShowModalAnimator(appearing, listener, CommandTrace.current())
         runningAnimators[appearing] = set
+        TransitionJankMonitor.getInstance().monitor(set, TransitionType.ShowModal, appearing.currentComponentName, animationOptions.hasElementTransitions() && disappearing != null, appearing.view)
         if (animationOptions.hasElementTransitions() && disappearing != null) {
-            showModalWithElementTransition(appearing, disappearing, animationOptions, set)
+            showModalWithElementTransition(appearing, disappearing, animationOptions, set, listener)
         } else {
             showModalWithoutElementTransition(appearing, disappearing, animationOptions, set)
         }
-
     }
 
-    private fun showModalWithElementTransition(appearing: ViewController<*>, disappearing: ViewController<*>, animationOptions: TransitionAnimationOptions, set: AnimatorSet) {
-        GlobalScope.launch(Dispatchers.Main.immediate) {
+    private fun showModalWithElementTransition(appearing: ViewController<*>, disappearing: ViewController<*>, animationOptions: TransitionAnimationOptions, set: AnimatorSet, listener: ScreenAnimationListener) {
+        val onCancelled = {
+            appearing.view.alpha = 1f
+            if (runningAnimators.remove(appearing) != null) listener.onCancel()
+        }
+        transitionScope.launch(appearing, onCancelled) {
             appearing.setWaitForRender(Bool(true))
             appearing.view.alpha = 0f
-            appearing.awaitRender()
+            val budget = ReadinessBudget()
+            budget.await { appearing.awaitRender() }
             val appearingFade = if (animationOptions.enter.isFadeAnimation()) animationOptions.enter else defaultAnimation.content.enter
-            val transitionAnimators = transitionAnimatorCreator.create(animationOptions, appearingFade, disappearing, appearing)
+            val transitionAnimators = transitionAnimatorCreator.create(animationOptions, appearingFade, disappearing, appearing, budget)
             set.playTogether(appearingFade.getAnimation(appearing.view), transitionAnimators)
             transitionAnimators.listeners.forEach { animatorListener: Animator.AnimatorListener -> set.addListener(animatorListener) }
             transitionAnimators.removeAllListeners()
@@ -62,7 +84,7 @@ open class ModalAnimator @JvmOverloads constructor(
     }
 
     private fun showModalWithoutElementTransition(appearing: ViewController<*>, disappearing: ViewController<*>?, animationOptions: TransitionAnimationOptions, set: AnimatorSet) {
-        GlobalScope.launch(Dispatchers.Main.immediate) {
+        transitionScope.launch(appearing) {
             val appearingAnimation = if (animationOptions.enter.hasValue()) {
                 animationOptions.enter.getAnimation(appearing.view)
             } else getDefaultPushAnimation(appearing.view)
@@ -72,17 +94,32 @@ open class ModalAnimator @JvmOverloads constructor(
             disappearingAnimation?.let {
                 set.playTogether(appearingAnimation, disappearingAnimation)
             } ?: set.playTogether(appearingAnimation)
+            if (shouldUseHardwareLayers(animationOptions, appearing)) {
+                HardwareLayers.apply(set, appearing.view, disappearingAnimation?.let { disappearing?.view })
+            }
             set.start()
         }
     }
 
     open fun dismiss(appearing: ViewController<*>?, disappearing: ViewController<*>, animationOptions: TransitionAnimationOptions, listener: ScreenAnimationListener) {
-        GlobalScope.launch(Dispatchers.Main.immediate) {
-            if (runningAnimators.containsKey(disappearing)) {
-                runningAnimators[disappearing]?.cancel()
+        traceSection("RNN.ModalAnimator.dismiss") { startDismiss(appearing, disappearing, animationOptions, listener) }
+    }
+
+    private fun startDismiss(appearing: ViewController<*>?, disappearing: ViewController<*>, animationOptions: TransitionAnimationOptions, listener: ScreenAnimationListener) {
+        val trace = CommandTrace.current()
+        val isShowing = runningAnimators.containsKey(disappearing)
+        val show = runningAnimators[disappearing]
+        transitionScope.launch(disappearing) {
+            if (show != null && TransitionReverser.reverse(show) { createDismissAnimator(disappearing, listener, trace) }) {
+                return@launch
+            }
+            if (isShowing) {
+                show?.cancel()
+                runningAnimators.remove(disappearing)
                 listener.onEnd()
             } else {
-                val set = createDismissAnimator(disappearing, listener)
+                val set = createDismissAnimator(disappearing, listener, trace)
+                TransitionJankMonitor.getInstance().monitor(set, TransitionType.DismissModal, disappearing.currentComponentName, animationOptions.hasElementTransitions() && appearing != null, disappearing.view)
                 if (animationOptions.hasElementTransitions() && appearing != null) {
                     setupDismissAnimationWithSharedElementTransition(disappearing, appearing, animationOptions, set)
                 } else {
@@ -95,14 +132,21 @@ open class ModalAnimator @JvmOverloads constructor(
                     appearingAnimation?.let {
                         set.playTogether(appearingAnimation, disappearingAnimation)
                     } ?: set.playTogether(disappearingAnimation)
+                    if (shouldUseHardwareLayers(animationOptions, disappearing)) {
+                        HardwareLayers.apply(set, disappearing.view, appearingAnimation?.let { appearing?.view })
+                    }
                 }
                 set.start()
             }
         }
     }
 
-    private fun createShowModalAnimator(appearing: ViewController<*>, listener: ScreenAnimationListener): AnimatorSet {
-        val set = AnimatorSet()
+    private fun shouldUseHardwareLayers(animationOptions: TransitionAnimationOptions, modal: ViewController<*>) =
+            HardwareLayers.isEnabled(animationOptions.hardwareLayer) && !HardwareLayers.isScrollDependent(modal.resolveCurrentOptions())
+
+    private fun createShowModalAnimator(appearing: ViewController<*>, listener: ScreenAnimationListener, trace: CommandTrace?): AnimatorSet {
+        val set = animatorSetFactory.create(TransitionType.ShowModal)
+        CommandTrace.traceAnimation(set, trace)
         set.addListener(object : AnimatorListenerAdapter() {
             private var isCancelled = false
             override fun onAnimationStart(animation: Animator) {
@@ -123,8 +167,9 @@ open class ModalAnimator @JvmOverloads constructor(
         return set
     }
 
-    private fun createDismissAnimator(disappearing: ViewController<*>, listener: ScreenAnimationListener): AnimatorSet {
-        val set = AnimatorSet()
+    private fun createDismissAnimator(disappearing: ViewController<*>, listener: ScreenAnimationListener, trace: CommandTrace?): AnimatorSet {
+        val set = animatorSetFactory.create(TransitionType.DismissModal)
+        CommandTrace.traceAnimation(set, trace)
         set.addListener(object : AnimatorListenerAdapter() {
             private var isCancelled = false
             override fun onAnimationStart(animation: Animator) {
@@ -6,6 +6,7 @@ import android.view.ViewGroup;
 
 import com.reactnativenavigation.options.ModalPresentationStyle;
 import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.profiling.NavigationMetrics;
 import com.reactnativenavigation.react.CommandListener;
 import com.reactnativenavigation.react.CommandListenerAdapter;
 import com.reactnativenavigation.react.events.EventEmitter;
@@ -58,15 +59,18 @@ public class ModalStack {
     }
 
     public void showModal(ViewController<?> viewController, ViewController<?> root, CommandListener listener) {
+        long start = NavigationMetrics.getInstance().startTimer();
         ViewController<?> toRemove = isEmpty() ? root : peek();
         modals.add(viewController);
         viewController.setOverlay(overlay);
         presenter.showModal(viewController, toRemove, listener);
+        NavigationMetrics.getInstance().recordSince(NavigationMetrics.ShowModal, start);
     }
 
     public boolean dismissModal(String componentId, @Nullable ViewController<?> root, CommandListener listener) {
         ViewController<?> toDismiss = findModalByComponentId(componentId);
         if (toDismiss != null) {
+            long start = NavigationMetrics.getInstance().startTimer();
             boolean isDismissingTopModal = isTop(toDismiss);
             modals.remove(toDismiss);
             @Nullable ViewController<?> toAdd = isEmpty() ? root : isDismissingTopModal ? get(size() - 1) : null;
@@ -83,6 +87,7 @@ public class ModalStack {
                     super.onSuccess(toDismiss.getId());
                 }
             });
+            NavigationMetrics.getInstance().recordSince(NavigationMetrics.DismissModal, start);
             return true;
         } else {
             listener.onError("Nothing to dismiss");
@@ -14,6 +14,7 @@ import androidx.core.view.WindowInsetsCompat;
 
 import com.facebook.react.ReactInstanceManager;
 import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.profiling.NavigationMetrics;
 import com.reactnativenavigation.react.CommandListener;
 import com.reactnativenavigation.react.CommandListenerAdapter;
 import com.reactnativenavigation.react.events.EventEmitter;
@@ -164,10 +165,12 @@ public class Navigator extends ParentController<ViewGroup> {
     }
 
     public void mergeOptions(final String componentId, Options options) {
+        long start = NavigationMetrics.getInstance().startTimer();
         ViewController<?> target = findController(componentId);
         if (target != null) {
             target.mergeOptions(options);
         }
+        NavigationMetrics.getInstance().recordSince(NavigationMetrics.OptionsMerge, start);
     }
 
     public void push(final String id, final ViewController<?> viewController, CommandListener listener) {
@@ -11,19 +11,27 @@ import com.reactnativenavigation.options.FadeAnimation
 import com.reactnativenavigation.options.Options
 import com.reactnativenavigation.options.StackAnimationOptions
 import com.reactnativenavigation.options.params.Bool
+import com.reactnativenavigation.profiling.CommandTrace
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType
+import com.reactnativenavigation.profiling.TransitionJankMonitor
+import com.reactnativenavigation.profiling.traceSection
 import com.reactnativenavigation.utils.awaitRender
 import com.reactnativenavigation.utils.resetViewProperties
+import com.reactnativenavigation.viewcontrollers.common.AnimatorSetFactory
 import com.reactnativenavigation.viewcontrollers.common.BaseAnimator
+import com.reactnativenavigation.viewcontrollers.common.HardwareLayers
+import com.reactnativenavigation.viewcontrollers.common.TransitionReverser
+import com.reactnativenavigation.viewcontrollers.common.TransitionScope
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
+import com.reactnativenavigation.views.element.ReadinessBudget
 import com.reactnativenavigation.views.element.TransitionAnimatorCreator
-import kotlinx.coroutines.Dispatchers
-import kotlinx.coroutines.GlobalScope
-import kotlinx.coroutines.launch
 import java.util.*
 
 open class StackAnimator @JvmOverloads constructor(
         context: Context,
-        private val transitionAnimatorCreator: TransitionAnimatorCreator = TransitionAnimatorCreator()
+        private val transitionAnimatorCreator: TransitionAnimatorCreator = TransitionAnimatorCreator(),
+        private val animatorSetFactory: AnimatorSetFactory = AnimatorSetFactory.default,
+        private val transitionScope: TransitionScope = TransitionScope()
 ) : BaseAnimator(context) {
     @VisibleForTesting
     val runningPushAnimations: MutableMap<ViewController<*>, AnimatorSet> = HashMap()
@@ -43,6 +51,7 @@ open class StackAnimator @JvmOverloads constructor(
     }
 
     fun cancelAllAnimations() {
+        transitionScope.cancelAll()
         runningPushAnimations.clear()
         runningPopAnimations.clear()
         runningSetRootAnimations.clear()
@@ -55,9 +64,23 @@ open class StackAnimator @JvmOverloads constructor(
             additionalAnimations: List<Animator>,
             onAnimationEnd: Runnable
     ) {
-        val set = createSetRootAnimator(appearing, onAnimationEnd)
+        traceSection("RNN.StackAnimator.setRoot") { startSetRoot(appearing, disappearing, options, additionalAnimations, onAnimationEnd) }
+    }
+
+    private fun startSetRoot(
+            appearing: ViewController<*>,
+            disappearing: ViewController<*>,
+            options: Options,
+            additionalAnimations: List<Animator>,
+            onAnimationEnd: Runnable
+    ) {
+        val set = createSetRootAnimator(appearing, onAnimationEnd, CommandTrace.current())
         runningSetRootAnimations[appearing] = set
+        TransitionJankMonitor.getInstance().monitor(set, TransitionType.SetStackRoot, appearing.currentComponentName, false, appearing.view)
         val setRoot = options.animations.setStackRoot
+        if (HardwareLayers.isEnabled(setRoot.hardwareLayer) && !HardwareLayers.isScrollDependent(options)) {
+            HardwareLayers.apply(set, appearing.view, if (setRoot.content.exit.hasValue()) disappearing.view else null)
+        }
         if (setRoot.waitForRender.isTrue) {
             appearing.view.alpha = 0f
             appearing.addOnAppearedListener {
@@ -76,10 +99,21 @@ open class StackAnimator @JvmOverloads constructor(
             additionalAnimations: List<Animator>,
             onAnimationEnd: Runnable
     ) {
-        val set = createPushAnimator(appearing, onAnimationEnd)
+        traceSection("RNN.StackAnimator.push") { startPush(appearing, disappearing, resolvedOptions, additionalAnimations, onAnimationEnd) }
+    }
+
+    private fun startPush(
+            appearing: ViewController<*>,
+            disappearing: ViewController<*>,
+            resolvedOptions: Options,
+            additionalAnimations: List<Animator>,
+            onAnimationEnd: Runnable
+    ) {
+        val set = createPushAnimator(appearing, onAnimationEnd, CommandTrace.current())
         runningPushAnimations[appearing] = set
+        TransitionJankMonitor.getInstance().monitor(set, TransitionType.Push, appearing.currentComponentName, resolvedOptions.animations.push.sharedElements.hasValue(), appearing.view)
         if (resolvedOptions.animations.push.sharedElements.hasValue()) {
-            pushWithElementTransition(appearing, disappearing, resolvedOptions, set)
+            pushWithElementTransition(appearing, disappearing, resolvedOptions, set, onAnimationEnd)
         } else {
             pushWithoutElementTransitions(appearing, disappearing, resolvedOptions, set, additionalAnimations)
         }
@@ -92,16 +126,33 @@ open class StackAnimator @JvmOverloads constructor(
             additionalAnimations: List<Animator>,
             onAnimationEnd: Runnable
     ) {
-        if (runningPushAnimations.containsKey(disappearing)) {
-            runningPushAnimations[disappearing]!!.cancel()
-            onAnimationEnd.run()
+        traceSection("RNN.StackAnimator.pop") { startPop(appearing, disappearing, disappearingOptions, additionalAnimations, onAnimationEnd) }
+    }
+
+    private fun startPop(
+            appearing: ViewController<*>,
+            disappearing: ViewController<*>,
+            disappearingOptions: Options,
+            additionalAnimations: List<Animator>,
+            onAnimationEnd: Runnable
+    ) {
+        val trace = CommandTrace.current()
+        val push = runningPushAnimations[disappearing]
+        if (push != null) {
+            transitionScope.cancel(disappearing)
+            if (!TransitionReverser.reverse(push) { createPopAnimator(disappearing, onAnimationEnd, trace) }) {
+                push.cancel()
+                runningPushAnimations.remove(disappearing)
+                onAnimationEnd.run()
+            }
         } else {
             animatePop(
                     appearing,
                     disappearing,
                     disappearingOptions,
                     additionalAnimations,
-                    onAnimationEnd
+                    onAnimationEnd,
+                    trace
             )
         }
     }
@@ -111,10 +162,12 @@ open class StackAnimator @JvmOverloads constructor(
             disappearing: ViewController<*>,
             disappearingOptions: Options,
             additionalAnimations: List<Animator>,
-            onAnimationEnd: Runnable
+            onAnimationEnd: Runnable,
+            trace: CommandTrace?
     ) {
-        GlobalScope.launch(Dispatchers.Main.immediate) {
-            val set = createPopAnimator(disappearing, onAnimationEnd)
+        transitionScope.launch(disappearing) {
+            val set = createPopAnimator(disappearing, onAnimationEnd, trace)
+            TransitionJankMonitor.getInstance().monitor(set, TransitionType.Pop, disappearing.currentComponentName, disappearingOptions.animations.pop.sharedElements.hasValue(), disappearing.view)
             if (disappearingOptions.animations.pop.sharedElements.hasValue()) {
                 popWithElementTransitions(appearing, disappearing, disappearingOptions, set)
             } else {
@@ -141,6 +194,9 @@ open class StackAnimator @JvmOverloads constructor(
             additionalAnimations: List<Animator>
     ) {
         val pop = disappearingOptions.animations.pop
+        if (HardwareLayers.isEnabled(pop.hardwareLayer) && !HardwareLayers.isScrollDependent(disappearingOptions)) {
+            HardwareLayers.apply(set, disappearing.view, if (pop.content.enter.hasValue()) appearing.view else null)
+        }
         val animators = mutableListOf(pop.content.exit.getAnimation(disappearing.view, getDefaultPopAnimation(disappearing.view)))
         animators.addAll(additionalAnimations)
         if (pop.content.enter.hasValue()) {
@@ -151,8 +207,9 @@ open class StackAnimator @JvmOverloads constructor(
         set.start()
     }
 
-    private fun createPopAnimator(disappearing: ViewController<*>, onAnimationEnd: Runnable): AnimatorSet {
-        val set = createAnimatorSet()
+    private fun createPopAnimator(disappearing: ViewController<*>, onAnimationEnd: Runnable, trace: CommandTrace?): AnimatorSet {
+        val set = createAnimatorSet(TransitionType.Pop)
+        CommandTrace.traceAnimation(set, trace)
         runningPopAnimations[disappearing] = set
         set.addListener(object : AnimatorListenerAdapter() {
             private var cancelled = false
@@ -171,8 +228,9 @@ open class StackAnimator @JvmOverloads constructor(
         return set
     }
 
-    private fun createPushAnimator(appearing: ViewController<*>, onAnimationEnd: Runnable): AnimatorSet {
-        val set = createAnimatorSet()
+    private fun createPushAnimator(appearing: ViewController<*>, onAnimationEnd: Runnable, trace: CommandTrace?): AnimatorSet {
+        val set = createAnimatorSet(TransitionType.Push)
+        CommandTrace.traceAnimation(set, trace)
         set.addListener(object : AnimatorListenerAdapter() {
             private var isCancelled = false
             override fun onAnimationCancel(animation: Animator) {
@@ -193,8 +251,9 @@ open class StackAnimator @JvmOverloads constructor(
         return set
     }
 
-    private fun createSetRootAnimator(appearing: ViewController<*>, onAnimationEnd: Runnable): AnimatorSet {
-        val set = createAnimatorSet()
+    private fun createSetRootAnimator(appearing: ViewController<*>, onAnimationEnd: Runnable, trace: CommandTrace?): AnimatorSet {
+        val set = createAnimatorSet(TransitionType.SetStackRoot)
+        CommandTrace.traceAnimation(set, trace)
         set.addListener(object : AnimatorListenerAdapter() {
             private var isCancelled = false
             override fun onAnimationCancel(animation: Animator) {
@@ -219,13 +278,18 @@ open class StackAnimator @JvmOverloads constructor(
             appearing: ViewController<*>,
             disappearing: ViewController<*>,
             options: Options,
-            set: AnimatorSet
-    ) = GlobalScope.launch(Dispatchers.Main.immediate) {
+            set: AnimatorSet,
+            onAnimationEnd: Runnable
+    ) = transitionScope.launch(appearing, onCancelled = {
+        appearing.view.alpha = 1f
+        if (runningPushAnimations.remove(appearing) != null) onAnimationEnd.run()
+    }) {
         appearing.setWaitForRender(Bool(true))
         appearing.view.alpha = 0f
-        appearing.awaitRender()
+        val budget = ReadinessBudget()
+        budget.await { appearing.awaitRender() }
         val fade = if (options.animations.push.content.enter.isFadeAnimation()) options.animations.push.content.enter else FadeAnimation.content.enter
-        val transitionAnimators = transitionAnimatorCreator.create(options.animations.push, fade, disappearing, appearing)
+        val transitionAnimators = transitionAnimatorCreator.create(options.animations.push, fade, disappearing, appearing, budget)
         set.playTogether(fade.getAnimation(appearing.view), transitionAnimators)
         transitionAnimators.listeners.forEach { listener: Animator.AnimatorListener -> set.addListener(listener) }
         transitionAnimators.removeAllListeners()
@@ -240,6 +304,9 @@ open class StackAnimator @JvmOverloads constructor(
             additionalAnimations: List<Animator>
     ) {
         val push = resolvedOptions.animations.push
+        if (HardwareLayers.isEnabled(push.hardwareLayer) && !HardwareLayers.isScrollDependent(resolvedOptions)) {
+            HardwareLayers.apply(set, appearing.view, if (push.content.exit.hasValue()) disappearing.view else null)
+        }
         if (push.waitForRender.isTrue) {
             appearing.view.alpha = 0f
             appearing.addOnAppearedListener {
@@ -289,7 +356,7 @@ open class StackAnimator @JvmOverloads constructor(
         set.start()
     }
 
-    protected open fun createAnimatorSet(): AnimatorSet = AnimatorSet()
+    protected open fun createAnimatorSet(type: TransitionType): AnimatorSet = animatorSetFactory.create(type)
 
     @RestrictTo(RestrictTo.Scope.TESTS)
     fun endPushAnimation(view: ViewController<*>) {
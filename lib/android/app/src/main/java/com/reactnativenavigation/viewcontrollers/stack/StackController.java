@@ -22,6 +22,7 @@ import com.facebook.react.ReactRootView;
 import com.reactnativenavigation.options.ButtonOptions;
 import com.reactnativenavigation.options.Options;
 import com.reactnativenavigation.options.StackAnimationOptions;
+import com.reactnativenavigation.profiling.NavigationMetrics;
 import com.reactnativenavigation.react.CommandListener;
 import com.reactnativenavigation.react.CommandListenerAdapter;
 import com.reactnativenavigation.react.events.EventEmitter;
@@ -170,6 +171,12 @@ public class StackController extends ParentController<StackLayout> {
     }
 
     public void push(ViewController<?> child, CommandListener listener) {
+        long start = NavigationMetrics.getInstance().startTimer();
+        performPush(child, listener);
+        NavigationMetrics.getInstance().recordSince(NavigationMetrics.StackPush, start);
+    }
+
+    private void performPush(ViewController<?> child, CommandListener listener) {
         if (findController(child.getId()) != null) {
             listener.onError("A stack can't contain two children with the same id: " + child.getId());
             return;
@@ -317,6 +324,12 @@ public class StackController extends ParentController<StackLayout> {
     }
 
     public void pop(Options mergeOptions, CommandListener listener) {
+        long start = NavigationMetrics.getInstance().startTimer();
+        performPop(mergeOptions, listener);
+        NavigationMetrics.getInstance().recordSince(NavigationMetrics.StackPop, start);
+    }
+
+    private void performPop(Options mergeOptions, CommandListener listener) {
         if (!canPop()) {
             listener.onError("Nothing to pop");
             return;
@@ -440,6 +453,9 @@ public class StackController extends ParentController<StackLayout> {
     public StackLayout createView() {
         StackLayout stackLayout = new StackLayout(getActivity(), topBarController, getId());
         presenter.bindView(topBarController, getBottomTabsController());
+        topBarController.setOnAnimationEndListener(() -> {
+            if (TopBarController.getTranslateVisibility() && !isEmpty()) presenter.applyTopInsets(this, peek());
+        });
         addInitialChild(stackLayout);
         return stackLayout;
     }
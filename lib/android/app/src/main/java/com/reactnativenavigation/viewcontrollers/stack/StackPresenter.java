@@ -25,6 +25,8 @@ import com.reactnativenavigation.options.TopTabOptions;
 import com.reactnativenavigation.options.TopTabsOptions;
 import com.reactnativenavigation.options.params.ThemeColour;
 import com.reactnativenavigation.options.parsers.TypefaceLoader;
+import com.reactnativenavigation.profiling.RetentionTracker;
+import com.reactnativenavigation.profiling.Tracing;
 import com.reactnativenavigation.utils.CollectionUtils;
 import com.reactnativenavigation.utils.ObjectUtils;
 import com.reactnativenavigation.utils.RenderChecker;
@@ -46,6 +48,7 @@ import com.reactnativenavigation.views.stack.topbar.titlebar.TitleBarButtonCreat
 import com.reactnativenavigation.views.stack.topbar.titlebar.TitleBarReactViewCreator;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -64,7 +67,7 @@ import static com.reactnativenavigation.utils.CollectionUtils.merge;
 import static com.reactnativenavigation.utils.ObjectUtils.perform;
 import static com.reactnativenavigation.utils.ObjectUtils.take;
 
-public class StackPresenter {
+public class StackPresenter implements RetentionTracker.Holder {
     private static final int DEFAULT_BORDER_COLOR = Color.BLACK;
     private static final double DEFAULT_ELEVATION = 4d;
     private final Activity activity;
@@ -104,6 +107,7 @@ public class StackPresenter {
         this.typefaceLoader = typefaceLoader;
         this.renderChecker = renderChecker;
         this.defaultOptions = defaultOptions;
+        RetentionTracker.getInstance().onHolderCreated(this);
     }
 
     public void setDefaultOptions(Options defaultOptions) {
@@ -170,6 +174,15 @@ public class StackPresenter {
     }
 
     public void applyChildOptions(Options currentChildOptions, StackController stack, ViewController<?> child) {
+        Tracing.beginSection("RNN.StackPresenter.applyChildOptions");
+        try {
+            applyChildOptionsWithDefaults(currentChildOptions, stack, child);
+        } finally {
+            Tracing.endSection();
+        }
+    }
+
+    private void applyChildOptionsWithDefaults(Options currentChildOptions, StackController stack, ViewController<?> child) {
         Options finalChildOptions = currentChildOptions.copy().withDefaultOptions(defaultOptions);
         applyOrientation(finalChildOptions.layout.orientation);
         applyButtons(finalChildOptions.topBar, child);
@@ -733,10 +746,38 @@ public class StackPresenter {
                 (key) -> componentRightButtons.get(child).put(key, rightController));
     }
 
+    @Override
+    public Map<String, Collection<?>> getHeldObjects() {
+        Map<String, Collection<?>> result = new LinkedHashMap<>();
+        result.put("titleControllers", keysAndValues(titleControllers));
+        result.put("backgroundControllers", keysAndValues(backgroundControllers));
+        result.put("componentRightButtons", keysAndButtons(componentRightButtons));
+        result.put("componentLeftButtons", keysAndButtons(componentLeftButtons));
+        return result;
+    }
+
+    private static List<Object> keysAndValues(Map<View, ?> map) {
+        List<Object> result = new ArrayList<>(map.keySet());
+        result.addAll(map.values());
+        return result;
+    }
+
+    private static List<Object> keysAndButtons(Map<View, Map<String, ButtonController>> buttons) {
+        List<Object> result = new ArrayList<>(buttons.keySet());
+        for (Map<String, ButtonController> controllers : buttons.values()) result.addAll(controllers.values());
+        return result;
+    }
+
     public void applyTopInsets(StackController stack, ViewController<?> child) {
-        if (stack.isCurrentChild(child))
-            applyStatusBarInsets(stack, child);
+        boolean isCurrentChild = stack.isCurrentChild(child);
+        Options withDefault = isCurrentChild ? stack.resolveChildOptions(child).withDefaultOptions(defaultOptions) : null;
+        if (isCurrentChild)
+            applyStatusBarInsets(child, withDefault);
         child.applyTopInset();
+        if (TopBarController.getTranslateVisibility() && isCurrentChild) {
+            topBarController.clipToSlot();
+            child.applyTopInsetOffset(getTopInsetOffset(withDefault.topBar));
+        }
     }
 
     private List<ButtonController> getRightButtons(View child) {
@@ -749,19 +790,21 @@ public class StackPresenter {
                 : null;
     }
 
-    private void applyStatusBarInsets(StackController stack, ViewController<?> child) {
+    private void applyStatusBarInsets(ViewController<?> child, Options withDefault) {
         MarginLayoutParams lp = (MarginLayoutParams) topBar.getLayoutParams();
-        lp.topMargin = getTopBarTopMargin(stack, child);
-        topBar.requestLayout();
+        int topMargin = getTopBarTopMargin(child, withDefault);
+        if (lp.topMargin != topMargin) {
+            lp.topMargin = topMargin;
+            topBar.requestLayout();
+        }
     }
 
     private int getTopBarTranslationAnimationDelta(StackController stack, ViewController<?> child) {
-        Options options = stack.resolveChildOptions(child).withDefaultOptions(defaultOptions);
-        return options.statusBar.hasTransparency() ? getTopBarTopMargin(stack, child) : 0;
+        Options withDefault = stack.resolveChildOptions(child).withDefaultOptions(defaultOptions);
+        return withDefault.statusBar.hasTransparency() ? getTopBarTopMargin(child, withDefault) : 0;
     }
 
-    private int getTopBarTopMargin(StackController stack, ViewController<?> child) {
-        Options withDefault = stack.resolveChildOptions(child).withDefaultOptions(defaultOptions);
+    private int getTopBarTopMargin(ViewController<?> child, Options withDefault) {
         int topMargin = UiUtils.dpToPx(activity, withDefault.topBar.topMargin.get(0));
         int statusBarInset = withDefault.statusBar.visible.isTrueOrUndefined()
                 && !withDefault.statusBar.drawBehind.isTrue() ? SystemUiUtils.getStatusBarHeight(child.getActivity())
@@ -770,7 +813,30 @@ public class StackPresenter {
     }
 
     public int getTopInset(Options resolvedOptions) {
-        return resolvedOptions.withDefaultOptions(defaultOptions).topBar.isHiddenOrDrawBehind() ? 0
-                : topBarController.getHeight();
+        TopBarOptions topBarOptions = resolvedOptions.withDefaultOptions(defaultOptions).topBar;
+        if (keepsTopBarSlot(topBarOptions))
+            return topBarOptions.drawBehind.isTrue() ? 0 : topBarController.getHeight();
+        return topBarOptions.isHiddenOrDrawBehind() ? 0 : topBarController.getHeight();
+    }
+
+    /**
+     * Offset of screens which keep their layout while the top bar is hidden, see
+     * {@link TopBarController#getTranslateVisibility()}
+     */
+    public int getTopInsetOffset(Options resolvedOptions) {
+        return getTopInsetOffset(resolvedOptions.withDefaultOptions(defaultOptions).topBar);
+    }
+
+    private int getTopInsetOffset(TopBarOptions topBarOptions) {
+        if (!keepsTopBarSlot(topBarOptions) || topBarOptions.drawBehind.isTrue()) return 0;
+        return topBarController.getVisibleHeight() - topBarController.getHeight();
+    }
+
+    /**
+     * Screens only keep the top bar's slot while it's shown, or while it's moving in or out of its slot. Once the top
+     * bar is hidden by its options and no longer animating, screens are laid out without it.
+     */
+    private boolean keepsTopBarSlot(TopBarOptions topBarOptions) {
+        return TopBarController.getTranslateVisibility() && (topBarOptions.visible.isTrueOrUndefined() || topBarController.isAnimating());
     }
 }
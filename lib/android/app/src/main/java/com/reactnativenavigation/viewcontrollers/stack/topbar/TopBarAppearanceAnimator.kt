@@ -6,6 +6,19 @@ import com.reactnativenavigation.views.stack.topbar.TopBar
 class TopBarAppearanceAnimator @JvmOverloads constructor(view: TopBar? = null)
     : BaseViewAppearanceAnimator<TopBar>(HideDirection.Up, view) {
 
+    var onAnimationEnd: Runnable? = null
+
+    override val hiddenVisibility: Int
+        get() = TopBarController.hiddenVisibility
+
+    override fun onShowAnimationEnd() {
+        onAnimationEnd?.run()
+    }
+
+    override fun onHideAnimationEnd() {
+        onAnimationEnd?.run()
+    }
+
     @Suppress("UNUSED_PARAMETER")
     fun hideOnScroll(translationStart: Float, translationEndDy: Float) {
         // NOOP for now - this entire mechanism needs to be reimplemented as it relies on bridge events which are obsolete in TurboModules config
@@ -25,7 +25,7 @@ class TopBarCollapseBehavior(private val topBar: TopBar) : ScrollEventListener.O
     override fun onScrollUp(nextTranslation: Float) {
         val measuredHeight = topBar.measuredHeight
         if (nextTranslation < -measuredHeight && topBar.visibility == View.VISIBLE) {
-            topBar.visibility = View.GONE
+            topBar.visibility = TopBarController.hiddenVisibility
             topBar.translationY = -measuredHeight.toFloat()
         } else if (nextTranslation > -measuredHeight && nextTranslation <= 0) {
             topBar.translationY = nextTranslation
@@ -34,7 +34,7 @@ class TopBarCollapseBehavior(private val topBar: TopBar) : ScrollEventListener.O
 
     override fun onScrollDown(nextTranslation: Float) {
         val measuredHeight = topBar.measuredHeight
-        if (topBar.visibility == View.GONE && nextTranslation > -measuredHeight) {
+        if (topBar.visibility == TopBarController.hiddenVisibility && nextTranslation > -measuredHeight) {
             topBar.visibility = View.VISIBLE
             topBar.translationY = nextTranslation
         } else if (nextTranslation <= 0 && nextTranslation >= -measuredHeight) {
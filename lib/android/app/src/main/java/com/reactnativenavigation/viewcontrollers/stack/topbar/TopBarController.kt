@@ -3,6 +3,7 @@ package com.reactnativenavigation.viewcontrollers.stack.topbar
 import android.animation.Animator
 import android.animation.AnimatorSet
 import android.content.Context
+import android.graphics.Rect
 import android.graphics.drawable.ColorDrawable
 import android.os.Build
 import android.view.MenuItem
@@ -34,14 +35,45 @@ open class TopBarController(
     private val appearAnimator: TopBarAppearanceAnimator = TopBarAppearanceAnimator(),
     private val colorAnimator: ColorAnimator = ColorAnimator(),
 ) {
+    companion object {
+        /**
+         * When enabled the top bar is hidden by translating it out of its slot and clipping it at the top of the slot,
+         * instead of removing it from the layout. Screens keep the layout they have while the top bar is visible and are
+         * offset by the part of the top bar which is hidden, so showing and hiding the top bar doesn't lay out the screen.
+         */
+        @JvmStatic
+        var translateVisibility = false
+
+        /**
+         * Visibility of the top bar once it's hidden
+         */
+        @JvmStatic
+        val hiddenVisibility: Int
+            get() = if (translateVisibility) View.INVISIBLE else View.GONE
+    }
+
     lateinit var view: TopBar
     private lateinit var leftButtonBar: ButtonBar
     private lateinit var rightButtonBar: ButtonBar
 
     private var hasPendingColorAnim = false
+    private val slotClipBounds = Rect()
 
     val height: Int
         get() = view.height
+
+    /**
+     * Height of the part of the top bar which is currently shown in its slot
+     */
+    val visibleHeight: Int
+        get() = if (view.visibility == View.VISIBLE) (height + view.translationY.toInt()).coerceIn(0, height) else 0
+
+    /**
+     * Whether the top bar is being shown or hidden by an animation
+     */
+    val isAnimating: Boolean
+        get() = appearAnimator.isAnimatingShow() || appearAnimator.isAnimatingHide()
+
     val rightButtonCount: Int
         get() = rightButtonBar.buttonCount
     val leftButtonCount: Int
@@ -177,7 +209,9 @@ open class TopBarController(
     }
 
     fun hide() {
-        if (!appearAnimator.isAnimatingHide()) view.visibility = View.GONE
+        if (appearAnimator.isAnimatingHide()) return
+        view.visibility = hiddenVisibility
+        if (translateVisibility) view.translationY = -height.toFloat()
     }
 
     fun hideAnimate(options: AnimationOptions, additionalDy: Float) {
@@ -185,6 +219,29 @@ open class TopBarController(
         appearAnimator.hide(options, additionalDy)
     }
 
+    /**
+     * Clips the part of the top bar which is translated above its slot, so a hiding top bar doesn't draw over the status
+     * bar. A hidden top bar is kept above its slot, also when it was hidden before it was laid out, so showing it moves
+     * it back into its slot.
+     */
+    fun clipToSlot() {
+        if (view.visibility != View.VISIBLE) view.translationY = -height.toFloat()
+        val hiddenDy = -view.translationY.toInt()
+        if (hiddenDy > 0) {
+            slotClipBounds.set(0, hiddenDy, view.width, view.height)
+            view.clipBounds = slotClipBounds
+        } else {
+            view.clipBounds = null
+        }
+    }
+
+    /**
+     * @param listener invoked when an animation which shows or hides the top bar ends
+     */
+    fun setOnAnimationEndListener(listener: Runnable?) {
+        appearAnimator.onAnimationEnd = listener
+    }
+
     fun setTitleComponent(component: TitleBarReactViewController) {
         view.setTitleComponent(component.view, component.component?.alignment ?: Alignment.Default)
     }
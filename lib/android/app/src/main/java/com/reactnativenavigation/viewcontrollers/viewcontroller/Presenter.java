@@ -16,6 +16,7 @@ import com.reactnativenavigation.options.Options;
 import com.reactnativenavigation.options.OrientationOptions;
 import com.reactnativenavigation.options.StatusBarOptions;
 import com.reactnativenavigation.options.layout.LayoutInsets;
+import com.reactnativenavigation.profiling.Tracing;
 import com.reactnativenavigation.utils.SystemUiUtils;
 import com.reactnativenavigation.viewcontrollers.navigator.Navigator;
 import com.reactnativenavigation.viewcontrollers.parent.ParentController;
@@ -52,6 +53,15 @@ public class Presenter {
     }
 
     public void applyOptions(ViewController view, Options options) {
+        Tracing.beginSection("RNN.Presenter.applyOptions");
+        try {
+            applyOptionsWithDefaults(view, options);
+        } finally {
+            Tracing.endSection();
+        }
+    }
+
+    private void applyOptionsWithDefaults(ViewController view, Options options) {
         Options withDefaultOptions = options.copy().withDefaultOptions(defaultOptions);
         applyOrientation(withDefaultOptions.layout.orientation);
         applyViewOptions(view, withDefaultOptions);
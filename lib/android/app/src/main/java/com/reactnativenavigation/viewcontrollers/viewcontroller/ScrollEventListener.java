@@ -1,13 +1,22 @@
 package com.reactnativenavigation.viewcontrollers.viewcontroller;
 
-import com.facebook.react.uimanager.events.Event;
-import com.facebook.react.uimanager.events.EventDispatcher;
-import com.facebook.react.uimanager.events.EventDispatcherListener;
-import com.facebook.react.views.scroll.ScrollEvent;
-import com.reactnativenavigation.utils.ReflectionUtils;
+import android.view.ViewGroup;
+import android.view.ViewParent;
+
+import com.facebook.react.views.scroll.ReactScrollViewHelper;
+import com.facebook.react.views.scroll.ScrollEventType;
 import com.reactnativenavigation.utils.UiThread;
 
-public class ScrollEventListener implements EventDispatcherListener {
+import java.lang.ref.WeakReference;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Listens to scroll events of scroll views nested in a single screen. Scroll views report their events directly to
+ * this listener through {@link ReactScrollViewHelper}, so unrelated React events (touches, layout, etc) are never
+ * inspected and scroll values are read from the scroll view itself rather than from the dispatched event.
+ */
+public class ScrollEventListener implements ReactScrollViewHelper.ScrollListener {
 
     public interface OnScrollListener {
         void onScrollUp(float nextTranslation);
@@ -27,53 +36,72 @@ public class ScrollEventListener implements EventDispatcherListener {
         float getTranslationY();
     }
 
+    private final ViewGroup screen;
     private ScrollAwareView view;
     private OnScrollListener onScrollListener;
     private OnDragListener dragListener;
-    private EventDispatcher eventDispatcher;
+    private WeakReference<ViewGroup> trackedScrollView = new WeakReference<>(null);
     private int prevScrollY = -1;
     private boolean dragStarted;
 
-    public ScrollEventListener(EventDispatcher eventDispatcher) {
-        this.eventDispatcher = eventDispatcher;
+    public ScrollEventListener(ViewGroup screen) {
+        this.screen = screen;
     }
 
     public void register(ScrollAwareView scrollAwareView, OnScrollListener scrollListener, OnDragListener dragListener) {
         this.view = scrollAwareView;
         this.onScrollListener = scrollListener;
         this.dragListener = dragListener;
-        eventDispatcher.addListener(this);
+        ReactScrollViewHelper.addScrollListener(this);
     }
 
     public void unregister() {
-        eventDispatcher.removeListener(this);
+        ReactScrollViewHelper.removeScrollListener(this);
+        trackedScrollView.clear();
     }
 
     @Override
-    public void onEventDispatch(Event event) {
-        if (event instanceof ScrollEvent) {
-            handleScrollEvent((ScrollEvent) event);
+    public void onScroll(@Nullable ViewGroup scrollView, @Nullable ScrollEventType scrollEventType, float xVelocity, float yVelocity) {
+        if (scrollView == null || scrollEventType == null || !isTracked(scrollView)) return;
+        switch (scrollEventType) {
+            case SCROLL:
+                int scrollY = scrollView.getScrollY();
+                onVerticalScroll(scrollY, prevScrollY);
+                prevScrollY = scrollY;
+                break;
+            case BEGIN_DRAG:
+                onDrag(true, yVelocity);
+                break;
+            case END_DRAG:
+                onDrag(false, yVelocity);
+                break;
         }
     }
 
-    private void handleScrollEvent(ScrollEvent event) {
-        try {
-            if ("topScroll".equals(event.getEventName())) {
-                int scrollY = (int) ReflectionUtils.getDeclaredField(event, "mScrollY");
-                onVerticalScroll(scrollY, prevScrollY);
-                if (scrollY != prevScrollY) {
-                    prevScrollY = scrollY;
-                }
-            } else if ("topScrollBeginDrag".equals(event.getEventName())) {
-                double velocity = (double) ReflectionUtils.getDeclaredField(event, "mYVelocity");
-                onDrag(true, velocity);
-            } else if ("topScrollEndDrag".equals(event.getEventName())) {
-                double velocity = (double) ReflectionUtils.getDeclaredField(event, "mYVelocity");
-                onDrag(false, velocity);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
+    @Override
+    public void onLayout(@Nullable ViewGroup scrollView) {
+
+    }
+
+    private boolean isTracked(ViewGroup scrollView) {
+        if (!screen.isShown()) {
+            trackedScrollView.clear();
+            return false;
+        }
+        if (trackedScrollView.get() == scrollView) return true;
+        if (!isDescendantOfScreen(scrollView)) return false;
+        trackedScrollView = new WeakReference<>(scrollView);
+        prevScrollY = scrollView.getScrollY();
+        return true;
+    }
+
+    private boolean isDescendantOfScreen(ViewGroup scrollView) {
+        ViewParent parent = scrollView.getParent();
+        while (parent != null) {
+            if (parent == screen) return true;
+            parent = parent.getParent();
         }
+        return false;
     }
 
     private void onVerticalScroll(int scrollY, int oldScrollY) {
@@ -110,4 +138,4 @@ public class ScrollEventListener implements EventDispatcherListener {
             }
         });
     }
-}
\ No newline at end of file
+}
@@ -21,6 +21,9 @@ import androidx.coordinatorlayout.widget.CoordinatorLayout;
 import com.reactnativenavigation.options.Options;
 import com.reactnativenavigation.options.params.Bool;
 import com.reactnativenavigation.options.params.NullBool;
+import com.reactnativenavigation.profiling.NavigationMetrics;
+import com.reactnativenavigation.profiling.RetentionTracker;
+import com.reactnativenavigation.profiling.Tracing;
 import com.reactnativenavigation.react.CommandListener;
 import com.reactnativenavigation.utils.Functions.Func1;
 import com.reactnativenavigation.utils.StringUtils;
@@ -41,6 +44,7 @@ public abstract class ViewController<T extends ViewGroup> implements ViewTreeObs
         BehaviourAdapter {
 
     private final List<Runnable> onAppearedListeners = new ArrayList<>();
+    private final List<Runnable> onDestroyListeners = new ArrayList<>();
     private boolean appearEventPosted;
     private boolean isFirstLayout = true;
     private Bool waitForRender = new NullBool();
@@ -90,6 +94,8 @@ public abstract class ViewController<T extends ViewGroup> implements ViewTreeObs
         this.initialOptions = initialOptions;
         this.overlay = overlay;
         options = initialOptions.copy();
+        NavigationMetrics.getInstance().increment(NavigationMetrics.ControllersCreated);
+        RetentionTracker.getInstance().onCreated(this);
     }
 
     public void setWaitForRender(Bool waitForRender) {
@@ -112,6 +118,18 @@ public abstract class ViewController<T extends ViewGroup> implements ViewTreeObs
         onAppearedListeners.remove(onAppearedListener);
     }
 
+    public void addOnDestroyListener(Runnable onDestroyListener) {
+        if (isDestroyed) {
+            onDestroyListener.run();
+        } else {
+            onDestroyListeners.add(onDestroyListener);
+        }
+    }
+
+    public void removeOnDestroyListener(Runnable onDestroyListener) {
+        onDestroyListeners.remove(onDestroyListener);
+    }
+
     public abstract T createView();
 
     public void onSelected(ViewController<?> previousVC) {
@@ -147,7 +165,7 @@ public abstract class ViewController<T extends ViewGroup> implements ViewTreeObs
         getView();
     }
 
-    protected boolean isViewCreated() {
+    public boolean isViewCreated() {
         return view != null;
     }
 
@@ -278,6 +296,15 @@ public abstract class ViewController<T extends ViewGroup> implements ViewTreeObs
 
     @CallSuper
     public void onViewWillAppear() {
+        Tracing.beginSection("RNN.ViewController.onViewWillAppear");
+        try {
+            performViewWillAppear();
+        } finally {
+            Tracing.endSection();
+        }
+    }
+
+    private void performViewWillAppear() {
         isShown = true;
         applyOptions(options);
         performOnParentController(parentController -> {
@@ -308,6 +335,13 @@ public abstract class ViewController<T extends ViewGroup> implements ViewTreeObs
 
     @CallSuper
     public void destroy() {
+        if (!isDestroyed) NavigationMetrics.getInstance().increment(NavigationMetrics.ControllersDestroyed);
+        RetentionTracker.getInstance().onDestroyed(this, view);
+        if (!onDestroyListeners.isEmpty()) {
+            List<Runnable> listeners = new ArrayList<>(onDestroyListeners);
+            onDestroyListeners.clear();
+            forEach(listeners, Runnable::run);
+        }
         if (isShown) {
             isShown = false;
             onViewDisappear();
@@ -429,6 +463,13 @@ public abstract class ViewController<T extends ViewGroup> implements ViewTreeObs
 
     }
 
+    /**
+     * Offsets the content of the view without laying it out, e.g. while the top bar above it is hiding
+     */
+    public void applyTopInsetOffset(int offset) {
+
+    }
+
     public int getTopInset() {
         return 0;
     }
@@ -37,10 +37,16 @@ open class BaseViewAppearanceAnimator<T : View>(
             field.doOnEnd { onHideAnimationEnd() }
         }
 
-    private val showAnimatorListener = AnimatorListener(AnimationState.AnimatingEnter, View.VISIBLE)
-    private val hideAnimatorListener = AnimatorListener(AnimationState.AnimatingExit, View.GONE)
+    private val showAnimatorListener = AnimatorListener(AnimationState.AnimatingEnter)
+    private val hideAnimatorListener = AnimatorListener(AnimationState.AnimatingExit) { hiddenVisibility }
 
-    private inner class AnimatorListener(private val startState: AnimationState, private val endVisibility: Int) : AnimatorListenerAdapter() {
+    /**
+     * Visibility of the view once it's hidden
+     */
+    protected open val hiddenVisibility: Int
+        get() = View.GONE
+
+    private inner class AnimatorListener(private val startState: AnimationState, private val endVisibility: () -> Int = { View.VISIBLE }) : AnimatorListenerAdapter() {
         var isCancelled = false
 
         override fun onAnimationStart(animation: Animator) {
@@ -56,7 +62,7 @@ open class BaseViewAppearanceAnimator<T : View>(
         override fun onAnimationEnd(animation: Animator) {
             if (!isCancelled) {
                 animationState = AnimationState.Idle
-                view.visibility = endVisibility
+                view.visibility = endVisibility()
             }
         }
     }
@@ -71,7 +77,7 @@ open class BaseViewAppearanceAnimator<T : View>(
     val isOrWillBeHidden: Boolean
         get() = isFullyHidden || animationState == AnimationState.AnimatingExit
     private val isFullyHidden: Boolean
-        get() = view.visibility == View.GONE && animationState == AnimationState.Idle
+        get() = view.visibility == hiddenVisibility && animationState == AnimationState.Idle
 
     init {
         view?.let { this.view = it }
@@ -0,0 +1,134 @@
+package com.reactnativenavigation.views.animations
+
+import android.animation.Animator
+import android.animation.AnimatorListenerAdapter
+import android.animation.AnimatorSet
+import android.animation.TimeInterpolator
+import android.animation.ValueAnimator
+import android.util.FloatProperty
+import android.util.Property
+import android.view.View
+import android.view.animation.LinearInterpolator
+import androidx.annotation.VisibleForTesting
+import java.util.*
+import kotlin.math.max
+
+/**
+ * Animates several properties of a single view with one animator, similarly to [android.view.ViewPropertyAnimator].
+ * Unlike ViewPropertyAnimator, this is a regular [ValueAnimator] so it can be played as part of a command's
+ * AnimatorSet, which is what start, end and cancel listeners are attached to.
+ *
+ * Each property keeps its own duration, start delay and interpolator. Compared to an AnimatorSet of ObjectAnimators,
+ * a transition allocates a single animator per view and properties are set directly on every frame.
+ *
+ * Animators returned by [obtain] are taken from a small pool and are returned to it once the transition they were
+ * played in ends, see [recycleOnEnd]. The pool is only accessed from the main thread.
+ */
+class ViewPropertiesAnimator private constructor() : ValueAnimator(), ValueAnimator.AnimatorUpdateListener {
+    private class PropertyAnimation(
+            val property: Property<View, Float>,
+            val from: Float,
+            val to: Float,
+            val startDelay: Long,
+            val duration: Long,
+            val interpolator: TimeInterpolator
+    )
+
+    private val animations = ArrayList<PropertyAnimation>(2)
+    private var totalDuration = 0L
+    private var target: View? = null
+
+    constructor(view: View) : this() {
+        target = view
+    }
+
+    init {
+        setFloatValues(0f, 1f)
+        interpolator = LINEAR
+        addUpdateListener(this)
+    }
+
+    val view: View
+        get() = target ?: throw IllegalStateException("Animator was recycled")
+
+    val propertyCount: Int
+        get() = animations.size
+
+    fun add(property: Property<View, Float>, from: Float, to: Float, startDelay: Long, duration: Long, interpolator: TimeInterpolator): ViewPropertiesAnimator {
+        animations.add(PropertyAnimation(property, from, to, startDelay, duration, interpolator))
+        totalDuration = max(totalDuration, startDelay + duration)
+        super.setDuration(totalDuration)
+        return this
+    }
+
+    override fun onAnimationUpdate(animation: ValueAnimator) {
+        val view = target ?: return
+        val playTime = animatedFraction * totalDuration
+        for (i in animations.indices) {
+            val anim = animations[i]
+            if (playTime < anim.startDelay) continue
+            val fraction = if (anim.duration == 0L) 1f else ((playTime - anim.startDelay) / anim.duration).coerceAtMost(1f)
+            set(view, anim.property, anim.from + (anim.to - anim.from) * anim.interpolator.getInterpolation(fraction))
+        }
+    }
+
+    @Suppress("UNCHECKED_CAST")
+    private fun set(view: View, property: Property<View, Float>, value: Float) {
+        if (property is FloatProperty<*>) {
+            (property as FloatProperty<View>).setValue(view, value)
+        } else {
+            property.set(view, value)
+        }
+    }
+
+    private fun reset() {
+        target = null
+        animations.clear()
+        totalDuration = 0
+        removeAllListeners()
+        removeAllUpdateListeners()
+        addUpdateListener(this)
+        interpolator = LINEAR
+        startDelay = 0
+        super.setDuration(0)
+    }
+
+    companion object {
+        private const val MAX_POOL_SIZE = 8
+        private val LINEAR = LinearInterpolator()
+        private val pool = ArrayDeque<ViewPropertiesAnimator>(MAX_POOL_SIZE)
+
+        @JvmStatic
+        fun obtain(view: View): ViewPropertiesAnimator {
+            val animator = pool.pollFirst() ?: ViewPropertiesAnimator()
+            animator.target = view
+            return animator
+        }
+
+        /**
+         * Returns the animators played by the given set to the pool once the set ends or is cancelled. Animators
+         * which are still running at that point, for example because they're also played by another set, are kept
+         * out of the pool.
+         */
+        @JvmStatic
+        fun recycleOnEnd(set: AnimatorSet) {
+            set.addListener(object : AnimatorListenerAdapter() {
+                override fun onAnimationEnd(animation: Animator) = recycle(set)
+            })
+        }
+
+        private fun recycle(animator: Animator) {
+            when (animator) {
+                is AnimatorSet -> animator.childAnimations.forEach(::recycle)
+                is ViewPropertiesAnimator -> if (!animator.isStarted && animator.target != null && pool.size < MAX_POOL_SIZE) {
+                    animator.reset()
+                    pool.addLast(animator)
+                }
+            }
+        }
+
+        @VisibleForTesting
+        @JvmStatic
+        fun clearPool() = pool.clear()
+    }
+}
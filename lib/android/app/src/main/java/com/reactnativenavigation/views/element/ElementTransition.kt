@@ -13,7 +13,9 @@ class ElementTransition(private val transitionOptions: ElementTransitionOptions)
     override val topInset: Int
         get() = viewController.topInset
 
-    override fun createAnimators(): Animator = transitionOptions.getAnimation(view)
+    override fun createAnimators(): Animator = createAnimators(view)
+
+    fun createAnimators(target: View): Animator = transitionOptions.getAnimation(target)
 
     fun isInvalid(): Boolean = !isValid()
 
@@ -0,0 +1,66 @@
+package com.reactnativenavigation.views.element
+
+import android.os.SystemClock
+import com.reactnativenavigation.profiling.NavigationMetrics
+import kotlinx.coroutines.withTimeoutOrNull
+
+/**
+ * Bounds how long a single element transition waits for its screens and elements to be ready, e.g. for the appearing
+ * screen to render or for the images of shared elements to load. The budget is shared by all waits of the transition
+ * and starts when the budget is created. Waits which are still suspended when the budget elapses are cancelled, and
+ * the elements they waited for fall back to the fade animation of their screen while the rest of the elements animate.
+ *
+ * The total wait of each transition is recorded in [NavigationMetrics.TransitionReadinessWait], transitions which
+ * exceeded their budget are counted by [NavigationMetrics.TransitionReadinessTimeouts].
+ *
+ * @param budgetMs how long the transition may wait, or [UNBOUNDED] to wait until everything is ready
+ */
+class ReadinessBudget @JvmOverloads constructor(private val budgetMs: Long = defaultBudgetMs) {
+    companion object {
+        const val UNBOUNDED = -1L
+        const val DEFAULT_BUDGET_MS = 1000L
+
+        /**
+         * Budget of transitions which aren't given one explicitly
+         */
+        @JvmStatic
+        var defaultBudgetMs = DEFAULT_BUDGET_MS
+    }
+
+    private val deadline = SystemClock.uptimeMillis() + budgetMs
+    private val startToken = NavigationMetrics.getInstance().startTimer()
+
+    /**
+     * Number of waits which were cancelled because the budget elapsed
+     */
+    var timeouts = 0
+        private set
+
+    val isUnbounded: Boolean
+        get() = budgetMs < 0
+
+    val remainingMs: Long
+        get() = if (isUnbounded) Long.MAX_VALUE else (deadline - SystemClock.uptimeMillis()).coerceAtLeast(0)
+
+    /**
+     * Waits for [block] within the remaining budget
+     *
+     * @return the result of [block], or null if the budget elapsed before it completed
+     */
+    suspend fun <T : Any> await(block: suspend () -> T?): T? {
+        if (isUnbounded) return block()
+        var completed = false
+        val result = withTimeoutOrNull(remainingMs) { block().also { completed = true } }
+        if (!completed) timeouts++
+        return result
+    }
+
+    /**
+     * Records the wait of the transition once all of its elements are resolved
+     */
+    fun onReady() {
+        val metrics = NavigationMetrics.getInstance()
+        metrics.recordSince(NavigationMetrics.TransitionReadinessWait, startToken)
+        if (timeouts > 0) metrics.increment(NavigationMetrics.TransitionReadinessTimeouts)
+    }
+}
@@ -1,8 +1,11 @@
 package com.reactnativenavigation.views.element
 
+import android.animation.Animator
 import android.animation.AnimatorSet
+import android.animation.ObjectAnimator
 import android.view.View
 import com.reactnativenavigation.options.SharedElementTransitionOptions
+import com.reactnativenavigation.utils.ViewUtils
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
 import com.reactnativenavigation.views.element.animators.*
 
@@ -32,6 +35,34 @@ class SharedElementTransition(appearing: ViewController<*>, private val options:
         return set
     }
 
+    /**
+     * Moves and scales the snapshots of [from] and [to], both laid out at the bounds of [from], to the bounds of [to]
+     * while cross fading between them
+     */
+    fun createSnapshotAnimators(fromSnapshot: View, toSnapshot: View): AnimatorSet {
+        val fromXy = ViewUtils.getLocationOnScreen(from)
+        val toXy = ViewUtils.getLocationOnScreen(to)
+        val dx = (toXy.x - fromXy.x).toFloat()
+        val dy = (toXy.y - fromXy.y).toFloat()
+        val scaleX = to.width / from.width.coerceAtLeast(1).toFloat()
+        val scaleY = to.height / from.height.coerceAtLeast(1).toFloat()
+        val animators = mutableListOf<Animator>()
+        listOf(fromSnapshot, toSnapshot).forEach {
+            if (dx != 0f) animators.add(ObjectAnimator.ofFloat(it, View.TRANSLATION_X, 0f, dx))
+            if (dy != 0f) animators.add(ObjectAnimator.ofFloat(it, View.TRANSLATION_Y, 0f, dy))
+            if (scaleX != 1f) animators.add(ObjectAnimator.ofFloat(it, View.SCALE_X, 1f, scaleX))
+            if (scaleY != 1f) animators.add(ObjectAnimator.ofFloat(it, View.SCALE_Y, 1f, scaleY))
+        }
+        animators.add(ObjectAnimator.ofFloat(fromSnapshot, View.ALPHA, 1f, 0f))
+        animators.add(ObjectAnimator.ofFloat(toSnapshot, View.ALPHA, 0f, 1f))
+        animators.forEach {
+            it.duration = options.getDuration()
+            it.startDelay = options.getStartDelay()
+            it.interpolator = options.interpolator
+        }
+        return AnimatorSet().apply { playTogether(animators) }
+    }
+
     private fun animators(): List<PropertyAnimatorCreator<*>> {
         return listOf(
                 ReactImageMatrixAnimator(from, to),
@@ -0,0 +1,81 @@
+package com.reactnativenavigation.views.element
+
+import android.animation.Animator
+import android.animation.AnimatorSet
+import android.view.Gravity
+import android.view.View
+import android.widget.FrameLayout
+import androidx.core.animation.doOnCancel
+import androidx.core.animation.doOnEnd
+import androidx.core.animation.doOnStart
+import com.reactnativenavigation.utils.ViewUtils
+import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
+
+/**
+ * Animates shared elements and element transitions through [SnapshotView]s drawn in the overlay of the animated screens.
+ * Unlike [TransitionAnimatorCreator]'s default engine, the real views aren't moved into the overlay - they're hidden in
+ * place for the duration of the transition, so neither screen is laid out again when the transition starts or ends.
+ *
+ * Shared elements are moved and scaled from the bounds of their source to the bounds of their target while cross fading
+ * between the two, and element transitions run their animation on a snapshot of their view. Animating properties which
+ * change the content of a view, such as image scale type, corner radius, background or text color, isn't supported.
+ */
+class SnapshotTransitionAnimatorCreator {
+    fun create(transitions: TransitionSet): AnimatorSet {
+        val snapshots = mutableListOf<Snapshot>()
+        val animators = mutableListOf<Animator>()
+        transitions.validSharedElementTransitions.forEach {
+            val fromSnapshot = createSnapshot(it.viewController, it.from, it.from)
+            val toSnapshot = createSnapshot(it.viewController, it.to, it.from)
+            snapshots.add(fromSnapshot)
+            snapshots.add(toSnapshot)
+            animators.add(it.createSnapshotAnimators(fromSnapshot.view, toSnapshot.view))
+        }
+        transitions.validElementTransitions.forEach {
+            val snapshot = createSnapshot(it.viewController, it.view, it.view)
+            snapshots.add(snapshot)
+            animators.add(it.createAnimators(snapshot.view))
+        }
+        return AnimatorSet().apply {
+            playTogether(animators)
+            doOnStart { snapshots.forEach(Snapshot::show) }
+            doOnEnd { snapshots.forEach(Snapshot::hide) }
+            doOnCancel { snapshots.forEach(Snapshot::hide) }
+        }
+    }
+
+    /**
+     * @param source the view drawn by the snapshot
+     * @param bounds the view whose bounds on screen the snapshot is laid out at
+     */
+    private fun createSnapshot(viewController: ViewController<*>, source: View, bounds: View): Snapshot {
+        val view = SnapshotView(source.context, source)
+        val loc = ViewUtils.getLocationOnScreen(bounds)
+        val lp = FrameLayout.LayoutParams(bounds.width, bounds.height).apply {
+            topMargin = loc.y
+            leftMargin = loc.x
+            gravity = Gravity.NO_GRAVITY
+        }
+        return Snapshot(viewController.parentController ?: viewController, view, lp)
+    }
+
+    private class Snapshot(val overlayController: ViewController<*>, val view: SnapshotView, val lp: FrameLayout.LayoutParams) {
+        private var sourceAlpha = 1f
+        private var isShown = false
+
+        fun show() {
+            if (isShown) return
+            isShown = true
+            overlayController.addOverlay(view, lp)
+            sourceAlpha = view.source.alpha
+            view.source.alpha = 0f
+        }
+
+        fun hide() {
+            if (!isShown) return
+            isShown = false
+            view.source.alpha = sourceAlpha
+            overlayController.removeOverlay(view)
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.reactnativenavigation.views.element
+
+import android.annotation.SuppressLint
+import android.content.Context
+import android.graphics.Canvas
+import android.view.View
+
+/**
+ * Draws the content of another view, scaled to its own bounds, without moving that view out of its hierarchy.
+ * The source is drawn with [View.draw], which ignores the source's own alpha and transformations, so the source can be
+ * hidden in place while its snapshot is shown.
+ *
+ * On hardware accelerated windows the source is recorded into the snapshot's display list, so animating the snapshot's
+ * transformation and alpha doesn't redraw the source.
+ */
+@SuppressLint("ViewConstructor")
+class SnapshotView(context: Context, val source: View) : View(context) {
+    init {
+        setWillNotDraw(false)
+        pivotX = 0f
+        pivotY = 0f
+    }
+
+    override fun onDraw(canvas: Canvas) {
+        if (source.width == 0 || source.height == 0) return
+        val save = canvas.save()
+        canvas.scale(width / source.width.toFloat(), height / source.height.toFloat())
+        source.draw(canvas)
+        canvas.restoreToCount(save)
+    }
+}
@@ -20,14 +20,39 @@ import com.reactnativenavigation.utils.removeFromParent
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
 import java.util.*
 
-open class TransitionAnimatorCreator @JvmOverloads constructor(private val transitionSetCreator: TransitionSetCreator = TransitionSetCreator()) {
+open class TransitionAnimatorCreator @JvmOverloads constructor(
+        private val transitionSetCreator: TransitionSetCreator = TransitionSetCreator(),
+        private val snapshotAnimatorCreator: SnapshotTransitionAnimatorCreator = SnapshotTransitionAnimatorCreator()
+) {
+    companion object {
+        /**
+         * Animate transitions through snapshots drawn in the overlay instead of moving the real views into it.
+         * See [SnapshotTransitionAnimatorCreator].
+         */
+        @JvmStatic
+        var useSnapshots = false
+    }
 
-    suspend fun create(animation: LayoutAnimation, fadeAnimation: AnimationOptions, fromScreen: ViewController<*>, toScreen: ViewController<*>): AnimatorSet {
-        val transitions = transitionSetCreator.create(animation, fromScreen, toScreen)
+    /**
+     * @param budget bounds how long resolving the elements may wait for them to be ready. Elements which aren't ready
+     * when it elapses aren't animated.
+     */
+    suspend fun create(
+            animation: LayoutAnimation,
+            fadeAnimation: AnimationOptions,
+            fromScreen: ViewController<*>,
+            toScreen: ViewController<*>,
+            budget: ReadinessBudget = ReadinessBudget()
+    ): AnimatorSet {
+        val transitions = transitionSetCreator.create(animation, fromScreen, toScreen, budget)
+        budget.onReady()
         return createAnimator(fadeAnimation, transitions)
     }
 
     private fun createAnimator(fadeAnimation: AnimationOptions, transitions: TransitionSet): AnimatorSet {
+        if (useSnapshots) {
+            return snapshotAnimatorCreator.create(transitions).apply { setAnimatorsDuration(childAnimations, fadeAnimation) }
+        }
         recordIndices(transitions)
         reparentViews(transitions)
         val animators = ArrayList<Animator>()
@@ -5,6 +5,7 @@ import com.reactnativenavigation.options.LayoutAnimation
 import com.reactnativenavigation.options.SharedElements
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
 import com.reactnativenavigation.views.element.finder.ExistingViewFinder
+import com.reactnativenavigation.views.element.finder.ViewFinder
 import kotlinx.coroutines.Dispatchers
 import kotlinx.coroutines.async
 import kotlinx.coroutines.awaitAll
@@ -14,13 +15,18 @@ class TransitionSetCreator {
     suspend fun create(
             animation: LayoutAnimation,
             fromScreen: ViewController<*>,
-            toScreen: ViewController<*>
-    ) = TransitionSet().apply {
-        addAll(createSharedElementTransitions(fromScreen, toScreen, animation.sharedElements))
-        addAll(createElementTransitions(fromScreen, toScreen, animation.elementTransitions))
+            toScreen: ViewController<*>,
+            budget: ReadinessBudget = ReadinessBudget()
+    ): TransitionSet {
+        val finder = ExistingViewFinder(budget)
+        return TransitionSet().apply {
+            addAll(createSharedElementTransitions(finder, fromScreen, toScreen, animation.sharedElements))
+            addAll(createElementTransitions(finder, fromScreen, toScreen, animation.elementTransitions))
+        }
     }
 
     private suspend fun createSharedElementTransitions(
+            finder: ViewFinder,
             fromScreen: ViewController<*>,
             toScreen: ViewController<*>,
             sharedElements: SharedElements
@@ -29,8 +35,8 @@ class TransitionSetCreator {
                 .map {
                     async {
                         SharedElementTransition(toScreen, it).apply {
-                            ExistingViewFinder().find(fromScreen, fromId)?.let { from = it }
-                            ExistingViewFinder().find(toScreen, toId)?.let { to = it }
+                            finder.find(fromScreen, fromId)?.let { from = it }
+                            finder.find(toScreen, toId)?.let { to = it }
                         }
                     }
                 }
@@ -39,6 +45,7 @@ class TransitionSetCreator {
     }
 
     private suspend fun createElementTransitions(
+            finder: ViewFinder,
             fromScreen: ViewController<*>,
             toScreen: ViewController<*>,
             elementTransitions: ElementTransitions
@@ -47,11 +54,11 @@ class TransitionSetCreator {
                 .map {
                     async {
                         val transition = ElementTransition(it)
-                        ExistingViewFinder().find(fromScreen, transition.id)?.let {
+                        finder.find(fromScreen, transition.id)?.let {
                             transition.view = it
                             transition.viewController = fromScreen
                         } ?: run {
-                            ExistingViewFinder().find(toScreen, transition.id)?.let {
+                            finder.find(toScreen, transition.id)?.let {
                                 transition.view = it
                                 transition.viewController = toScreen
                             }
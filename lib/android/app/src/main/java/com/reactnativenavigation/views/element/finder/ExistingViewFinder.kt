@@ -3,49 +3,74 @@ package com.reactnativenavigation.views.element.finder
 import android.graphics.drawable.Drawable
 import android.view.View
 import android.widget.ImageView
+import androidx.core.view.OneShotPreDrawListener
 import androidx.core.view.doOnPreDraw
 import com.facebook.drawee.generic.RootDrawable
-import com.facebook.react.uimanager.util.ReactFindViewUtil
+import com.reactnativenavigation.profiling.NavigationMetrics
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
-import kotlin.coroutines.Continuation
+import com.reactnativenavigation.views.element.ReadinessBudget
+import kotlinx.coroutines.suspendCancellableCoroutine
 import kotlin.coroutines.resume
-import kotlin.coroutines.suspendCoroutine
 import kotlin.math.min
 
-class ExistingViewFinder : ViewFinder {
+/**
+ * Finds views by nativeID. The hierarchy of each screen is indexed once, on its first lookup, and the index is reused by
+ * all following lookups in that screen. A finder should therefore be used for the lookups of a single transition set,
+ * while the hierarchies of its screens don't change.
+ *
+ * Images are returned once they're loaded. Waiting for images to load is bounded by the transition's [budget]; images
+ * which aren't loaded when it elapses aren't found.
+ */
+class ExistingViewFinder @JvmOverloads constructor(private val budget: ReadinessBudget = ReadinessBudget()) : ViewFinder {
+    private val indices = HashMap<View, NativeIdIndex>()
 
-    override suspend fun find(root: ViewController<*>, nativeId: String) = suspendCoroutine<View?> { cont ->
-        when (val view = ReactFindViewUtil.findView(root.view, nativeId)) {
-            null -> cont.resume(null)
+    override suspend fun find(root: ViewController<*>, nativeId: String): View? {
+        return when (val view = index(root)[nativeId]) {
             is ImageView -> {
                 if (hasMeasuredDrawable(view)) {
-                    resume(view, cont)
+                    awaitDraw(view)
                 } else {
-                    resumeOnImageLoad(view, cont)
+                    budget.await { awaitImageLoad(view) } ?: run {
+                        NavigationMetrics.getInstance().increment(NavigationMetrics.ElementsNotReady)
+                        null
+                    }
                 }
             }
-            else -> cont.resume(view)
+            else -> view
         }
     }
 
-    private fun resume(view: ImageView, cont: Continuation<View?>) {
-        if (view.drawable is RootDrawable) {
-            view.post { cont.resume(view) }
-        } else {
-            cont.resume(view)
+    private fun index(root: ViewController<*>): NativeIdIndex {
+        val view = root.view
+        return indices[view] ?: NativeIdIndex(view).also { indices[view] = it }
+    }
+
+    private suspend fun awaitDraw(view: ImageView): View {
+        if (view.drawable !is RootDrawable) return view
+        return suspendCancellableCoroutine { cont ->
+            val resume = Runnable { cont.resume(view) }
+            view.post(resume)
+            cont.invokeOnCancellation { view.removeCallbacks(resume) }
         }
     }
 
-    private fun resumeOnImageLoad(view: ImageView, cont: Continuation<View?>) {
-        view.doOnPreDraw {
-            if (hasMeasuredDrawable(view)) {
-                view.post {
-                    cont.resume(view)
+    private suspend fun awaitImageLoad(view: ImageView) = suspendCancellableCoroutine<View> { cont ->
+        val resume = Runnable { cont.resume(view) }
+        var preDrawListener: OneShotPreDrawListener? = null
+        fun resumeOnImageLoad() {
+            preDrawListener = view.doOnPreDraw {
+                if (hasMeasuredDrawable(view)) {
+                    view.post(resume)
+                } else {
+                    resumeOnImageLoad()
                 }
-            } else {
-                resumeOnImageLoad(view, cont)
             }
         }
+        resumeOnImageLoad()
+        cont.invokeOnCancellation {
+            preDrawListener?.removeListener()
+            view.removeCallbacks(resume)
+        }
     }
 
     private fun hasMeasuredDrawable(view: ImageView) = when (view.drawable) {
@@ -0,0 +1,33 @@
+package com.reactnativenavigation.views.element.finder
+
+import android.view.View
+import android.view.ViewGroup
+import com.facebook.react.R
+
+/**
+ * Maps the nativeIDs of a view hierarchy to their views, built in a single traversal of the hierarchy.
+ * Resolves ids like [com.facebook.react.uimanager.util.ReactFindViewUtil.findView]: if several views share an id,
+ * the first one in pre-order wins.
+ *
+ * The index is a snapshot - views added, removed or retagged after it was built aren't reflected in it.
+ */
+class NativeIdIndex(root: View) {
+    private val views = HashMap<String, View>()
+
+    val size: Int
+        get() = views.size
+
+    init {
+        index(root)
+    }
+
+    operator fun get(nativeId: String): View? = views[nativeId]
+
+    private fun index(view: View) {
+        val nativeId = view.getTag(R.id.view_tag_native_id)
+        if (nativeId is String && !views.containsKey(nativeId)) views[nativeId] = view
+        if (view is ViewGroup) {
+            for (i in 0 until view.childCount) index(view.getChildAt(i))
+        }
+    }
+}
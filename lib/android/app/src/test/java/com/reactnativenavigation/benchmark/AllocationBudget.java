@@ -0,0 +1,58 @@
+package com.reactnativenavigation.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.fail;
+
+/**
+ * Measures the bytes allocated by an operation on the calling thread and fails when the median exceeds a budget.
+ * Only the operation is measured; preparing its input, e.g. creating the controller to push, is not. The median
+ * ignores one-off allocations, such as classes loaded or caches filled by a single run, which would otherwise make
+ * the measurement depend on test order.
+ *
+ * <pre>
+ *     AllocationBudget.assertWithinBudget("push", 64 * 1024, 50, this::newScreen, screen -> stack.push(screen, listener));
+ * </pre>
+ */
+public class AllocationBudget {
+    private static final int WARMUP_ITERATIONS = 10;
+
+    public static boolean isSupported() {
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        return threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled();
+    }
+
+    public static void assertWithinBudget(String name, long budgetBytesPerOp, int iterations, Runnable operation) {
+        assertWithinBudget(name, budgetBytesPerOp, iterations, () -> null, ignored -> operation.run());
+    }
+
+    public static <T> void assertWithinBudget(String name, long budgetBytesPerOp, int iterations, Supplier<T> prepare, Consumer<T> operation) {
+        long bytesPerOp = measure(iterations, prepare, operation);
+        String result = String.format(Locale.US, "%s allocated %d B/op, budget is %d B/op", name, bytesPerOp, budgetBytesPerOp);
+        System.out.println(result);
+        if (bytesPerOp > budgetBytesPerOp) fail(result);
+    }
+
+    /**
+     * @return the median number of bytes allocated by a single run of the operation, after {@link #WARMUP_ITERATIONS}
+     * runs which aren't measured.
+     */
+    public static <T> long measure(int iterations, Supplier<T> prepare, Consumer<T> operation) {
+        for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+            operation.accept(prepare.get());
+        }
+        long[] allocated = new long[iterations];
+        for (int i = 0; i < iterations; i++) {
+            T input = prepare.get();
+            long start = Benchmark.allocatedBytes();
+            operation.accept(input);
+            allocated[i] = Benchmark.allocatedBytes() - start;
+        }
+        Arrays.sort(allocated);
+        return allocated[iterations / 2];
+    }
+}
@@ -0,0 +1,110 @@
+package com.reactnativenavigation.benchmark;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.TestActivity;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.options.params.Text;
+import com.reactnativenavigation.react.CommandListenerAdapter;
+import com.reactnativenavigation.react.events.EventEmitter;
+import com.reactnativenavigation.viewcontrollers.bottomtabs.BottomTabsController;
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry;
+import com.reactnativenavigation.viewcontrollers.stack.StackController;
+import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Allocation budgets for the core commands on a standard tree: a root with five tabs, each holding a stack of four
+ * screens. The budgets run with the regular unit tests, so exceeding one fails the build.
+ *
+ * Budgets are per operation and about twice the allocations each test prints to its output, which leaves headroom
+ * for differences between JVM and Robolectric versions. When a change reduces allocations, lower the budget so the
+ * gain can't silently regress.
+ */
+public class AllocationBudgetTest extends BaseTest {
+    private static final int ITERATIONS = 50;
+    private static final long PUSH_BUDGET = 256 * 1024;
+    private static final long POP_BUDGET = 128 * 1024;
+    private static final long MERGE_OPTIONS_BUDGET = 64 * 1024;
+    private static final long SELECT_TAB_BUDGET = 64 * 1024;
+    private static final long RESOLVE_CURRENT_OPTIONS_BUDGET = 48 * 1024;
+
+    private TestActivity activity;
+    private ChildControllersRegistry childRegistry;
+    private List<StackController> stacks;
+    private BottomTabsController bottomTabs;
+    private BenchmarkFixtures fixtures;
+    private int titles;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(AllocationBudget.isSupported());
+        activity = newActivityController(TestActivity.class).setup().get();
+        childRegistry = new ChildControllersRegistry();
+        fixtures = new BenchmarkFixtures(activity, childRegistry, Mockito.mock(EventEmitter.class));
+        stacks = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            StackController stack = fixtures.newStack(fixtures.newScreen());
+            for (int j = 0; j < 3; j++) stack.push(fixtures.newScreen(), new CommandListenerAdapter());
+            stacks.add(stack);
+        }
+        bottomTabs = fixtures.newTabs(new ArrayList<>(stacks));
+        activity.setContentView(bottomTabs.getView());
+        idleMainLooper();
+    }
+
+    @Test
+    public void push() {
+        StackController stack = stacks.get(0);
+        AllocationBudget.assertWithinBudget("push", PUSH_BUDGET, ITERATIONS, fixtures::newScreen, screen -> {
+            stack.push(screen, new CommandListenerAdapter());
+            idleMainLooper();
+        });
+    }
+
+    @Test
+    public void pop() {
+        StackController stack = stacks.get(0);
+        AllocationBudget.assertWithinBudget("pop", POP_BUDGET, ITERATIONS, () -> {
+            stack.push(fixtures.newScreen(), new CommandListenerAdapter());
+            idleMainLooper();
+            return stack;
+        }, s -> {
+            s.pop(Options.EMPTY, new CommandListenerAdapter());
+            idleMainLooper();
+        });
+    }
+
+    @Test
+    public void mergeOptions() {
+        ViewController<?> screen = stacks.get(0).getCurrentChild();
+        AllocationBudget.assertWithinBudget("mergeOptions", MERGE_OPTIONS_BUDGET, ITERATIONS, () -> {
+            Options options = new Options();
+            options.topBar.title.text = new Text("Title " + titles++);
+            return options;
+        }, options -> {
+            screen.mergeOptions(options);
+            idleMainLooper();
+        });
+    }
+
+    @Test
+    public void selectTab() {
+        AllocationBudget.assertWithinBudget("selectTab", SELECT_TAB_BUDGET, ITERATIONS, () -> (bottomTabs.getSelectedIndex() + 1) % stacks.size(), index -> {
+            bottomTabs.selectTab(index);
+            idleMainLooper();
+        });
+    }
+
+    @Test
+    public void resolveCurrentOptions() {
+        AllocationBudget.assertWithinBudget("resolveCurrentOptions", RESOLVE_CURRENT_OPTIONS_BUDGET, ITERATIONS, bottomTabs::resolveCurrentOptions);
+    }
+}
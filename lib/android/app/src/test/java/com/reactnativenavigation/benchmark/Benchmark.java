@@ -0,0 +1,59 @@
+package com.reactnativenavigation.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+
+/**
+ * Minimal harness for benchmarks which run as part of the unit test suite. Benchmarks are skipped unless the
+ * {@code rnn.benchmarks} system property is set, e.g. {@code ./gradlew test -PrnnBenchmarks=true}.
+ */
+public class Benchmark {
+    private static final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static class Result {
+        public final String name;
+        public final long iterations;
+        public final double nanosPerOp;
+        public final double bytesPerOp;
+
+        Result(String name, long iterations, double nanosPerOp, double bytesPerOp) {
+            this.name = name;
+            this.iterations = iterations;
+            this.nanosPerOp = nanosPerOp;
+            this.bytesPerOp = bytesPerOp;
+        }
+
+        public double opsPerSecond() {
+            return nanosPerOp == 0 ? 0 : 1_000_000_000d / nanosPerOp;
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "%-48s %12.1f ns/op %14.0f ops/s %12.1f B/op", name, nanosPerOp, opsPerSecond(), bytesPerOp);
+        }
+    }
+
+    public static boolean isEnabled() {
+        return Boolean.getBoolean("rnn.benchmarks");
+    }
+
+    public static long allocatedBytes() {
+        return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    public static Result run(String name, int warmupIterations, int iterations, Runnable operation) {
+        for (int i = 0; i < warmupIterations; i++) {
+            operation.run();
+        }
+        long startBytes = allocatedBytes();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            operation.run();
+        }
+        long elapsed = System.nanoTime() - startTime;
+        long allocated = allocatedBytes() - startBytes;
+        Result result = new Result(name, iterations, (double) elapsed / iterations, (double) allocated / iterations);
+        System.out.println(result);
+        return result;
+    }
+}
@@ -0,0 +1,79 @@
+package com.reactnativenavigation.benchmark;
+
+import android.app.Activity;
+
+import androidx.annotation.NonNull;
+
+import com.reactnativenavigation.TestUtils;
+import com.reactnativenavigation.mocks.ImageLoaderMock;
+import com.reactnativenavigation.mocks.SimpleViewController;
+import com.reactnativenavigation.mocks.TypefaceLoaderMock;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.options.params.Bool;
+import com.reactnativenavigation.react.events.EventEmitter;
+import com.reactnativenavigation.utils.OptionHelper;
+import com.reactnativenavigation.viewcontrollers.bottomtabs.BottomTabPresenter;
+import com.reactnativenavigation.viewcontrollers.bottomtabs.BottomTabsAnimator;
+import com.reactnativenavigation.viewcontrollers.bottomtabs.BottomTabsController;
+import com.reactnativenavigation.viewcontrollers.bottomtabs.BottomTabsPresenter;
+import com.reactnativenavigation.viewcontrollers.bottomtabs.attacher.BottomTabsAttacher;
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry;
+import com.reactnativenavigation.viewcontrollers.stack.StackController;
+import com.reactnativenavigation.viewcontrollers.viewcontroller.Presenter;
+import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController;
+import com.reactnativenavigation.views.bottomtabs.BottomTabs;
+
+import java.util.List;
+
+/**
+ * Creates the screens, stacks and bottom tabs used by benchmarks and allocation budgets. Screens have their
+ * animations disabled so measurements cover the work done by commands rather than transitions.
+ */
+public class BenchmarkFixtures {
+    private final Activity activity;
+    private final ChildControllersRegistry childRegistry;
+    private final EventEmitter eventEmitter;
+    private int screens;
+
+    public BenchmarkFixtures(Activity activity, ChildControllersRegistry childRegistry, EventEmitter eventEmitter) {
+        this.activity = activity;
+        this.childRegistry = childRegistry;
+        this.eventEmitter = eventEmitter;
+    }
+
+    public SimpleViewController newScreen() {
+        Options options = OptionHelper.createBottomTabOptions();
+        options.animations.push.enabled = new Bool(false);
+        options.animations.pop.enabled = new Bool(false);
+        options.animations.setStackRoot.enabled = new Bool(false);
+        options.animations.setRoot.getEnter().enabled = new Bool(false);
+        options.animations.showModal.getEnter().enabled = new Bool(false);
+        options.animations.dismissModal.getExit().enabled = new Bool(false);
+        return new SimpleViewController(activity, childRegistry, "screen" + ++screens, options);
+    }
+
+    public StackController newStack(ViewController<?> root) {
+        StackController stack = TestUtils.newStackController(activity)
+                .setChildren(root)
+                .setChildRegistry(childRegistry)
+                .build();
+        stack.ensureViewIsCreated();
+        return stack;
+    }
+
+    public BottomTabsController newTabs(List<ViewController<?>> tabs) {
+        BottomTabsPresenter bottomTabsPresenter = new BottomTabsPresenter(tabs, new Options(), new BottomTabsAnimator());
+        return new BottomTabsController(activity, tabs, childRegistry, eventEmitter, ImageLoaderMock.mock(), "tabs", new Options(), new Presenter(activity, new Options()), new BottomTabsAttacher(tabs, bottomTabsPresenter, Options.EMPTY), bottomTabsPresenter, new BottomTabPresenter(activity, tabs, ImageLoaderMock.mock(), new TypefaceLoaderMock(), new Options())) {
+            @NonNull
+            @Override
+            protected BottomTabs createBottomTabs() {
+                return new BottomTabs(activity) {
+                    @Override
+                    protected void createItems() {
+
+                    }
+                };
+            }
+        };
+    }
+}
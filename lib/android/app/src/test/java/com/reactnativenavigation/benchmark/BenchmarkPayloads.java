@@ -0,0 +1,125 @@
+package com.reactnativenavigation.benchmark;
+
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.Iterator;
+
+/**
+ * Realistic layout and options payloads, shaped like the ones sent by the JS side.
+ */
+public class BenchmarkPayloads {
+    private static int ids;
+
+    /**
+     * A bottom tabs root with a stack in each tab.
+     */
+    public static JSONObject tabsRoot(int tabs, int screensPerTab) throws JSONException {
+        JSONArray children = new JSONArray();
+        for (int i = 0; i < tabs; i++) {
+            JSONObject stack = stack(screensPerTab);
+            stack.getJSONObject("data").put("options", new JSONObject().put("bottomTab", bottomTab(i)));
+            children.put(stack);
+        }
+        return node("BottomTabs", new JSONObject().put("options", screenOptions(2)), children);
+    }
+
+    public static JSONObject stack(int depth) throws JSONException {
+        JSONArray children = new JSONArray();
+        for (int i = 0; i < depth; i++) {
+            children.put(component("Screen" + i, screenOptions(2)));
+        }
+        return node("Stack", new JSONObject(), children);
+    }
+
+    public static JSONObject component(String name, JSONObject options) throws JSONException {
+        return node("Component", new JSONObject().put("name", name).put("options", options), new JSONArray());
+    }
+
+    /**
+     * Options of a typical screen with a title, subtitle and the given number of buttons on each side of the TopBar.
+     */
+    public static JSONObject screenOptions(int buttonsPerSide) throws JSONException {
+        JSONArray rightButtons = new JSONArray();
+        JSONArray leftButtons = new JSONArray();
+        for (int i = 0; i < buttonsPerSide; i++) {
+            rightButtons.put(button("right" + i));
+            leftButtons.put(button("left" + i));
+        }
+        JSONObject topBar = new JSONObject()
+                .put("title", new JSONObject().put("text", "Title").put("fontSize", 18).put("color", color(0xFF000000)))
+                .put("subtitle", new JSONObject().put("text", "Subtitle").put("color", color(0xFF666666)))
+                .put("background", new JSONObject().put("color", color(0xFFFFFFFF)))
+                .put("rightButtons", rightButtons)
+                .put("leftButtons", leftButtons);
+        return new JSONObject()
+                .put("topBar", topBar)
+                .put("statusBar", new JSONObject().put("drawBehind", true).put("backgroundColor", color(0xFF000000)))
+                .put("layout", new JSONObject().put("backgroundColor", color(0xFFF5F5F5)).put("orientation", new JSONArray().put("portrait")))
+                .put("animations", new JSONObject().put("push", new JSONObject().put("waitForRender", true)));
+    }
+
+    public static JSONObject button(String id) throws JSONException {
+        return new JSONObject()
+                .put("id", id)
+                .put("text", id)
+                .put("enabled", true)
+                .put("fontSize", 14)
+                .put("color", color(0xFF0000FF))
+                .put("disabledColor", color(0xFF999999));
+    }
+
+    public static JavaOnlyMap toReadableMap(JSONObject json) throws JSONException {
+        JavaOnlyMap result = new JavaOnlyMap();
+        Iterator<String> keys = json.keys();
+        while (keys.hasNext()) {
+            String key = keys.next();
+            Object value = json.get(key);
+            if (value instanceof JSONObject) result.putMap(key, toReadableMap((JSONObject) value));
+            else if (value instanceof JSONArray) result.putArray(key, toReadableArray((JSONArray) value));
+            else if (value instanceof Boolean) result.putBoolean(key, (Boolean) value);
+            else if (value instanceof Number) result.putDouble(key, ((Number) value).doubleValue());
+            else if (value == JSONObject.NULL) result.putNull(key);
+            else result.putString(key, value.toString());
+        }
+        return result;
+    }
+
+    private static JavaOnlyArray toReadableArray(JSONArray json) throws JSONException {
+        JavaOnlyArray result = new JavaOnlyArray();
+        for (int i = 0; i < json.length(); i++) {
+            Object value = json.get(i);
+            if (value instanceof JSONObject) result.pushMap(toReadableMap((JSONObject) value));
+            else if (value instanceof JSONArray) result.pushArray(toReadableArray((JSONArray) value));
+            else if (value instanceof Boolean) result.pushBoolean((Boolean) value);
+            else if (value instanceof Number) result.pushDouble(((Number) value).doubleValue());
+            else if (value == JSONObject.NULL) result.pushNull();
+            else result.pushString(value.toString());
+        }
+        return result;
+    }
+
+    private static JSONObject node(String type, JSONObject data, JSONArray children) throws JSONException {
+        return new JSONObject()
+                .put("id", type + ++ids)
+                .put("type", type)
+                .put("data", data)
+                .put("children", children);
+    }
+
+    private static JSONObject bottomTab(int index) throws JSONException {
+        return new JSONObject()
+                .put("text", "Tab " + index)
+                .put("badge", String.valueOf(index))
+                .put("textColor", color(0xFF888888))
+                .put("selectedTextColor", color(0xFF0000FF));
+    }
+
+    private static JSONObject color(long argb) throws JSONException {
+        return new JSONObject().put("light", (int) argb).put("dark", (int) argb);
+    }
+}
@@ -0,0 +1,61 @@
+package com.reactnativenavigation.benchmark;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.utils.CollectionUtils;
+import com.reactnativenavigation.viewcontrollers.stack.IdStack;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * {@link IdStack} and {@link CollectionUtils} are used on every traversal of the hierarchy, e.g. when resolving options
+ * or looking up a controller by id.
+ */
+public class CollectionsBenchmark extends BaseTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+    private static final int DEPTH = 30;
+
+    private IdStack<Object> stack;
+    private List<Integer> items;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(Benchmark.isEnabled());
+        stack = new IdStack<>();
+        items = new ArrayList<>();
+        for (int i = 0; i < DEPTH; i++) {
+            stack.push("screen" + i, new Object());
+            items.add(i);
+        }
+    }
+
+    @Test
+    public void idStack() {
+        Benchmark.run("IdStack.values(30)", WARMUP, ITERATIONS, stack::values);
+        Benchmark.run("IdStack.containsId(bottom of 30)", WARMUP, ITERATIONS, () -> stack.containsId("screen0"));
+        Benchmark.run("IdStack.peek+isTop", WARMUP, ITERATIONS, () -> {
+            stack.peek();
+            stack.isTop("screen" + (DEPTH - 1));
+        });
+        Object item = new Object();
+        Benchmark.run("IdStack.push+pop", WARMUP, ITERATIONS, () -> {
+            stack.push("pushed", item);
+            stack.pop();
+        });
+    }
+
+    @Test
+    public void collectionUtils() {
+        Benchmark.run("CollectionUtils.map(30)", WARMUP, ITERATIONS, () -> CollectionUtils.map(items, i -> i + 1));
+        Benchmark.run("CollectionUtils.filter(30)", WARMUP, ITERATIONS, () -> CollectionUtils.filter(items, i -> i % 2 == 0));
+        Benchmark.run("CollectionUtils.merge(30, 30)", WARMUP, ITERATIONS, () -> CollectionUtils.merge(items, items));
+        Benchmark.run("CollectionUtils.first(30)", WARMUP, ITERATIONS, () -> CollectionUtils.first(items, i -> i == DEPTH - 1));
+        Benchmark.run("CollectionUtils.forEach(30)", WARMUP, ITERATIONS, () -> CollectionUtils.forEach(items, i -> { }));
+    }
+}
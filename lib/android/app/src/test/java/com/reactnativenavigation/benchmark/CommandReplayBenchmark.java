@@ -0,0 +1,79 @@
+package com.reactnativenavigation.benchmark;
+
+import android.os.Bundle;
+
+import com.facebook.react.ReactInstanceManager;
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.TestActivity;
+import com.reactnativenavigation.options.LayoutFactory;
+import com.reactnativenavigation.profiling.CommandRecorder;
+import com.reactnativenavigation.profiling.RecordedCommand;
+import com.reactnativenavigation.react.events.EventEmitter;
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry;
+import com.reactnativenavigation.viewcontrollers.modal.ModalStack;
+import com.reactnativenavigation.viewcontrollers.navigator.Navigator;
+import com.reactnativenavigation.viewcontrollers.overlay.OverlayManager;
+import com.reactnativenavigation.viewcontrollers.viewcontroller.RootPresenter;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Replays a command recording pulled from a device, turning a real world sequence of commands into a repeatable
+ * benchmark. React is replaced by a mocked ReactInstanceManager so component views are created but never rendered.
+ * <pre>
+ *     adb shell run-as com.example cat cache/rnn-command-recording.jsonl > recording.jsonl
+ *     ./gradlew test -PrnnBenchmarks=true -PrnnReplayFile=$PWD/recording.jsonl --tests '*CommandReplayBenchmark'
+ * </pre>
+ */
+@Config(qualifiers = "xxhdpi")
+public class CommandReplayBenchmark extends BaseTest {
+    private List<RecordedCommand> commands;
+    private CommandReplayer replayer;
+    private TestActivity activity;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(Benchmark.isEnabled());
+        String recording = System.getProperty("rnn.replay.file", "");
+        assumeTrue(!recording.isEmpty());
+        try {
+            commands = CommandRecorder.read(new File(recording));
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        ChildControllersRegistry childRegistry = new ChildControllersRegistry();
+        EventEmitter eventEmitter = Mockito.mock(EventEmitter.class);
+        ReactInstanceManager reactInstanceManager = Mockito.mock(ReactInstanceManager.class);
+        ActivityController<TestActivity> activityController = newActivityController(TestActivity.class);
+        activity = activityController.create().get();
+        ModalStack modalStack = new ModalStack(activity);
+        modalStack.setEventEmitter(eventEmitter);
+        Navigator navigator = new Navigator(activity, childRegistry, modalStack, new OverlayManager(), new RootPresenter());
+        navigator.setEventEmitter(eventEmitter);
+        activity.setNavigator(navigator);
+        navigator.bindViews();
+        activityController.visible();
+        activityController.postCreate(Bundle.EMPTY);
+        idleMainLooper();
+
+        LayoutFactory layoutFactory = new LayoutFactory(reactInstanceManager);
+        layoutFactory.init(activity, eventEmitter, childRegistry, new HashMap<>());
+        replayer = new CommandReplayer(activity, navigator, layoutFactory, reactInstanceManager);
+    }
+
+    @Test
+    public void maximumSpeed() {
+        new MacroBenchmark(activity.getWindow().getDecorView()).run("replay", commands.size(), i -> replayer.replay(commands.get(i)));
+    }
+}
@@ -0,0 +1,171 @@
+package com.reactnativenavigation.benchmark;
+
+import android.app.Activity;
+import android.os.Handler;
+import android.os.Looper;
+import android.util.Log;
+
+import com.facebook.react.ReactInstanceManager;
+import com.reactnativenavigation.options.LayoutFactory;
+import com.reactnativenavigation.options.LayoutNode;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.options.parsers.LayoutNodeParser;
+import com.reactnativenavigation.options.parsers.TypefaceLoader;
+import com.reactnativenavigation.profiling.CommandRecorder;
+import com.reactnativenavigation.profiling.RecordedCommand;
+import com.reactnativenavigation.react.CommandListenerAdapter;
+import com.reactnativenavigation.utils.Now;
+import com.reactnativenavigation.viewcontrollers.navigator.Navigator;
+import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+import androidx.annotation.Nullable;
+
+/**
+ * Feeds commands recorded by {@link CommandRecorder} into a {@link Navigator}, the same way NavigationModule handles them
+ * when they're received from JS. Commands are posted to the main thread either all at once, like a burst of commands
+ * sent as fast as possible, or at the times they were recorded.
+ */
+public class CommandReplayer {
+    public interface Listener {
+        void onCommandReplayed(RecordedCommand command, long durationNanos);
+
+        void onReplayCompleted();
+    }
+
+    private static final String TAG = "RNN.CommandReplayer";
+
+    private final Activity activity;
+    private final Navigator navigator;
+    private final LayoutFactory layoutFactory;
+    private final ReactInstanceManager reactInstanceManager;
+    private final TypefaceLoader typefaceLoader;
+    private final Now now = new Now();
+    private final Handler handler = new Handler(Looper.getMainLooper());
+
+    /**
+     * @param layoutFactory a factory which was already initialized with the activity and the navigator's child registry
+     */
+    public CommandReplayer(Activity activity, Navigator navigator, LayoutFactory layoutFactory, ReactInstanceManager reactInstanceManager) {
+        this.activity = activity;
+        this.navigator = navigator;
+        this.layoutFactory = layoutFactory;
+        this.reactInstanceManager = reactInstanceManager;
+        this.typefaceLoader = new TypefaceLoader(activity);
+    }
+
+    /**
+     * @param realTime whether to replay commands at the times they were recorded, or as fast as possible
+     */
+    public void replay(List<RecordedCommand> commands, boolean realTime, @Nullable Listener listener) {
+        if (commands.isEmpty()) {
+            if (listener != null) listener.onReplayCompleted();
+            return;
+        }
+        long firstTimestamp = commands.get(0).timestampNanos;
+        for (int i = 0; i < commands.size(); i++) {
+            RecordedCommand command = commands.get(i);
+            boolean isLast = i == commands.size() - 1;
+            Runnable task = () -> {
+                long start = now.nanoTime();
+                replay(command);
+                if (listener != null) {
+                    listener.onCommandReplayed(command, now.nanoTime() - start);
+                    if (isLast) listener.onReplayCompleted();
+                }
+            };
+            if (realTime) {
+                handler.postDelayed(task, TimeUnit.NANOSECONDS.toMillis(command.timestampNanos - firstTimestamp));
+            } else {
+                handler.post(task);
+            }
+        }
+    }
+
+    /**
+     * Replays a single command synchronously. Must be called on the main thread.
+     */
+    public void replay(RecordedCommand command) {
+        try {
+            dispatch(command);
+        } catch (JSONException | RuntimeException e) {
+            Log.e(TAG, "Failed to replay " + command, e);
+        }
+    }
+
+    private void dispatch(RecordedCommand command) throws JSONException {
+        String componentId = command.componentId;
+        switch (command.method) {
+            case "setRoot":
+                navigator.setRoot(create(Objects.requireNonNull(command.getArgumentsObject()).getJSONObject("root")), new CommandListenerAdapter(), reactInstanceManager);
+                break;
+            case "setDefaultOptions":
+                Options defaultOptions = parseOptions(command);
+                layoutFactory.setDefaultOptions(defaultOptions);
+                navigator.setDefaultOptions(defaultOptions);
+                break;
+            case "mergeOptions":
+                navigator.mergeOptions(componentId, parseOptions(command));
+                break;
+            case "push":
+                navigator.push(componentId, create(command.getArgumentsObject()), new CommandListenerAdapter());
+                break;
+            case "setStackRoot":
+                JSONArray children = Objects.requireNonNull(command.getArgumentsArray());
+                List<ViewController<?>> controllers = new ArrayList<>();
+                for (int i = 0; i < children.length(); i++) {
+                    controllers.add(create(children.getJSONObject(i)));
+                }
+                navigator.setStackRoot(componentId, controllers, new CommandListenerAdapter());
+                break;
+            case "pop":
+                navigator.pop(componentId, parseOptions(command), new CommandListenerAdapter());
+                break;
+            case "popTo":
+                navigator.popTo(componentId, parseOptions(command), new CommandListenerAdapter());
+                break;
+            case "popToRoot":
+                navigator.popToRoot(componentId, parseOptions(command), new CommandListenerAdapter());
+                break;
+            case "showModal":
+                navigator.showModal(create(command.getArgumentsObject()), new CommandListenerAdapter());
+                break;
+            case "dismissModal":
+                navigator.mergeOptions(componentId, parseOptions(command));
+                navigator.dismissModal(componentId, new CommandListenerAdapter());
+                break;
+            case "dismissAllModals":
+                navigator.dismissAllModals(parseOptions(command), new CommandListenerAdapter());
+                break;
+            case "showOverlay":
+                navigator.showOverlay(create(command.getArgumentsObject()), new CommandListenerAdapter());
+                break;
+            case "dismissOverlay":
+                navigator.dismissOverlay(componentId, new CommandListenerAdapter());
+                break;
+            case "dismissAllOverlays":
+                navigator.dismissAllOverlays(new CommandListenerAdapter());
+                break;
+            default:
+                Log.w(TAG, "Unknown command " + command.method);
+        }
+    }
+
+    private ViewController<?> create(@Nullable JSONObject layout) {
+        LayoutNode layoutTree = LayoutNodeParser.parse(Objects.requireNonNull(layout));
+        return layoutFactory.create(layoutTree);
+    }
+
+    private Options parseOptions(RecordedCommand command) throws JSONException {
+        JSONObject options = command.getArgumentsObject();
+        return options == null ? Options.EMPTY : Options.parse(activity, typefaceLoader, options);
+    }
+}
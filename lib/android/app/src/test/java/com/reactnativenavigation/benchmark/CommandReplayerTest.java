@@ -0,0 +1,129 @@
+package com.reactnativenavigation.benchmark;
+
+import com.facebook.react.ReactInstanceManager;
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.options.LayoutFactory;
+import com.reactnativenavigation.options.LayoutNode;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.profiling.RecordedCommand;
+import com.reactnativenavigation.viewcontrollers.navigator.Navigator;
+import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class CommandReplayerTest extends BaseTest {
+    private Navigator navigator;
+    private LayoutFactory layoutFactory;
+    private ViewController<?> created;
+    private CommandReplayer uut;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        navigator = mock(Navigator.class);
+        layoutFactory = mock(LayoutFactory.class);
+        created = mock(ViewController.class);
+        when(layoutFactory.create(any())).then(i -> created);
+        uut = new CommandReplayer(newActivity(), navigator, layoutFactory, mock(ReactInstanceManager.class));
+    }
+
+    @Test
+    public void push_createsLayoutAndPushesIt() throws Exception {
+        uut.replay(new RecordedCommand("push", "push+1", "stack", layout("child").toString(), 0));
+
+        ArgumentCaptor<LayoutNode> layout = ArgumentCaptor.forClass(LayoutNode.class);
+        verify(layoutFactory).create(layout.capture());
+        assertThat(layout.getValue().id).isEqualTo("child");
+        verify(navigator).push(eq("stack"), eq(created), any());
+    }
+
+    @Test
+    public void setRoot_createsRootLayout() throws Exception {
+        JSONObject root = new JSONObject().put("root", layout("root"));
+        uut.replay(new RecordedCommand("setRoot", "setRoot+1", null, root.toString(), 0));
+        verify(navigator).setRoot(eq(created), any(), any());
+    }
+
+    @Test
+    public void mergeOptions_parsesOptions() throws Exception {
+        JSONObject options = new JSONObject().put("topBar", new JSONObject().put("title", new JSONObject().put("text", "Title")));
+        uut.replay(new RecordedCommand("mergeOptions", null, "component", options.toString(), 0));
+
+        ArgumentCaptor<Options> merged = ArgumentCaptor.forClass(Options.class);
+        verify(navigator).mergeOptions(eq("component"), merged.capture());
+        assertThat(merged.getValue().topBar.title.text.get()).isEqualTo("Title");
+    }
+
+    @Test
+    public void invalidCommandsAreSkipped() {
+        uut.replay(new RecordedCommand("push", "push+1", "stack", "not json", 0));
+        verify(navigator, never()).push(any(), any(), any());
+    }
+
+    @Test
+    public void realTime_commandsAreReplayedAtRecordedTimes() throws Exception {
+        List<String> replayed = new ArrayList<>();
+        List<RecordedCommand> commands = new ArrayList<>();
+        commands.add(new RecordedCommand("dismissOverlay", "1", "first", null, TimeUnit.MILLISECONDS.toNanos(100)));
+        commands.add(new RecordedCommand("dismissOverlay", "2", "second", null, TimeUnit.MILLISECONDS.toNanos(600)));
+
+        uut.replay(commands, true, listener(replayed));
+        ShadowLooper.idleMainLooper();
+        assertThat(replayed).containsExactly("first");
+
+        ShadowLooper.idleMainLooper(500, TimeUnit.MILLISECONDS);
+        assertThat(replayed).containsExactly("first", "second", "completed");
+    }
+
+    @Test
+    public void maximumSpeed_commandsAreReplayedImmediately() throws Exception {
+        List<String> replayed = new ArrayList<>();
+        List<RecordedCommand> commands = new ArrayList<>();
+        commands.add(new RecordedCommand("dismissOverlay", "1", "first", null, 0));
+        commands.add(new RecordedCommand("dismissOverlay", "2", "second", null, TimeUnit.SECONDS.toNanos(10)));
+
+        uut.replay(commands, false, listener(replayed));
+        ShadowLooper.idleMainLooper();
+
+        assertThat(replayed).containsExactly("first", "second", "completed");
+        verify(navigator).dismissOverlay(eq("second"), any());
+    }
+
+    private CommandReplayer.Listener listener(List<String> replayed) {
+        return new CommandReplayer.Listener() {
+            @Override
+            public void onCommandReplayed(RecordedCommand command, long durationNanos) {
+                replayed.add(command.componentId);
+            }
+
+            @Override
+            public void onReplayCompleted() {
+                replayed.add("completed");
+            }
+        };
+    }
+
+    private static JSONObject layout(String id) throws Exception {
+        return new JSONObject()
+                .put("id", id)
+                .put("type", "Component")
+                .put("data", new JSONObject().put("name", "Screen"))
+                .put("children", new JSONArray());
+    }
+}
@@ -0,0 +1,65 @@
+package com.reactnativenavigation.benchmark;
+
+import android.animation.TimeInterpolator;
+import android.view.animation.OvershootInterpolator;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.options.interpolators.DecelerateAccelerateInterpolator;
+import com.reactnativenavigation.options.interpolators.LookupTableInterpolator;
+import com.reactnativenavigation.options.interpolators.SpringInterpolator;
+import com.reactnativenavigation.options.parsers.InterpolationParser;
+
+import org.junit.Test;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Cost of evaluating interpolators for the frames of a single one second transition at 60fps, analytically and through
+ * the lookup tables built by {@link InterpolationParser}.
+ */
+public class InterpolatorsBenchmark extends BaseTest {
+    private static final int WARMUP = 5_000;
+    private static final int ITERATIONS = 50_000;
+    private static final int FRAMES = 60;
+
+    private static volatile float sink;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(Benchmark.isEnabled());
+    }
+
+    @Test
+    public void spring() {
+        compare("spring(critically damped)", new SpringInterpolator(3f, 500f, 200f, false, 0f));
+        compare("spring(underdamped)", new SpringInterpolator(1f, 10f, 100f, false, 0f));
+    }
+
+    @Test
+    public void custom() {
+        compare("decelerateAccelerate", new DecelerateAccelerateInterpolator());
+        compare("overshoot", new OvershootInterpolator(1f));
+    }
+
+    @Test
+    public void tableCreation() {
+        SpringInterpolator spring = new SpringInterpolator(3f, 500f, 200f, false, 0f);
+        Benchmark.run("LookupTableInterpolator(spring, " + InterpolationParser.DEFAULT_LOOKUP_TABLE_RESOLUTION + ")", 500, 5_000,
+                () -> new LookupTableInterpolator(spring, InterpolationParser.DEFAULT_LOOKUP_TABLE_RESOLUTION));
+    }
+
+    private void compare(String name, TimeInterpolator source) {
+        TimeInterpolator table = new LookupTableInterpolator(source, InterpolationParser.DEFAULT_LOOKUP_TABLE_RESOLUTION);
+        Benchmark.run(name + " x" + FRAMES, WARMUP, ITERATIONS, () -> evaluate(source));
+        Benchmark.run(name + " table x" + FRAMES, WARMUP, ITERATIONS, () -> evaluate(table));
+    }
+
+    private static void evaluate(TimeInterpolator interpolator) {
+        float sum = 0;
+        for (int i = 0; i <= FRAMES; i++) {
+            sum += interpolator.getInterpolation((float) i / FRAMES);
+        }
+        sink = sum;
+    }
+}
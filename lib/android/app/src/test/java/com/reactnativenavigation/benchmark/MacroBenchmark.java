@@ -0,0 +1,149 @@
+package com.reactnativenavigation.benchmark;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import com.reactnativenavigation.profiling.MetricsSnapshot;
+import com.reactnativenavigation.profiling.NavigationMetrics;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs a navigation scenario step by step under Robolectric. Only the steps themselves, including the main looper
+ * tasks they post, are timed and their allocations counted. After each step the number of live controllers and the
+ * number of views in the window are sampled and their peaks reported.
+ *
+ * Results are printed and appended as a JSON line to a file per scenario in the directory in the
+ * {@code rnn.benchmarks.dir} system property, so runs can be compared over time. The directory defaults to
+ * {@code lib/android/app/benchmark-results}, outside the build directory, and is set with {@code -PrnnBenchmarksDir}.
+ */
+public class MacroBenchmark {
+    public interface Step {
+        void run(int index);
+    }
+
+    public static class Result {
+        public final String name;
+        public final int steps;
+        public final long wallTimeNanos;
+        public final long allocatedBytes;
+        public final long peakLiveControllers;
+        public final int peakViews;
+
+        Result(String name, int steps, long wallTimeNanos, long allocatedBytes, long peakLiveControllers, int peakViews) {
+            this.name = name;
+            this.steps = steps;
+            this.wallTimeNanos = wallTimeNanos;
+            this.allocatedBytes = allocatedBytes;
+            this.peakLiveControllers = peakLiveControllers;
+            this.peakViews = peakViews;
+        }
+
+        public JSONObject toJson() throws JSONException {
+            return new JSONObject()
+                    .put("name", name)
+                    .put("timestamp", System.currentTimeMillis())
+                    .put("steps", steps)
+                    .put("wallTimeMs", TimeUnit.NANOSECONDS.toMillis(wallTimeNanos))
+                    .put("nanosPerStep", wallTimeNanos / steps)
+                    .put("allocatedBytes", allocatedBytes)
+                    .put("bytesPerStep", allocatedBytes / steps)
+                    .put("peakLiveControllers", peakLiveControllers)
+                    .put("peakViews", peakViews);
+        }
+
+        @Override
+        public String toString() {
+            return String.format(Locale.US, "%-32s %6d steps %8d ms %10.1f µs/step %12d B/step %6d controllers %6d views",
+                    name, steps, TimeUnit.NANOSECONDS.toMillis(wallTimeNanos), wallTimeNanos / 1000d / steps,
+                    allocatedBytes / steps, peakLiveControllers, peakViews);
+        }
+    }
+
+    private final View root;
+    private long idleMillis;
+
+    /**
+     * @param root the view whose descendants are counted after each step, usually the activity's decor view.
+     */
+    public MacroBenchmark(View root) {
+        this.root = root;
+    }
+
+    /**
+     * Advances the main looper's clock by the given duration after each step, e.g. to space out steps at 60 Hz.
+     */
+    public MacroBenchmark setStepInterval(long millis) {
+        idleMillis = millis;
+        return this;
+    }
+
+    public Result run(String name, int steps, Step step) {
+        NavigationMetrics metrics = NavigationMetrics.getInstance();
+        boolean metricsEnabled = metrics.isEnabled();
+        metrics.setEnabled(true);
+        long liveControllersBefore = getLiveControllers(metrics);
+        long wallTime = 0;
+        long allocated = 0;
+        long peakControllers = 0;
+        int peakViews = 0;
+        try {
+            for (int i = 0; i < steps; i++) {
+                long startBytes = Benchmark.allocatedBytes();
+                long start = System.nanoTime();
+                step.run(i);
+                ShadowLooper.idleMainLooper(idleMillis, TimeUnit.MILLISECONDS);
+                wallTime += System.nanoTime() - start;
+                allocated += Benchmark.allocatedBytes() - startBytes;
+
+                peakControllers = Math.max(peakControllers, getLiveControllers(metrics) - liveControllersBefore);
+                peakViews = Math.max(peakViews, countViews(root));
+            }
+        } finally {
+            metrics.setEnabled(metricsEnabled);
+        }
+        Result result = new Result(name, steps, wallTime, allocated, peakControllers, peakViews);
+        System.out.println(result);
+        write(result);
+        return result;
+    }
+
+    private static long getLiveControllers(NavigationMetrics metrics) {
+        MetricsSnapshot snapshot = metrics.snapshot();
+        return snapshot.getCounter(NavigationMetrics.ControllersCreated) - snapshot.getCounter(NavigationMetrics.ControllersDestroyed);
+    }
+
+    private static int countViews(View view) {
+        int result = 1;
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0; i < group.getChildCount(); i++) {
+                result += countViews(group.getChildAt(i));
+            }
+        }
+        return result;
+    }
+
+    private static void write(Result result) {
+        String dir = System.getProperty("rnn.benchmarks.dir");
+        if (dir == null) return;
+        File file = new File(dir, result.name + ".jsonl");
+        //noinspection ResultOfMethodCallIgnored
+        file.getParentFile().mkdirs();
+        try (Writer writer = new FileWriter(file, true)) {
+            writer.write(result.toJson().toString());
+            writer.write('\n');
+        } catch (IOException | JSONException e) {
+            throw new RuntimeException("Failed to write benchmark result to " + file, e);
+        }
+    }
+}
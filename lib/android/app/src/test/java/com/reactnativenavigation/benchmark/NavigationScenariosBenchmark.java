@@ -0,0 +1,129 @@
+package com.reactnativenavigation.benchmark;
+
+import android.os.Bundle;
+
+import com.facebook.react.ReactInstanceManager;
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.TestActivity;
+import com.reactnativenavigation.mocks.SimpleViewController;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.options.params.Number;
+import com.reactnativenavigation.options.params.Text;
+import com.reactnativenavigation.react.CommandListenerAdapter;
+import com.reactnativenavigation.react.events.EventEmitter;
+import com.reactnativenavigation.viewcontrollers.bottomtabs.BottomTabsController;
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry;
+import com.reactnativenavigation.viewcontrollers.modal.ModalStack;
+import com.reactnativenavigation.viewcontrollers.navigator.Navigator;
+import com.reactnativenavigation.viewcontrollers.overlay.OverlayManager;
+import com.reactnativenavigation.viewcontrollers.stack.StackController;
+import com.reactnativenavigation.viewcontrollers.viewcontroller.RootPresenter;
+import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.robolectric.android.controller.ActivityController;
+import org.robolectric.annotation.Config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Drives {@link Navigator} through scripted scenarios with {@link MacroBenchmark}. Animations are disabled so each step
+ * measures the work done by the command itself.
+ */
+@Config(qualifiers = "xxhdpi")
+public class NavigationScenariosBenchmark extends BaseTest {
+    private TestActivity activity;
+    private ChildControllersRegistry childRegistry;
+    private EventEmitter eventEmitter;
+    private Navigator navigator;
+    private MacroBenchmark benchmark;
+    private BenchmarkFixtures fixtures;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(Benchmark.isEnabled());
+        childRegistry = new ChildControllersRegistry();
+        eventEmitter = Mockito.mock(EventEmitter.class);
+        ActivityController<TestActivity> activityController = newActivityController(TestActivity.class);
+        activity = activityController.create().get();
+        fixtures = new BenchmarkFixtures(activity, childRegistry, eventEmitter);
+        ModalStack modalStack = new ModalStack(activity);
+        modalStack.setEventEmitter(eventEmitter);
+        navigator = new Navigator(activity, childRegistry, modalStack, new OverlayManager(), new RootPresenter());
+        navigator.setEventEmitter(eventEmitter);
+        activity.setNavigator(navigator);
+        navigator.bindViews();
+        activityController.visible();
+        activityController.postCreate(Bundle.EMPTY);
+        idleMainLooper();
+        benchmark = new MacroBenchmark(activity.getWindow().getDecorView());
+    }
+
+    @Test
+    public void pushAndPopOneThousandScreens() {
+        StackController stack = fixtures.newStack(fixtures.newScreen());
+        setRoot(stack);
+
+        benchmark.run("push1000", 1000, i -> navigator.push(stack.getId(), fixtures.newScreen(), new CommandListenerAdapter()));
+        benchmark.run("pop1000", 1000, i -> navigator.pop(stack.getId(), Options.EMPTY, new CommandListenerAdapter()));
+    }
+
+    @Test
+    public void switchTabsFiveHundredTimes() {
+        List<ViewController<?>> tabs = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            StackController stack = fixtures.newStack(fixtures.newScreen());
+            for (int j = 0; j < 3; j++) stack.push(fixtures.newScreen(), new CommandListenerAdapter());
+            tabs.add(stack);
+        }
+        BottomTabsController bottomTabs = fixtures.newTabs(tabs);
+        setRoot(bottomTabs);
+
+        benchmark.run("selectTab500", 500, i -> {
+            Options options = new Options();
+            options.bottomTabsOptions.currentTabIndex = new Number((i + 1) % tabs.size());
+            navigator.mergeOptions(bottomTabs.getId(), options);
+        });
+    }
+
+    @Test
+    public void showAndDismissStackedModals() {
+        setRoot(fixtures.newStack(fixtures.newScreen()));
+        int depth = 10;
+        List<String> modals = new ArrayList<>();
+
+        benchmark.run("stackedModals", 100 * depth * 2, i -> {
+            if ((i / depth) % 2 == 0) {
+                StackController modal = fixtures.newStack(fixtures.newScreen());
+                modals.add(modal.getId());
+                navigator.showModal(modal, new CommandListenerAdapter());
+            } else {
+                navigator.dismissModal(modals.remove(modals.size() - 1), new CommandListenerAdapter());
+            }
+        });
+    }
+
+    @Test
+    public void mergeOptionsStormAtSixtyHertz() {
+        SimpleViewController screen = fixtures.newScreen();
+        setRoot(fixtures.newStack(screen));
+
+        benchmark.setStepInterval(16).run("mergeOptions60Hz", 600, i -> {
+            Options options = new Options();
+            options.topBar.title.text = new Text("Title " + i);
+            options.topBar.subtitle.text = new Text("Subtitle " + i);
+            options.bottomTabOptions.badge = new Text(String.valueOf(i));
+            navigator.mergeOptions(screen.getId(), options);
+        });
+    }
+
+    private void setRoot(ViewController<?> root) {
+        navigator.setRoot(root, new CommandListenerAdapter(), Mockito.mock(ReactInstanceManager.class));
+        idleMainLooper();
+    }
+}
@@ -0,0 +1,82 @@
+package com.reactnativenavigation.benchmark;
+
+import android.app.Activity;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.mocks.TypefaceLoaderMock;
+import com.reactnativenavigation.options.Options;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Throughput and allocations of the Options operations performed on every command: parsing the options sent from JS,
+ * merging and copying them while resolving the current options of a hierarchy, and applying default options.
+ */
+public class OptionsBenchmark extends BaseTest {
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    private Activity activity;
+    private TypefaceLoaderMock typefaceLoader;
+    private JSONObject screenOptions;
+    private JSONObject manyButtonsOptions;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(Benchmark.isEnabled());
+        activity = newActivity();
+        typefaceLoader = new TypefaceLoaderMock();
+        try {
+            screenOptions = BenchmarkPayloads.screenOptions(2);
+            manyButtonsOptions = BenchmarkPayloads.screenOptions(10);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void parse() {
+        Benchmark.run("Options.parse(screen)", WARMUP, ITERATIONS, () -> Options.parse(activity, typefaceLoader, screenOptions));
+        Benchmark.run("Options.parse(20 buttons)", WARMUP, ITERATIONS, () -> Options.parse(activity, typefaceLoader, manyButtonsOptions));
+    }
+
+    @Test
+    public void copy() {
+        Options options = Options.parse(activity, typefaceLoader, manyButtonsOptions);
+        Benchmark.run("Options.copy(empty)", WARMUP, ITERATIONS, () -> new Options().copy());
+        Benchmark.run("Options.copy(20 buttons)", WARMUP, ITERATIONS, options::copy);
+    }
+
+    @Test
+    public void mergeWith() {
+        Options screen = Options.parse(activity, typefaceLoader, screenOptions);
+        Options buttons = Options.parse(activity, typefaceLoader, manyButtonsOptions);
+        Benchmark.run("Options.mergeWith(screen)", WARMUP, ITERATIONS, () -> screen.copy().mergeWith(buttons));
+        Benchmark.run("Options.mergeWith(empty)", WARMUP, ITERATIONS, () -> screen.copy().mergeWith(Options.EMPTY));
+    }
+
+    @Test
+    public void withDefaultOptions() {
+        Options screen = Options.parse(activity, typefaceLoader, screenOptions);
+        Options defaults = Options.parse(activity, typefaceLoader, manyButtonsOptions);
+        Benchmark.run("Options.withDefaultOptions", WARMUP, ITERATIONS, () -> screen.copy().withDefaultOptions(defaults));
+    }
+
+    @Test
+    public void resolveThirtyDeepHierarchy() {
+        Options[] hierarchy = new Options[30];
+        for (int i = 0; i < hierarchy.length; i++) {
+            hierarchy[i] = Options.parse(activity, typefaceLoader, screenOptions);
+        }
+        Benchmark.run("Options.copy+mergeWith(30 levels)", WARMUP / 10, ITERATIONS / 10, () -> {
+            Options result = hierarchy[0].copy();
+            for (int i = 1; i < hierarchy.length; i++) {
+                result = result.mergeWith(hierarchy[i]);
+            }
+        });
+    }
+}
@@ -0,0 +1,52 @@
+package com.reactnativenavigation.benchmark;
+
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.options.parsers.JSONParser;
+import com.reactnativenavigation.options.parsers.LayoutNodeParser;
+
+import org.json.JSONObject;
+import org.junit.Test;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Cost of converting layouts received over the bridge into {@link JSONObject}s and then into LayoutNodes, for a five
+ * tab root with a stack in each tab and for a single thirty screen deep stack.
+ */
+public class ParsersBenchmark extends BaseTest {
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2_000;
+
+    private JSONObject tabsRoot;
+    private JSONObject deepStack;
+    private JavaOnlyMap tabsRootMap;
+    private JavaOnlyMap deepStackMap;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(Benchmark.isEnabled());
+        try {
+            tabsRoot = BenchmarkPayloads.tabsRoot(5, 3);
+            deepStack = BenchmarkPayloads.stack(30);
+            tabsRootMap = BenchmarkPayloads.toReadableMap(tabsRoot);
+            deepStackMap = BenchmarkPayloads.toReadableMap(deepStack);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    @Test
+    public void jsonParser() {
+        JSONParser parser = new JSONParser();
+        Benchmark.run("JSONParser.parse(5 tabs)", WARMUP, ITERATIONS, () -> parser.parse(tabsRootMap));
+        Benchmark.run("JSONParser.parse(30 deep stack)", WARMUP, ITERATIONS, () -> parser.parse(deepStackMap));
+    }
+
+    @Test
+    public void layoutNodeParser() {
+        Benchmark.run("LayoutNodeParser.parse(5 tabs)", WARMUP, ITERATIONS, () -> LayoutNodeParser.parse(tabsRoot));
+        Benchmark.run("LayoutNodeParser.parse(30 deep stack)", WARMUP, ITERATIONS, () -> LayoutNodeParser.parse(deepStack));
+    }
+}
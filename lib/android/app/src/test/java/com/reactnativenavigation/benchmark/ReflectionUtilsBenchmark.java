@@ -0,0 +1,67 @@
+package com.reactnativenavigation.benchmark;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.utils.ReflectionUtils;
+
+import org.junit.Test;
+
+import java.lang.reflect.Field;
+
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Compares the per scroll event cost of reading ScrollEvent fields with a lookup per event (the previous
+ * implementation) against the cached accessors in {@link ReflectionUtils}.
+ */
+public class ReflectionUtilsBenchmark extends BaseTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 200_000;
+
+    static class BaseEvent {
+        private int mViewTag = 1;
+    }
+
+    static class FakeScrollEvent extends BaseEvent {
+        private int mScrollY = 100;
+        private double mYVelocity = 2.5;
+    }
+
+    private final FakeScrollEvent event = new FakeScrollEvent();
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(Benchmark.isEnabled());
+    }
+
+    @Test
+    public void readScrollEventFields() {
+        Benchmark.run("ReflectionUtils.uncachedLookup", WARMUP, ITERATIONS, () -> {
+            uncachedGet(event, "mScrollY");
+            uncachedGet(event, "mYVelocity");
+        });
+        Benchmark.run("ReflectionUtils.getIntField/getDoubleField", WARMUP, ITERATIONS, () -> {
+            ReflectionUtils.getIntField(event, "mScrollY", 0);
+            ReflectionUtils.getDoubleField(event, "mYVelocity", 0);
+        });
+    }
+
+    private static Object uncachedGet(Object obj, String name) {
+        try {
+            Field field = uncachedFind(obj.getClass(), name);
+            field.setAccessible(true);
+            return field.get(obj);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Field uncachedFind(Class<?> clazz, String name) throws NoSuchFieldException {
+        try {
+            return clazz.getDeclaredField(name);
+        } catch (NoSuchFieldException e) {
+            if (clazz.getSuperclass() == null) throw e;
+            return uncachedFind(clazz.getSuperclass(), name);
+        }
+    }
+}
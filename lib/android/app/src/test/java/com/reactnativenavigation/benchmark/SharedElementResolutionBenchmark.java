@@ -0,0 +1,91 @@
+package com.reactnativenavigation.benchmark;
+
+import android.app.Activity;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+import android.widget.LinearLayout;
+
+import com.facebook.react.R;
+import com.facebook.react.uimanager.util.ReactFindViewUtil;
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.views.element.finder.NativeIdIndex;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Cost of resolving the views of a transition's shared elements in a large screen, by searching the hierarchy once per
+ * element and through a {@link NativeIdIndex} built once per transition.
+ */
+public class SharedElementResolutionBenchmark extends BaseTest {
+    private static final int ROWS = 100;
+    private static final int CELLS_PER_ROW = 10;
+    private static final int VIEWS_PER_CELL = 2;
+
+    private ViewGroup root;
+    private String[] nativeIds;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(Benchmark.isEnabled());
+        Activity activity = newActivity();
+        root = createList(activity);
+    }
+
+    @Test
+    public void resolve() {
+        assertThat(countViews(root)).isGreaterThan(2_000);
+        for (int elements : new int[]{1, 5, 20}) {
+            String[] ids = lastIds(elements);
+            Benchmark.run("findView x" + elements, 50, 500, () -> {
+                for (String id : ids) ReactFindViewUtil.findView(root, id);
+            });
+            Benchmark.run("NativeIdIndex x" + elements, 50, 500, () -> {
+                NativeIdIndex index = new NativeIdIndex(root);
+                for (String id : ids) index.get(id);
+            });
+        }
+    }
+
+    private ViewGroup createList(Activity activity) {
+        LinearLayout list = new LinearLayout(activity);
+        list.setOrientation(LinearLayout.VERTICAL);
+        nativeIds = new String[ROWS];
+        for (int row = 0; row < ROWS; row++) {
+            LinearLayout rowView = new LinearLayout(activity);
+            for (int cell = 0; cell < CELLS_PER_ROW; cell++) {
+                FrameLayout cellView = new FrameLayout(activity);
+                for (int i = 0; i < VIEWS_PER_CELL; i++) {
+                    cellView.addView(new View(activity));
+                }
+                rowView.addView(cellView);
+            }
+            nativeIds[row] = "image" + row;
+            rowView.getChildAt(0).setTag(R.id.view_tag_native_id, nativeIds[row]);
+            list.addView(rowView);
+        }
+        return list;
+    }
+
+    /**
+     * Elements at the end of the list are the worst case for a search per element
+     */
+    private String[] lastIds(int count) {
+        String[] ids = new String[count];
+        System.arraycopy(nativeIds, nativeIds.length - count, ids, 0, count);
+        return ids;
+    }
+
+    private static int countViews(View view) {
+        int count = 1;
+        if (view instanceof ViewGroup) {
+            ViewGroup group = (ViewGroup) view;
+            for (int i = 0; i < group.getChildCount(); i++) count += countViews(group.getChildAt(i));
+        }
+        return count;
+    }
+}
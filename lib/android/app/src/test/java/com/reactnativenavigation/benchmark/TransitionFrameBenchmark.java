@@ -0,0 +1,107 @@
+package com.reactnativenavigation.benchmark;
+
+import android.app.Activity;
+import android.widget.FrameLayout;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.hierarchy.root.RootAnimator;
+import com.reactnativenavigation.mocks.SimpleViewController;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.options.TransitionAnimationOptions;
+import com.reactnativenavigation.utils.ScreenAnimationListener;
+import com.reactnativenavigation.utils.VirtualAnimationClock;
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry;
+import com.reactnativenavigation.viewcontrollers.modal.ModalAnimator;
+import com.reactnativenavigation.viewcontrollers.stack.StackAnimator;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+import org.robolectric.annotation.LooperMode;
+
+import java.util.Collections;
+
+import kotlin.Unit;
+
+import static com.reactnativenavigation.options.TransitionAnimationOptionsKt.parseTransitionAnimationOptions;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Steps each type of screen transition with its default animation frame by frame, and reports the property updates,
+ * layout passes and allocations per frame.
+ */
+@LooperMode(LooperMode.Mode.PAUSED)
+public class TransitionFrameBenchmark extends BaseTest {
+    private Activity activity;
+    private VirtualAnimationClock clock;
+    private SimpleViewController appearing;
+    private SimpleViewController disappearing;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        assumeTrue(Benchmark.isEnabled());
+        activity = newActivity();
+        clock = new VirtualAnimationClock().install();
+        ChildControllersRegistry childRegistry = new ChildControllersRegistry();
+        appearing = new SimpleViewController(activity, childRegistry, "appearing", new Options());
+        disappearing = new SimpleViewController(activity, childRegistry, "disappearing", new Options());
+        FrameLayout root = new FrameLayout(activity);
+        root.addView(disappearing.getView());
+        root.addView(appearing.getView());
+        activity.setContentView(root);
+        clock.observeLayouts(activity.getWindow().getDecorView());
+        idleMainLooper();
+    }
+
+    @After
+    public void uninstallClock() {
+        if (clock != null) clock.uninstall();
+    }
+
+    @Test
+    public void stack() {
+        StackAnimator animator = new StackAnimator(activity);
+        animator.push(appearing, disappearing, Options.EMPTY, Collections.emptyList(), () -> { });
+        clock.stepUntilIdle();
+        animator.pop(disappearing, appearing, Options.EMPTY, Collections.emptyList(), () -> { });
+        clock.stepUntilIdle();
+        animator.setRoot(appearing, disappearing, Options.EMPTY, Collections.emptyList(), () -> { });
+        clock.stepUntilIdle();
+        report();
+    }
+
+    @Test
+    public void interruptedPush() {
+        StackAnimator animator = new StackAnimator(activity);
+        animator.push(appearing, disappearing, Options.EMPTY, Collections.emptyList(), () -> { });
+        for (int i = 0; i < 5; i++) clock.step();
+        animator.pop(disappearing, appearing, Options.EMPTY, Collections.emptyList(), () -> { });
+        clock.stepUntilIdle();
+        report();
+    }
+
+    @Test
+    public void modals() {
+        ModalAnimator animator = new ModalAnimator(activity);
+        animator.show(appearing, disappearing, new TransitionAnimationOptions(), new ScreenAnimationListener());
+        clock.stepUntilIdle();
+        animator.dismiss(disappearing, appearing, new TransitionAnimationOptions(), new ScreenAnimationListener());
+        clock.stepUntilIdle();
+        report();
+    }
+
+    @Test
+    public void root() throws Exception {
+        TransitionAnimationOptions fadeIn = parseTransitionAnimationOptions(new JSONObject("{enter: {alpha: {from: 0, to: 1, duration: 300}}}"));
+        new RootAnimator().setRoot(appearing, disappearing, fadeIn, () -> Unit.INSTANCE);
+        clock.stepUntilIdle();
+        report();
+    }
+
+    private void report() {
+        for (VirtualAnimationClock.Stats stats : clock.getTransitions()) {
+            System.out.println(stats);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.reactnativenavigation.options
+
+import android.animation.AnimatorSet
+import android.animation.ObjectAnimator
+import android.view.View
+import com.reactnativenavigation.BaseTest
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.json.JSONObject
+import org.junit.Test
+
+class AnimationSpecTest : BaseTest() {
+    private lateinit var view: View
+
+    override fun beforeEach() {
+        super.beforeEach()
+        view = View(newActivity())
+    }
+
+    @Test
+    fun compile_specIsReusedWhileOptionsAreUnchanged() {
+        val options = AnimationOptions(newAnimationJson())
+        val spec = options.compile()
+
+        options.getAnimation(view)
+        assertThat(options.compile()).isSameAs(spec)
+        assertThat(spec.properties).hasSize(2)
+    }
+
+    @Test
+    fun compile_specIsSharedByCopiesOfTheSameOptions() {
+        val options = AnimationOptions(newAnimationJson())
+        val copy = AnimationOptions()
+        copy.mergeWith(options)
+
+        assertThat(copy.compile().properties).containsExactlyElementsOf(options.compile().properties)
+    }
+
+    @Test
+    fun compile_specIsRecompiledWhenValuesChange() {
+        val options = AnimationOptions(newAnimationJson())
+        val spec = options.compile()
+
+        options.setValueDy(View.TRANSLATION_Y, 10f, 20f)
+
+        val recompiled = options.compile()
+        assertThat(recompiled).isNotSameAs(spec)
+        assertThat(recompiled.properties.first { it.property == View.TRANSLATION_Y }.getTo(view)).isEqualTo(20f)
+    }
+
+    @Test
+    fun createAnimator_unspecifiedValuesAreReadFromTheView() {
+        val options = AnimationOptions(JSONObject().put("alpha", JSONObject().put("to", 0).put("duration", 150).put("startDelay", 50)))
+        view.alpha = 0.7f
+
+        val animator = (options.getAnimation(view) as AnimatorSet).childAnimations.first() as ObjectAnimator
+
+        assertThat(animator.target).isSameAs(view)
+        assertThat(animator.duration).isEqualTo(150)
+        assertThat(animator.startDelay).isEqualTo(50)
+        assertThat(options.compile().properties.first().getFrom(view)).isEqualTo(0.7f)
+    }
+
+    private fun newAnimationJson() = JSONObject()
+            .put("alpha", JSONObject().put("from", 0).put("to", 1))
+            .put("translationY", JSONObject().put("from", 0).put("to", 0).put("duration", 200))
+}
@@ -0,0 +1,87 @@
+package com.reactnativenavigation.options.parsers;
+
+import android.animation.TimeInterpolator;
+import android.view.animation.AccelerateDecelerateInterpolator;
+import android.view.animation.DecelerateInterpolator;
+import android.view.animation.LinearInterpolator;
+import android.view.animation.OvershootInterpolator;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.options.interpolators.DecelerateAccelerateInterpolator;
+import com.reactnativenavigation.options.interpolators.LookupTableInterpolator;
+import com.reactnativenavigation.options.interpolators.SpringInterpolator;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.within;
+
+public class InterpolationParserTest extends BaseTest {
+    private static final float MAX_ERROR = 1e-3f;
+    private static final int ACCURACY_SAMPLES = 10_000;
+
+    @After
+    public void resetResolution() {
+        InterpolationParser.setLookupTableResolution(InterpolationParser.DEFAULT_LOOKUP_TABLE_RESOLUTION);
+        InterpolationParser.clearCache();
+    }
+
+    @Test
+    public void linearByDefault() {
+        assertThat(InterpolationParser.parse(new JSONObject())).isInstanceOf(LinearInterpolator.class);
+    }
+
+    @Test
+    public void interpolatorsAreSharedAcrossIdenticalParams() throws JSONException {
+        TimeInterpolator spring = InterpolationParser.parse(interpolation("spring", "mass", 1));
+        assertThat(spring).isInstanceOf(LookupTableInterpolator.class);
+        assertThat(InterpolationParser.parse(interpolation("spring", "mass", 1))).isSameAs(spring);
+        assertThat(InterpolationParser.parse(interpolation("spring", "mass", 2))).isNotSameAs(spring);
+        assertThat(InterpolationParser.parse(new JSONObject())).isSameAs(InterpolationParser.parse(new JSONObject()));
+    }
+
+    @Test
+    public void lookupTablesCanBeDisabled() throws JSONException {
+        InterpolationParser.setLookupTableResolution(0);
+        assertThat(InterpolationParser.parse(interpolation("spring", "mass", 1))).isInstanceOf(SpringInterpolator.class);
+    }
+
+    @Test
+    public void lookupTablesAreAccurate() {
+        assertAccurate(new SpringInterpolator(3f, 500f, 200f, false, 0f));
+        assertAccurate(new SpringInterpolator(1f, 10f, 100f, false, 0f));
+        assertAccurate(new SpringInterpolator(1f, 50f, 100f, true, 0f));
+        assertAccurate(new SpringInterpolator(1f, 10f, 100f, false, 5f));
+        assertAccurate(new DecelerateAccelerateInterpolator());
+        assertAccurate(new AccelerateDecelerateInterpolator());
+        assertAccurate(new DecelerateInterpolator(1f));
+        assertAccurate(new OvershootInterpolator(1f));
+    }
+
+    @Test
+    public void lookupTable_matchesSourceAtSamplesAndBounds() {
+        SpringInterpolator spring = new SpringInterpolator(1f, 10f, 100f, false, 0f);
+        LookupTableInterpolator table = new LookupTableInterpolator(spring, 4);
+        assertThat(table.getInterpolation(0.25f)).isEqualTo(spring.getInterpolation(0.25f));
+        assertThat(table.getInterpolation(0f)).isEqualTo(spring.getInterpolation(0f));
+        assertThat(table.getInterpolation(1f)).isEqualTo(spring.getInterpolation(1f));
+        assertThat(table.getInterpolation(0.9999999f)).isEqualTo(spring.getInterpolation(0.9999999f), within(1e-3f));
+    }
+
+    private void assertAccurate(TimeInterpolator source) {
+        LookupTableInterpolator table = new LookupTableInterpolator(source, InterpolationParser.DEFAULT_LOOKUP_TABLE_RESOLUTION);
+        float maxError = 0;
+        for (int i = 0; i <= ACCURACY_SAMPLES; i++) {
+            float input = (float) i / ACCURACY_SAMPLES;
+            maxError = Math.max(maxError, Math.abs(table.getInterpolation(input) - source.getInterpolation(input)));
+        }
+        assertThat(maxError).as(source.getClass().getSimpleName()).isLessThan(MAX_ERROR);
+    }
+
+    private JSONObject interpolation(String type, String param, double value) throws JSONException {
+        return new JSONObject().put("interpolation", new JSONObject().put("type", type).put(param, value));
+    }
+}
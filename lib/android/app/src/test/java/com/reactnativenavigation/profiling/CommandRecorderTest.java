@@ -0,0 +1,155 @@
+package com.reactnativenavigation.profiling;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.utils.Now;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+public class CommandRecorderTest extends BaseTest {
+    private long time;
+    private CommandRecorder uut;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        Now now = Mockito.mock(Now.class);
+        when(now.nanoTime()).then(i -> time);
+        time = 1000;
+        uut = new CommandRecorder(now, Runnable::run, 3);
+    }
+
+    @Test
+    public void notRecording_commandsAreIgnored() {
+        uut.record("push", "push+1", "component", null);
+        assertThat(uut.getCommands()).isEmpty();
+    }
+
+    @Test
+    public void commandsAreRecordedWithTimestampSinceStart() throws Exception {
+        uut.start();
+        time += 5;
+        uut.record("push", "push+1", "component", new JSONObject().put("id", "child"));
+        time += 10;
+        uut.record("dismissAllOverlays", "dismissAllOverlays+2", null, null);
+
+        List<RecordedCommand> commands = uut.stop();
+        assertThat(commands).hasSize(2);
+        assertThat(commands.get(0).method).isEqualTo("push");
+        assertThat(commands.get(0).componentId).isEqualTo("component");
+        assertThat(commands.get(0).getArgumentsObject().getString("id")).isEqualTo("child");
+        assertThat(commands.get(0).timestampNanos).isEqualTo(5);
+        assertThat(commands.get(1).arguments).isNull();
+        assertThat(commands.get(1).timestampNanos).isEqualTo(15);
+        assertThat(uut.isRecording()).isFalse();
+    }
+
+    @Test
+    public void start_discardsPreviousRecording() {
+        uut.start();
+        uut.record("pop", "pop+1", "component", null);
+        uut.start();
+        assertThat(uut.getCommands()).isEmpty();
+    }
+
+    @Test
+    public void recordingsAreWrittenAndReadAsJsonLines() throws Exception {
+        uut.start();
+        uut.record("setStackRoot", "setStackRoot+1", "stack", new JSONArray().put(new JSONObject().put("id", "child")));
+        uut.record("dismissOverlay", null, "overlay", null);
+        StringWriter writer = new StringWriter();
+
+        CommandRecorder.write(uut.stop(), writer);
+        assertThat(writer.toString().split("\n")).hasSize(2);
+
+        List<RecordedCommand> read = CommandRecorder.read(new StringReader(writer.toString()));
+        assertThat(read).hasSize(2);
+        assertThat(read.get(0).method).isEqualTo("setStackRoot");
+        assertThat(read.get(0).getArgumentsArray().getJSONObject(0).getString("id")).isEqualTo("child");
+        assertThat(read.get(1).commandId).isNull();
+        assertThat(read.get(1).componentId).isEqualTo("overlay");
+        assertThat(read.get(1).arguments).isNull();
+    }
+
+    @Test
+    public void onlyTheLatestCommandsAreKept() {
+        uut.start();
+        for (int i = 1; i <= 5; i++) uut.record("pop", "pop+" + i, "component", null);
+
+        List<RecordedCommand> commands = uut.getCommands();
+        assertThat(commands).hasSize(3);
+        assertThat(commands.get(0).commandId).isEqualTo("pop+3");
+        assertThat(commands.get(2).commandId).isEqualTo("pop+5");
+    }
+
+    @Test
+    public void appendTo_appendsOnlyCommandsRecordedSinceThePreviousWrite() throws Exception {
+        File file = File.createTempFile("recording", ".jsonl");
+        file.deleteOnExit();
+        uut.start();
+        uut.record("push", "push+1", "component", null);
+        uut.appendTo(file);
+        uut.record("pop", "pop+2", "component", null);
+        uut.appendTo(file);
+        uut.appendTo(file);
+
+        List<RecordedCommand> read = CommandRecorder.read(file);
+        assertThat(read).hasSize(2);
+        assertThat(read.get(0).commandId).isEqualTo("push+1");
+        assertThat(read.get(1).commandId).isEqualTo("pop+2");
+    }
+
+    @Test
+    public void appendTo_replacesThePreviousRecordingAfterStart() throws Exception {
+        File file = File.createTempFile("recording", ".jsonl");
+        file.deleteOnExit();
+        uut.start();
+        uut.record("push", "push+1", "component", null);
+        uut.appendTo(file);
+        uut.start();
+        uut.record("pop", "pop+2", "component", null);
+        uut.appendTo(file);
+
+        List<RecordedCommand> read = CommandRecorder.read(file);
+        assertThat(read).hasSize(1);
+        assertThat(read.get(0).commandId).isEqualTo("pop+2");
+    }
+
+    @Test
+    public void appendTo_pendingCommandsAreFlushedBeforeTheyAreDropped() throws Exception {
+        File file = File.createTempFile("recording", ".jsonl");
+        file.deleteOnExit();
+        uut.start();
+        uut.appendTo(file);
+        for (int i = 1; i <= 5; i++) uut.record("pop", "pop+" + i, "component", null);
+        uut.appendTo(file);
+
+        List<RecordedCommand> read = CommandRecorder.read(file);
+        assertThat(read).hasSize(5);
+        assertThat(read.get(0).commandId).isEqualTo("pop+1");
+        assertThat(read.get(4).commandId).isEqualTo("pop+5");
+    }
+
+    @Test
+    public void appendTo_commandsDroppedBeforeTheFileIsKnownTruncateTheRecording() throws Exception {
+        File file = File.createTempFile("recording", ".jsonl");
+        file.deleteOnExit();
+        uut.start();
+        for (int i = 1; i <= 5; i++) uut.record("pop", "pop+" + i, "component", null);
+        uut.appendTo(file);
+        uut.record("pop", "pop+6", "component", null);
+        uut.appendTo(file);
+
+        assertThat(CommandRecorder.read(file)).isEmpty();
+    }
+}
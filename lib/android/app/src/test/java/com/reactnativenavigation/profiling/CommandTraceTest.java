@@ -0,0 +1,94 @@
+package com.reactnativenavigation.profiling;
+
+import android.animation.ValueAnimator;
+import android.app.Activity;
+import android.widget.FrameLayout;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.mocks.SimpleViewController;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.utils.Now;
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+public class CommandTraceTest extends BaseTest {
+    private Now now;
+    private long time;
+    private CommandTrace uut;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        now = Mockito.mock(Now.class);
+        when(now.nanoTime()).then(i -> time);
+        uut = new CommandTrace("push", "commandId", now);
+    }
+
+    @Test
+    public void received_isMarkedOnCreation() {
+        assertThat(uut.hasPhase(CommandTrace.Phase.Received)).isTrue();
+        assertThat(uut.hasPhase(CommandTrace.Phase.Parsed)).isFalse();
+    }
+
+    @Test
+    public void mark_onlyFirstTimestampIsRecorded() {
+        time = 10;
+        uut.mark(CommandTrace.Phase.Parsed);
+        time = 20;
+        uut.mark(CommandTrace.Phase.Parsed);
+        assertThat(uut.getTimestampNanos(CommandTrace.Phase.Parsed)).isEqualTo(10);
+        assertThat(uut.getDurationNanos(CommandTrace.Phase.Received, CommandTrace.Phase.Parsed)).isEqualTo(10);
+    }
+
+    @Test
+    public void getDuration_missingPhase() {
+        assertThat(uut.getDurationNanos(CommandTrace.Phase.Received, CommandTrace.Phase.AnimationEnd)).isEqualTo(-1);
+    }
+
+    @Test
+    public void runAsCurrent() {
+        assertThat(CommandTrace.current()).isNull();
+        uut.runAsCurrent(() -> assertThat(CommandTrace.current()).isEqualTo(uut));
+        assertThat(CommandTrace.current()).isNull();
+    }
+
+    @Test
+    public void traceAnimation_marksAnimationPhasesOfCurrentCommand() {
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+        uut.runAsCurrent(() -> CommandTrace.traceAnimation(animator));
+        animator.start();
+        animator.end();
+        assertThat(uut.hasPhase(CommandTrace.Phase.AnimationStart)).isTrue();
+        assertThat(uut.hasPhase(CommandTrace.Phase.AnimationEnd)).isTrue();
+    }
+
+    @Test
+    public void traceAnimation_marksAnimationPhasesOfCapturedTraceOutsideOfTheCommand() {
+        CommandTrace[] captured = new CommandTrace[1];
+        uut.runAsCurrent(() -> captured[0] = CommandTrace.current());
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+
+        CommandTrace.traceAnimation(animator, captured[0]);
+        animator.start();
+        animator.end();
+        assertThat(uut.hasPhase(CommandTrace.Phase.AnimationStart)).isTrue();
+        assertThat(uut.hasPhase(CommandTrace.Phase.AnimationEnd)).isTrue();
+    }
+
+    @Test
+    public void observe_marksViewAttached() {
+        Activity activity = newActivity();
+        SimpleViewController controller = new SimpleViewController(activity, new ChildControllersRegistry(), "child", new Options());
+        FrameLayout root = new FrameLayout(activity);
+        activity.setContentView(root);
+        root.addView(controller.getView());
+
+        uut.observe(controller);
+        assertThat(uut.hasPhase(CommandTrace.Phase.ViewAttached)).isTrue();
+    }
+}
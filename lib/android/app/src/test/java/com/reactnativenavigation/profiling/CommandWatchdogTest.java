@@ -0,0 +1,109 @@
+package com.reactnativenavigation.profiling;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.utils.Now;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+public class CommandWatchdogTest extends BaseTest {
+    private long time;
+    private Now now;
+    private CommandWatchdog uut;
+    private List<CommandStall> stalls;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        now = Mockito.mock(Now.class);
+        when(now.nanoTime()).then(i -> time);
+        stalls = new ArrayList<>();
+        uut = new CommandWatchdog(now);
+        uut.setBudget(16);
+        uut.addListener(stalls::add);
+    }
+
+    @Test
+    public void disabled_taskRunsWithoutTiming() {
+        Runnable task = Mockito.mock(Runnable.class);
+        uut.run("push", "componentId", null, task);
+        Mockito.verify(task).run();
+        Mockito.verifyNoInteractions(now);
+    }
+
+    @Test
+    public void tasksWithinBudget_areNotReported() {
+        uut.setEnabled(true);
+        uut.run("push", "componentId", null, () -> advance(10));
+        assertThat(stalls).isEmpty();
+    }
+
+    @Test
+    public void tasksOverBudget_areReportedWithPhaseBreakdown() {
+        uut.setEnabled(true);
+        CommandTrace trace = new CommandTrace("push", "commandId", now);
+        advance(2);
+        trace.mark(CommandTrace.Phase.Parsed);
+        advance(3);
+        trace.mark(CommandTrace.Phase.Dequeued);
+
+        uut.run("push", "componentId", trace, () -> {
+            advance(20);
+            trace.mark(CommandTrace.Phase.ControllersCreated);
+            advance(5);
+        });
+
+        assertThat(stalls).hasSize(1);
+        CommandStall stall = stalls.get(0);
+        assertThat(stall.commandName).isEqualTo("push");
+        assertThat(stall.commandId).isEqualTo("commandId");
+        assertThat(stall.componentId).isEqualTo("componentId");
+        assertThat(stall.durationNanos).isEqualTo(ms(25));
+        assertThat(stall.phaseDurationsNanos).containsEntry("parsed", ms(2))
+                                             .containsEntry("dequeued", ms(3))
+                                             .containsEntry("controllersCreated", ms(20))
+                                             .containsEntry("taskEnd", ms(5));
+        assertThat(stall.stackSamples).isEmpty();
+    }
+
+    @Test
+    public void stallIsReportedEvenIfTaskThrows() {
+        uut.setEnabled(true);
+        try {
+            uut.run("pop", null, null, () -> {
+                advance(20);
+                throw new IllegalStateException();
+            });
+        } catch (IllegalStateException ignored) {
+
+        }
+        assertThat(stalls).hasSize(1);
+    }
+
+    @Test
+    public void queuedCommandsAreCounted() {
+        uut.onQueued();
+        uut.onQueued();
+        uut.onDequeued();
+        assertThat(uut.getQueuedCommandCount()).isEqualTo(1);
+
+        uut.setEnabled(true);
+        uut.run("push", null, null, () -> advance(20));
+        assertThat(stalls.get(0).queuedCommands).isEqualTo(1);
+    }
+
+    private void advance(long ms) {
+        time += ms(ms);
+    }
+
+    private static long ms(long ms) {
+        return TimeUnit.MILLISECONDS.toNanos(ms);
+    }
+}
@@ -0,0 +1,174 @@
+package com.reactnativenavigation.profiling;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.mocks.SimpleViewController;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.utils.Now;
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+public class NavigationMetricsTest extends BaseTest {
+    private long time;
+    private NavigationMetrics uut;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        Now now = Mockito.mock(Now.class);
+        when(now.nanoTime()).then(i -> time);
+        time = 1;
+        uut = new NavigationMetrics(now);
+        uut.setEnabled(true);
+    }
+
+    @Test
+    public void recordSince_recordsElapsedTime() {
+        long start = uut.startTimer();
+        time += TimeUnit.MILLISECONDS.toNanos(3);
+        uut.recordSince(NavigationMetrics.StackPush, start);
+
+        Histogram.Snapshot push = uut.snapshot().getHistogram(NavigationMetrics.StackPush);
+        assertThat(push.count).isEqualTo(1);
+        assertThat(push.maxNanos).isEqualTo(TimeUnit.MILLISECONDS.toNanos(3));
+    }
+
+    @Test
+    public void disabled_nothingIsRecorded() {
+        uut.setEnabled(false);
+        long start = uut.startTimer();
+        uut.recordSince(NavigationMetrics.StackPush, start);
+        uut.increment(NavigationMetrics.ControllersCreated);
+
+        assertThat(start).isZero();
+        assertThat(uut.snapshot().histograms).isEmpty();
+        assertThat(uut.snapshot().counters).isEmpty();
+    }
+
+    @Test
+    public void timerStartedWhileDisabled_isNotRecordedOnceEnabled() {
+        uut.setEnabled(false);
+        long start = uut.startTimer();
+        uut.setEnabled(true);
+        uut.recordSince(NavigationMetrics.StackPush, start);
+        assertThat(uut.snapshot().getHistogram(NavigationMetrics.StackPush)).isNull();
+    }
+
+    @Test
+    public void counters() {
+        uut.increment(NavigationMetrics.LiveReactRoots);
+        uut.increment(NavigationMetrics.LiveReactRoots);
+        uut.decrement(NavigationMetrics.LiveReactRoots);
+        assertThat(uut.snapshot().getCounter(NavigationMetrics.LiveReactRoots)).isEqualTo(1);
+        assertThat(uut.snapshot().getCounter(NavigationMetrics.ControllersCreated)).isZero();
+    }
+
+    @Test
+    public void onCommandCompleted_recordsLatencyPerCommand() {
+        CommandTrace trace = new CommandTrace("push", "commandId", new Now() {
+            @Override
+            public long nanoTime() {
+                return time;
+            }
+        });
+        time += TimeUnit.MILLISECONDS.toNanos(20);
+        trace.mark(CommandTrace.Phase.PromiseResolved);
+
+        uut.onCommandCompleted(trace);
+
+        MetricsSnapshot snapshot = uut.snapshot();
+        assertThat(snapshot.getHistogram(NavigationMetrics.CommandLatency).sumNanos).isEqualTo(TimeUnit.MILLISECONDS.toNanos(20));
+        assertThat(snapshot.getHistogram(NavigationMetrics.CommandLatency + ".push").count).isEqualTo(1);
+    }
+
+    @Test
+    public void report_snapshotIsHandedToSinks() {
+        List<MetricsSnapshot> reports = new ArrayList<>();
+        uut.addSink(reports::add);
+        uut.increment(NavigationMetrics.ControllersCreated);
+
+        uut.report();
+
+        assertThat(reports).hasSize(1);
+        assertThat(reports.get(0).getCounter(NavigationMetrics.ControllersCreated)).isEqualTo(1);
+    }
+
+    @Test
+    public void startPeriodicReporting_reportsUntilStopped() {
+        List<MetricsSnapshot> reports = new ArrayList<>();
+        uut.addSink(reports::add);
+
+        uut.startPeriodicReporting(100);
+        ShadowLooper.idleMainLooper(250, TimeUnit.MILLISECONDS);
+        assertThat(reports).hasSize(2);
+
+        uut.stopPeriodicReporting();
+        ShadowLooper.idleMainLooper(500, TimeUnit.MILLISECONDS);
+        assertThat(reports).hasSize(2);
+    }
+
+    @Test
+    public void stopPeriodicReporting_restoresTheEnabledStateFromBeforeReporting() {
+        uut.setEnabled(false);
+        uut.startPeriodicReporting(100);
+        uut.startPeriodicReporting(200);
+        assertThat(uut.isEnabled()).isTrue();
+
+        uut.stopPeriodicReporting();
+        assertThat(uut.isEnabled()).isFalse();
+
+        uut.setEnabled(true);
+        uut.startPeriodicReporting(100);
+        uut.stopPeriodicReporting();
+        assertThat(uut.isEnabled()).isTrue();
+    }
+
+    @Test
+    public void reset_leavesGaugesAlone() {
+        uut.increment(NavigationMetrics.LiveReactRoots);
+        uut.increment(NavigationMetrics.ControllersCreated);
+
+        uut.reset();
+        uut.decrement(NavigationMetrics.LiveReactRoots);
+
+        assertThat(uut.snapshot().getCounter(NavigationMetrics.LiveReactRoots)).isZero();
+        assertThat(uut.snapshot().getCounter(NavigationMetrics.ControllersCreated)).isZero();
+    }
+
+    @Test
+    public void histogram_percentilesAreBoundedByBucketsAndMax() {
+        Histogram histogram = new Histogram("test");
+        for (int i = 0; i < 90; i++) histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        for (int i = 0; i < 10; i++) histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(50));
+
+        Histogram.Snapshot snapshot = histogram.snapshot();
+        assertThat(snapshot.count).isEqualTo(100);
+        assertThat(snapshot.getPercentileNanos(50)).isBetween(TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.MICROSECONDS.toNanos(200));
+        assertThat(snapshot.getPercentileNanos(99)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+        assertThat(snapshot.getMeanNanos()).isEqualTo((90 * TimeUnit.MICROSECONDS.toNanos(100) + 10 * TimeUnit.MILLISECONDS.toNanos(50)) / 100);
+    }
+
+    @Test
+    public void controllersCreated_isCountedByTheSharedRegistry() {
+        NavigationMetrics metrics = NavigationMetrics.getInstance();
+        metrics.setEnabled(true);
+        metrics.reset();
+        try {
+            new SimpleViewController(newActivity(), new ChildControllersRegistry(), "child", new Options()).destroy();
+            assertThat(metrics.snapshot().getCounter(NavigationMetrics.ControllersCreated)).isEqualTo(1);
+            assertThat(metrics.snapshot().getCounter(NavigationMetrics.ControllersDestroyed)).isEqualTo(1);
+        } finally {
+            metrics.setEnabled(false);
+            metrics.reset();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.reactnativenavigation.profiling;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Keeps the sections it receives in memory so they can be asserted on in tests. Sections are recorded in the order they
+ * end, which means nested sections precede their parents.
+ */
+public class RecordingTracer implements Tracer {
+    public static class Section {
+        public final String name;
+        public final int depth;
+        public final boolean async;
+
+        Section(String name, int depth, boolean async) {
+            this.name = name;
+            this.depth = depth;
+            this.async = async;
+        }
+
+        @NonNull
+        @Override
+        public String toString() {
+            return (async ? "async " : "") + name + "@" + depth;
+        }
+    }
+
+    private final ThreadLocal<Deque<String>> openSections = new ThreadLocal<Deque<String>>() {
+        @Override
+        protected Deque<String> initialValue() {
+            return new ArrayDeque<>();
+        }
+    };
+    private final Map<String, String> openAsyncSections = new HashMap<>();
+    private final List<Section> sections = new ArrayList<>();
+
+    @Override
+    public void beginSection(String name) {
+        openSections.get().push(name);
+    }
+
+    @Override
+    public void endSection() {
+        Deque<String> open = openSections.get();
+        if (open.isEmpty()) throw new IllegalStateException("endSection called without a matching beginSection");
+        String name = open.pop();
+        synchronized (this) {
+            sections.add(new Section(name, open.size(), false));
+        }
+    }
+
+    @Override
+    public synchronized void beginAsyncSection(String name, int cookie) {
+        openAsyncSections.put(name + "#" + cookie, name);
+    }
+
+    @Override
+    public synchronized void endAsyncSection(String name, int cookie) {
+        if (openAsyncSections.remove(name + "#" + cookie) == null) {
+            throw new IllegalStateException("endAsyncSection called without a matching beginAsyncSection: " + name);
+        }
+        sections.add(new Section(name, 0, true));
+    }
+
+    public synchronized List<Section> getSections() {
+        return Collections.unmodifiableList(new ArrayList<>(sections));
+    }
+
+    public synchronized List<String> getSectionNames() {
+        List<String> names = new ArrayList<>();
+        for (Section section : sections) names.add(section.name);
+        return names;
+    }
+
+    public synchronized int getOpenAsyncSectionCount() {
+        return openAsyncSections.size();
+    }
+
+    /**
+     * @return the number of sections begun on the calling thread which weren't ended yet.
+     */
+    public int getOpenSectionCount() {
+        return openSections.get().size();
+    }
+
+    public synchronized void clear() {
+        sections.clear();
+        openAsyncSections.clear();
+        openSections.get().clear();
+    }
+}
@@ -0,0 +1,152 @@
+package com.reactnativenavigation.profiling;
+
+import android.app.Activity;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.mocks.SimpleViewController;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry;
+
+import org.junit.Test;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.assertj.core.api.Java6Assertions.fail;
+
+public class RetentionTrackerTest extends BaseTest {
+    private RetentionTracker uut;
+    private Activity activity;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        activity = newActivity();
+        uut = new RetentionTracker();
+        uut.setEnabled(true);
+    }
+
+    @Test
+    public void liveInstancesAreCountedPerType() {
+        SimpleViewController controller = newController();
+        uut.onCreated(controller);
+
+        RetentionReport report = uut.collect();
+        assertThat(report.getLiveCount("SimpleViewController")).isEqualTo(1);
+        assertThat(report.hasLeaks()).isFalse();
+        assertThat(controller.isDestroyed()).isFalse();
+    }
+
+    @Test
+    public void destroyedButReachable_isReportedWithRetainedViews() {
+        FrameLayout view = new FrameLayout(activity);
+        view.addView(new FrameLayout(activity));
+        uut.onCreated(view);
+        uut.onDestroyed(view, view);
+
+        RetentionReport report = uut.collect();
+        assertThat(report.leaks).hasSize(1);
+        assertThat(report.leaks.get(0).type).isEqualTo("FrameLayout");
+        assertThat(report.getRetainedViewCount()).isEqualTo(2);
+        try {
+            uut.assertNoLeaks();
+            fail("Leak wasn't detected");
+        } catch (AssertionError e) {
+            assertThat(e.getMessage()).contains("FrameLayout retaining 2 views");
+        }
+        assertThat(view.getChildCount()).isEqualTo(1);
+    }
+
+    @Test
+    public void destroyedAndCollected_isNotReported() {
+        SimpleViewController controller = newController();
+        uut.onCreated(controller);
+        uut.onDestroyed(controller, controller.getView());
+
+        uut.simulateCollection(controller);
+        RetentionReport report = uut.collect();
+        assertThat(report.hasLeaks()).isFalse();
+        assertThat(report.getLiveCount("SimpleViewController")).isZero();
+    }
+
+    @Test
+    public void collectedInstancesArePrunedWithoutReports() {
+        SimpleViewController controller = newController();
+        uut.onCreated(controller);
+        uut.onDestroyed(controller, controller.getView());
+        uut.simulateCollection(controller);
+
+        uut.onCommandCompleted();
+        assertThat(uut.getTrackedCount()).isZero();
+
+        uut.onCreated(newController());
+        assertThat(uut.getTrackedCount()).isOne();
+    }
+
+    @Test
+    public void holderEntriesForDestroyedInstancesAreReported() {
+        ChildControllersRegistry registry = new ChildControllersRegistry();
+        uut.onHolderCreated(registry);
+        SimpleViewController controller = newController();
+        uut.onCreated(controller);
+        registry.onViewAppeared(controller);
+        assertThat(uut.collect().staleEntries).isEmpty();
+
+        uut.onDestroyed(controller, controller.getView());
+        assertThat(uut.collect().getStaleEntryCount("ChildControllersRegistry.children")).isEqualTo(1);
+
+        registry.onChildDestroyed(controller);
+        assertThat(uut.collect().staleEntries).isEmpty();
+    }
+
+    @Test
+    public void holderEntriesKeyedByViewsOfDestroyedInstancesAreReported() {
+        SimpleViewController controller = newController();
+        Map<View, Object> titleControllers = new HashMap<>();
+        titleControllers.put(controller.getView(), new Object());
+        RetentionTracker.Holder holder = () -> Collections.singletonMap("titleControllers", titleControllers.keySet());
+        uut.onHolderCreated(holder);
+        uut.onCreated(controller);
+
+        uut.onDestroyed(controller, controller.getView());
+        RetentionReport report = uut.collect();
+        assertThat(report.staleEntries).hasSize(1);
+        assertThat(report.hasLeaks()).isTrue();
+
+        titleControllers.clear();
+        assertThat(uut.collect().staleEntries).isEmpty();
+    }
+
+    @Test
+    public void disabled_instancesAreNotTracked() {
+        uut.setEnabled(false);
+        SimpleViewController controller = newController();
+        uut.onCreated(controller);
+        assertThat(uut.collect().liveCounts).isEmpty();
+    }
+
+    @Test
+    public void onCommandCompleted_reportsToListenersAfterDelay() {
+        List<RetentionReport> reports = new ArrayList<>();
+        uut.addListener(reports::add);
+        uut.setCheckDelay(100);
+
+        uut.onCommandCompleted();
+        assertThat(reports).isEmpty();
+
+        ShadowLooper.idleMainLooper(100, TimeUnit.MILLISECONDS);
+        assertThat(reports).hasSize(1);
+    }
+
+    private SimpleViewController newController() {
+        return new SimpleViewController(activity, new ChildControllersRegistry(), "child", new Options());
+    }
+}
@@ -0,0 +1,89 @@
+package com.reactnativenavigation.profiling;
+
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.options.Options;
+import com.reactnativenavigation.options.parsers.JSONParser;
+import com.reactnativenavigation.options.parsers.LayoutNodeParser;
+import com.reactnativenavigation.options.parsers.TypefaceLoader;
+import com.reactnativenavigation.utils.Now;
+
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class TracingTest extends BaseTest {
+    private RecordingTracer tracer;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        tracer = new RecordingTracer();
+        Tracing.setTracer(tracer);
+    }
+
+    @After
+    public void removeTracer() {
+        Tracing.setTracer(null);
+    }
+
+    @Test
+    public void disabled_asyncSectionsAreNotStarted() {
+        Tracing.setTracer(null);
+        assertThat(Tracing.beginAsyncSection("section")).isZero();
+        Tracing.beginSection("section");
+        Tracing.endSection();
+        assertThat(tracer.getSections()).isEmpty();
+    }
+
+    @Test
+    public void sectionsNest() {
+        Tracing.beginSection("outer");
+        Tracing.beginSection("RNN.", "inner");
+        Tracing.endSection();
+        Tracing.endSection();
+
+        assertThat(tracer.getSections().toString()).isEqualTo("[RNN.inner@1, outer@0]");
+        assertThat(tracer.getOpenSectionCount()).isZero();
+    }
+
+    @Test
+    public void recursiveParsers_recordASingleSection() throws Exception {
+        JavaOnlyMap nested = new JavaOnlyMap();
+        nested.putMap("child", new JavaOnlyMap());
+        JavaOnlyMap input = new JavaOnlyMap();
+        input.putMap("nested", nested);
+        new JSONParser().parse(input);
+
+        LayoutNodeParser.parse(new JSONObject("{id: node1, type: Stack, children: [{id: node2, type: Component}]}"));
+
+        assertThat(tracer.getSectionNames()).containsExactly("RNN.JSONParser.parse", "RNN.LayoutNodeParser.parse");
+    }
+
+    @Test
+    public void options() {
+        Options options = new Options();
+        options.copy();
+        options.mergeWith(new Options());
+        Options.parse(newActivity(), Mockito.mock(TypefaceLoader.class), new JSONObject());
+
+        assertThat(tracer.getSectionNames()).containsExactly("RNN.Options.copy", "RNN.Options.mergeWith", "RNN.Options.parse");
+    }
+
+    @Test
+    public void commandTrace_tracksCommandWithAsyncSection() {
+        CommandTrace trace = new CommandTrace("push", "commandId", new Now());
+        assertThat(tracer.getOpenAsyncSectionCount()).isEqualTo(1);
+
+        trace.finish();
+        trace.finish();
+
+        assertThat(tracer.getOpenAsyncSectionCount()).isZero();
+        assertThat(tracer.getSections()).hasSize(1);
+        assertThat(tracer.getSections().get(0).name).isEqualTo("RNN.command.push");
+        assertThat(tracer.getSections().get(0).async).isTrue();
+    }
+}
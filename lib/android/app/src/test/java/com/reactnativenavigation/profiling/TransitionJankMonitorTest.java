@@ -0,0 +1,98 @@
+package com.reactnativenavigation.profiling;
+
+import android.animation.ValueAnimator;
+import android.view.View;
+
+import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class TransitionJankMonitorTest extends BaseTest {
+    private static final long FRAME = TimeUnit.MILLISECONDS.toNanos(16);
+    private TransitionJankMonitor uut;
+    private List<TransitionFrameStats> reports;
+    private View view;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        view = new View(newActivity());
+        reports = new ArrayList<>();
+        uut = new TransitionJankMonitor();
+        uut.addListener(reports::add);
+    }
+
+    @Test
+    public void disabled_transitionsAreNotMonitored() {
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+        uut.monitor(animator, TransitionType.Push, "Screen", false, view);
+        assertThat(animator.getListeners()).isNull();
+    }
+
+    @Test
+    public void jsListening_doesNotOverrideTheNativeToggle() {
+        uut.setJsListening(true);
+        assertThat(uut.isEnabled()).isTrue();
+        uut.setJsListening(false);
+        assertThat(uut.isEnabled()).isFalse();
+
+        uut.setEnabled(true);
+        uut.setJsListening(true);
+        uut.setJsListening(false);
+        assertThat(uut.isEnabled()).isTrue();
+    }
+
+    @Test
+    public void statsAreReportedWhenTransitionEnds() {
+        uut.setEnabled(true);
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+        uut.monitor(animator, TransitionType.ShowModal, "Screen", true, view);
+
+        animator.start();
+        assertThat(reports).isEmpty();
+        animator.end();
+
+        assertThat(reports).hasSize(1);
+        TransitionFrameStats stats = reports.get(0);
+        assertThat(stats.type).isEqualTo(TransitionType.ShowModal);
+        assertThat(stats.componentName).isEqualTo("Screen");
+        assertThat(stats.hasSharedElements).isTrue();
+        assertThat(stats.cancelled).isFalse();
+    }
+
+    @Test
+    public void cancelledTransitionsAreReported() {
+        uut.setEnabled(true);
+        ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+        uut.monitor(animator, TransitionType.Pop, "Screen", false, view);
+
+        animator.start();
+        animator.cancel();
+
+        assertThat(reports).hasSize(1);
+        assertThat(reports.get(0).cancelled).isTrue();
+    }
+
+    @Test
+    public void frameCounter_countsDroppedFrames() {
+        TransitionJankMonitor.FrameCounter counter = new TransitionJankMonitor.FrameCounter(FRAME);
+        long time = 0;
+        counter.onFrame(time);
+        counter.onFrame(time += FRAME);
+        counter.onFrame(time += 3 * FRAME);
+        counter.onFrame(time += FRAME + FRAME / 3);
+
+        TransitionFrameStats stats = counter.toStats(TransitionType.Push, "Screen", false);
+        assertThat(stats.frameCount).isEqualTo(4);
+        assertThat(stats.droppedFrames).isEqualTo(2);
+        assertThat(stats.longestFrameNanos).isEqualTo(3 * FRAME);
+        assertThat(stats.durationNanos).isEqualTo(time);
+    }
+}
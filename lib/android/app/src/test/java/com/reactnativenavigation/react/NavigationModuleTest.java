@@ -9,6 +9,8 @@ import com.reactnativenavigation.NavigationActivity;
 import com.reactnativenavigation.options.LayoutFactory;
 import com.reactnativenavigation.options.LayoutNode;
 import com.reactnativenavigation.options.parsers.JSONParser;
+import com.reactnativenavigation.profiling.NavigationMetrics;
+import com.reactnativenavigation.profiling.TransitionJankMonitor;
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController;
 import com.reactnativenavigation.viewcontrollers.navigator.Navigator;
 
@@ -18,6 +20,7 @@ import org.junit.Test;
 import org.robolectric.annotation.LooperMode;
 import org.robolectric.shadows.ShadowLooper;
 
+import static org.assertj.core.api.Java6Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -64,6 +67,28 @@ public class NavigationModuleTest extends BaseTest {
         verify(navigator).setRoot(eq(rootViewController), any(), any());
     }
 
+    @Test
+    public void newJsInstance_stopsPeriodicMetricsReportingOfThePreviousOne() {
+        NavigationMetrics metrics = NavigationMetrics.getInstance();
+        metrics.setEnabled(false);
+        uut.setNavigationMetricsReportingInterval(1000);
+        assertThat(metrics.isEnabled()).isTrue();
+
+        new NavigationModule(reactApplicationContext, mock(ReactInstanceManager.class), jsonParser, layoutFactory);
+        assertThat(metrics.isEnabled()).isFalse();
+    }
+
+    @Test
+    public void newJsInstance_stopsTransitionJankMonitoringOfThePreviousOne() {
+        TransitionJankMonitor monitor = TransitionJankMonitor.getInstance();
+        monitor.setEnabled(false);
+        uut.setTransitionJankMonitorEnabled(true);
+        assertThat(monitor.isEnabled()).isTrue();
+
+        new NavigationModule(reactApplicationContext, mock(ReactInstanceManager.class), jsonParser, layoutFactory);
+        assertThat(monitor.isEnabled()).isFalse();
+    }
+
     @Test
     public void postCommandsOnMainThread_doesNotCrashIfActivityIsNull() {
         NavigationModule spy = spy(uut);
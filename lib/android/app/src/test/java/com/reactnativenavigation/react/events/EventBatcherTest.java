@@ -0,0 +1,113 @@
+package com.reactnativenavigation.react.events;
+
+import android.os.Handler;
+import android.os.Looper;
+
+import com.facebook.react.bridge.Arguments;
+import com.facebook.react.bridge.JavaOnlyArray;
+import com.facebook.react.bridge.JavaOnlyMap;
+import com.facebook.react.bridge.ReactContext;
+import com.facebook.react.bridge.ReadableArray;
+import com.facebook.react.bridge.ReadableMap;
+import com.facebook.react.modules.core.DeviceEventManagerModule.RCTDeviceEventEmitter;
+import com.reactnativenavigation.BaseTest;
+
+import org.junit.After;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class EventBatcherTest extends BaseTest {
+    private EventBatcher uut;
+    private MockedStatic<Arguments> arguments;
+    private ReactContext reactContext;
+    private RCTDeviceEventEmitter emitter;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        arguments = Mockito.mockStatic(Arguments.class);
+        arguments.when(Arguments::createMap).thenAnswer(invocation -> new JavaOnlyMap());
+        arguments.when(Arguments::createArray).thenAnswer(invocation -> new JavaOnlyArray());
+        emitter = mock(RCTDeviceEventEmitter.class);
+        reactContext = mockReactContext(emitter);
+        uut = new EventBatcher(new Handler(Looper.getMainLooper()));
+    }
+
+    @After
+    public void closeArgumentsMock() {
+        arguments.close();
+    }
+
+    @Test
+    public void flush_eventsEmittedDuringOneTaskAreSentAsOneBatch() {
+        uut.enqueue(reactContext, "RNN.ComponentWillAppear", payload(1));
+        uut.enqueue(reactContext, "RNN.ComponentDidAppear", payload(2));
+        uut.enqueue(reactContext, "RNN.ComponentDidDisappear", payload(3));
+        verify(emitter, never()).emit(anyString(), any());
+
+        idleMainLooper();
+        ArgumentCaptor<ReadableArray> batch = ArgumentCaptor.forClass(ReadableArray.class);
+        verify(emitter).emit(eq(EventBatcher.EventBatch), batch.capture());
+        assertBatch(batch.getValue(), "RNN.ComponentWillAppear", "RNN.ComponentDidAppear", "RNN.ComponentDidDisappear");
+    }
+
+    @Test
+    public void flush_singleEventIsSentAsPlainEvent() {
+        JavaOnlyMap payload = payload(1);
+        uut.enqueue(reactContext, "RNN.ComponentDidAppear", payload);
+
+        idleMainLooper();
+        verify(emitter).emit("RNN.ComponentDidAppear", payload);
+        verify(emitter, never()).emit(eq(EventBatcher.EventBatch), any());
+    }
+
+    @Test
+    public void enqueue_pendingEventsAreFlushedWhenReactContextChanges() {
+        RCTDeviceEventEmitter otherEmitter = mock(RCTDeviceEventEmitter.class);
+        ReactContext otherContext = mockReactContext(otherEmitter);
+        uut.enqueue(reactContext, "RNN.ComponentWillAppear", payload(1));
+        uut.enqueue(reactContext, "RNN.ComponentDidAppear", payload(2));
+
+        JavaOnlyMap payload = payload(3);
+        uut.enqueue(otherContext, "RNN.AppLaunched", payload);
+        ArgumentCaptor<ReadableArray> batch = ArgumentCaptor.forClass(ReadableArray.class);
+        verify(emitter).emit(eq(EventBatcher.EventBatch), batch.capture());
+        assertBatch(batch.getValue(), "RNN.ComponentWillAppear", "RNN.ComponentDidAppear");
+        verify(otherEmitter, never()).emit(anyString(), any());
+
+        idleMainLooper();
+        verify(otherEmitter).emit("RNN.AppLaunched", payload);
+    }
+
+    private ReactContext mockReactContext(RCTDeviceEventEmitter emitter) {
+        ReactContext context = mock(ReactContext.class);
+        when(context.getJSModule(RCTDeviceEventEmitter.class)).thenReturn(emitter);
+        return context;
+    }
+
+    private JavaOnlyMap payload(int index) {
+        JavaOnlyMap payload = new JavaOnlyMap();
+        payload.putInt("index", index);
+        return payload;
+    }
+
+    private void assertBatch(ReadableArray batch, String... names) {
+        assertThat(batch.size()).isEqualTo(names.length);
+        for (int i = 0; i < names.length; i++) {
+            ReadableMap event = batch.getMap(i);
+            assertThat(event.getString("name")).isEqualTo(names[i]);
+            assertThat(event.getMap("data").getInt("index")).isEqualTo(i + 1);
+        }
+    }
+}
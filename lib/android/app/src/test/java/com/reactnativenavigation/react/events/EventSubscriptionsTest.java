@@ -0,0 +1,77 @@
+package com.reactnativenavigation.react.events;
+
+import com.reactnativenavigation.BaseTest;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Java6Assertions.assertThat;
+
+public class EventSubscriptionsTest extends BaseTest {
+    private static final String EVENT = "RNN.ComponentDidAppear";
+    private static final String COMPONENT_ID = "componentId";
+
+    private EventSubscriptions uut;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        uut = new EventSubscriptions();
+    }
+
+    @Test
+    public void shouldEmit_allEventsAreEmittedUntilFilteringIsEnabled() {
+        assertThat(uut.shouldEmit(EVENT)).isTrue();
+        assertThat(uut.shouldEmit(EVENT, COMPONENT_ID)).isTrue();
+        assertThat(uut.getSuppressedCount(EVENT)).isZero();
+    }
+
+    @Test
+    public void shouldEmit_eventsWithoutListenersAreSuppressed() {
+        uut.setFilteringEnabled(true);
+        assertThat(uut.shouldEmit(EVENT)).isFalse();
+        assertThat(uut.shouldEmit(EVENT, COMPONENT_ID)).isFalse();
+        assertThat(uut.getSuppressedCount(EVENT)).isEqualTo(2);
+    }
+
+    @Test
+    public void shouldEmit_globalListener() {
+        uut.setFilteringEnabled(true);
+        uut.addEventListener(EVENT);
+        assertThat(uut.shouldEmit(EVENT)).isTrue();
+        assertThat(uut.shouldEmit(EVENT, COMPONENT_ID)).isTrue();
+
+        uut.removeEventListener(EVENT);
+        assertThat(uut.shouldEmit(EVENT)).isFalse();
+    }
+
+    @Test
+    public void shouldEmit_componentListener() {
+        uut.setFilteringEnabled(true);
+        uut.addComponentListener(COMPONENT_ID);
+        assertThat(uut.shouldEmit(EVENT, COMPONENT_ID)).isTrue();
+        assertThat(uut.shouldEmit(EVENT, "otherComponent")).isFalse();
+        assertThat(uut.shouldEmit(EVENT)).isFalse();
+    }
+
+    @Test
+    public void removeListener_listenersAreReferenceCounted() {
+        uut.setFilteringEnabled(true);
+        uut.addComponentListener(COMPONENT_ID);
+        uut.addComponentListener(COMPONENT_ID);
+
+        uut.removeComponentListener(COMPONENT_ID);
+        assertThat(uut.shouldEmit(EVENT, COMPONENT_ID)).isTrue();
+
+        uut.removeComponentListener(COMPONENT_ID);
+        assertThat(uut.shouldEmit(EVENT, COMPONENT_ID)).isFalse();
+    }
+
+    @Test
+    public void reset() {
+        uut.setFilteringEnabled(true);
+        uut.shouldEmit(EVENT);
+        uut.reset();
+        assertThat(uut.shouldEmit(EVENT)).isTrue();
+        assertThat(uut.getSuppressedCounts()).isEmpty();
+    }
+}
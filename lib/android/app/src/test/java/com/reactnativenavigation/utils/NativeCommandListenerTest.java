@@ -2,6 +2,7 @@ package com.reactnativenavigation.utils;
 
 import com.facebook.react.bridge.Promise;
 import com.reactnativenavigation.BaseTest;
+import com.reactnativenavigation.profiling.CommandTrace;
 import com.reactnativenavigation.react.NativeCommandListener;
 import com.reactnativenavigation.react.events.EventEmitter;
 
@@ -10,6 +11,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
 
 import static org.assertj.core.api.Java6Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -44,6 +46,26 @@ public class NativeCommandListenerTest extends BaseTest {
         verify(eventEmitter, times(1)).emitCommandCompleted(COMMAND_NAME, COMMAND_ID, NOW);
     }
 
+    @Test
+    public void onSuccess_emitsCommandTraceAfterCurrentTask() {
+        when(eventEmitter.shouldEmitCommandTrace()).thenReturn(true);
+        uut.onSuccess(CHILD_ID);
+        verify(eventEmitter, times(0)).emitCommandTrace(any());
+
+        idleMainLooper();
+        ArgumentCaptor<CommandTrace> captor = ArgumentCaptor.forClass(CommandTrace.class);
+        verify(eventEmitter, times(1)).emitCommandTrace(captor.capture());
+        assertThat(captor.getValue().getCommandId()).isEqualTo(COMMAND_ID);
+        assertThat(captor.getValue().hasPhase(CommandTrace.Phase.PromiseResolved)).isTrue();
+    }
+
+    @Test
+    public void onSuccess_commandTraceIsNotPostedWithoutSubscribers() {
+        uut.onSuccess(CHILD_ID);
+        idleMainLooper();
+        verify(eventEmitter, times(0)).emitCommandTrace(any());
+    }
+
     @Test
     public void onError() {
         uut.onError("something which is wrong");
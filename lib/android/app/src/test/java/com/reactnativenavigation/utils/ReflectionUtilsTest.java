@@ -10,6 +10,11 @@ public class ReflectionUtilsTest extends BaseTest {
 
     static class Foo {
         private String bar = "old value";
+        private int count = 7;
+        private double velocity = 1.5;
+    }
+
+    static class SubFoo extends Foo {
     }
 
     @Test
@@ -23,4 +28,28 @@ public class ReflectionUtilsTest extends BaseTest {
     public void getDeclaredField() throws Exception {
         assertThat(ReflectionUtils.getDeclaredField(new Foo(), "bar")).isEqualTo("old value");
     }
+
+    @Test
+    public void getDeclaredField_resolvesFieldsDeclaredBySuperClass() {
+        assertThat(ReflectionUtils.getDeclaredField(new SubFoo(), "bar")).isEqualTo("old value");
+    }
+
+    @Test
+    public void getDeclaredField_returnsNullForMissingField() {
+        assertThat(ReflectionUtils.getDeclaredField(new Foo(), "missing")).isNull();
+    }
+
+    @Test
+    public void getPrimitiveFields() {
+        assertThat(ReflectionUtils.getIntField(new Foo(), "count", -1)).isEqualTo(7);
+        assertThat(ReflectionUtils.getDoubleField(new Foo(), "velocity", -1)).isEqualTo(1.5);
+        assertThat(ReflectionUtils.getIntField(new Foo(), "missing", -1)).isEqualTo(-1);
+    }
+
+    @Test
+    public void getAccessibleField_isResolvedOnce() {
+        assertThat(ReflectionUtils.getAccessibleField(Foo.class, "bar")).isSameAs(ReflectionUtils.getAccessibleField(Foo.class, "bar"));
+        assertThat(ReflectionUtils.getAccessibleField(Foo.class, "missing")).isNull();
+        assertThat(ReflectionUtils.getAccessibleField(Foo.class, "missing")).isNull();
+    }
 }
@@ -0,0 +1,133 @@
+package com.reactnativenavigation.utils
+
+import android.animation.Animator
+import android.animation.AnimatorListenerAdapter
+import android.animation.AnimatorSet
+import android.animation.ValueAnimator
+import android.view.View
+import android.view.ViewTreeObserver
+import com.reactnativenavigation.benchmark.Benchmark
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType
+import com.reactnativenavigation.viewcontrollers.common.AnimatorSetFactory
+import org.robolectric.shadows.ShadowChoreographer
+import org.robolectric.shadows.ShadowLooper
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+/**
+ * Steps screen transitions frame by frame on Robolectric's paused main looper. While installed, it creates the
+ * AnimatorSet of every transition and records, for each one, the frames it ran for and the work done during those
+ * frames. Animators must be created after the clock is installed.
+ *
+ * Allocations and layout passes are global; when transitions overlap, each of them is charged for the whole frame.
+ */
+class VirtualAnimationClock @JvmOverloads constructor(private val frameIntervalMs: Long = 16) : AnimatorSetFactory() {
+    class Stats(val type: TransitionType) {
+        var frames = 0
+        var propertyUpdates = 0
+        var layoutPasses = 0
+        var allocatedBytes = 0L
+        var ended = false
+
+        override fun toString() = "$type: $frames frames, ${perFrame(propertyUpdates)} updates/frame, " +
+                "${perFrame(layoutPasses)} layouts/frame, ${perFrame(allocatedBytes)} B/frame"
+
+        private fun perFrame(value: Number) = if (frames == 0) 0.0 else value.toDouble() / frames
+    }
+
+    private val running = LinkedHashMap<AnimatorSet, Stats>()
+    private val _transitions = mutableListOf<Stats>()
+    private var previousFactory: AnimatorSetFactory? = null
+    private var previousFrameDelay: Duration? = null
+    private var observedView: View? = null
+    private var layoutPasses = 0
+    private val layoutListener = ViewTreeObserver.OnGlobalLayoutListener { layoutPasses++ }
+
+    /**
+     * Stats of all transitions created since the clock was installed, in creation order
+     */
+    val transitions: List<Stats>
+        get() = _transitions
+
+    val isIdle: Boolean
+        get() = running.isEmpty()
+
+    fun install(): VirtualAnimationClock {
+        previousFactory = AnimatorSetFactory.default
+        AnimatorSetFactory.default = this
+        previousFrameDelay = ShadowChoreographer.getFrameDelay()
+        ShadowChoreographer.setFrameDelay(Duration.ofMillis(frameIntervalMs))
+        return this
+    }
+
+    fun uninstall() {
+        previousFactory?.let { AnimatorSetFactory.default = it }
+        previousFrameDelay?.let { ShadowChoreographer.setFrameDelay(it) }
+        observedView?.viewTreeObserver?.removeOnGlobalLayoutListener(layoutListener)
+        observedView = null
+    }
+
+    /**
+     * Counts the layout passes of the given view's tree, usually the decor view, towards the running transitions
+     */
+    fun observeLayouts(view: View) {
+        observedView = view
+        view.viewTreeObserver.addOnGlobalLayoutListener(layoutListener)
+    }
+
+    override fun create(type: TransitionType): AnimatorSet {
+        val stats = Stats(type)
+        _transitions.add(stats)
+        return super.create(type).apply {
+            addListener(object : AnimatorListenerAdapter() {
+                override fun onAnimationStart(animation: Animator) {
+                    running[this@apply] = stats
+                    countUpdates(this@apply, stats)
+                }
+
+                override fun onAnimationEnd(animation: Animator) {
+                    running.remove(this@apply)
+                    stats.ended = true
+                }
+            })
+        }
+    }
+
+    /**
+     * Advances the main looper by a single frame
+     */
+    fun step() {
+        val active = running.values.toMutableSet()
+        layoutPasses = 0
+        val startBytes = Benchmark.allocatedBytes()
+        ShadowLooper.idleMainLooper(frameIntervalMs, TimeUnit.MILLISECONDS)
+        val allocated = Benchmark.allocatedBytes() - startBytes
+        active.addAll(running.values)
+        active.forEach {
+            it.frames++
+            it.allocatedBytes += allocated
+            it.layoutPasses += layoutPasses
+        }
+    }
+
+    /**
+     * Steps frames until no transition is running
+     * @return the number of frames stepped
+     */
+    @JvmOverloads
+    fun stepUntilIdle(maxFrames: Int = 1000): Int {
+        var frames = 0
+        do {
+            step()
+            frames++
+        } while (!isIdle && frames < maxFrames)
+        return frames
+    }
+
+    private fun countUpdates(animator: Animator, stats: Stats) {
+        when (animator) {
+            is AnimatorSet -> animator.childAnimations.forEach { countUpdates(it, stats) }
+            is ValueAnimator -> animator.addUpdateListener { stats.propertyUpdates++ }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.reactnativenavigation.utils
+
+import android.app.Activity
+import com.reactnativenavigation.BaseTest
+import com.reactnativenavigation.hierarchy.root.RootAnimator
+import com.reactnativenavigation.mocks.SimpleViewController
+import com.reactnativenavigation.options.Options
+import com.reactnativenavigation.options.parseTransitionAnimationOptions
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry
+import com.reactnativenavigation.viewcontrollers.common.AnimatorSetFactory
+import com.reactnativenavigation.viewcontrollers.stack.StackAnimator
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.json.JSONObject
+import org.junit.After
+import org.junit.Test
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import org.robolectric.annotation.LooperMode
+
+@LooperMode(LooperMode.Mode.PAUSED)
+class VirtualAnimationClockTest : BaseTest() {
+    private lateinit var activity: Activity
+    private lateinit var clock: VirtualAnimationClock
+    private lateinit var child1: SimpleViewController
+    private lateinit var child2: SimpleViewController
+
+    override fun beforeEach() {
+        super.beforeEach()
+        activity = newActivity()
+        clock = VirtualAnimationClock().install()
+        child1 = SimpleViewController(activity, ChildControllersRegistry(), "child1", Options())
+        child2 = SimpleViewController(activity, ChildControllersRegistry(), "child2", Options())
+    }
+
+    @After
+    fun uninstallClock() {
+        clock.uninstall()
+    }
+
+    @Test
+    fun push_isSteppedFrameByFrame() {
+        val onAnimationEnd = mock<Runnable>()
+        StackAnimator(activity).push(child2, child1, Options.EMPTY, emptyList(), onAnimationEnd)
+
+        clock.step()
+        verify(onAnimationEnd, never()).run()
+        assertThat(clock.isIdle).isFalse()
+
+        clock.stepUntilIdle()
+        verify(onAnimationEnd).run()
+
+        val push = clock.transitions.single()
+        assertThat(push.type).isEqualTo(TransitionType.Push)
+        assertThat(push.ended).isTrue()
+        assertThat(push.frames).isBetween(300 / 16, 300 / 16 + 3)
+        assertThat(push.propertyUpdates).isGreaterThanOrEqualTo(push.frames)
+    }
+
+    @Test
+    fun transitionsAreRecordedPerType() {
+        StackAnimator(activity).push(child2, child1, Options.EMPTY, emptyList()) {}
+        clock.stepUntilIdle()
+        val fadeIn = JSONObject().put("enter", JSONObject().put("alpha", JSONObject().put("from", 0).put("to", 1).put("duration", 300)))
+        RootAnimator().setRoot(child1, child2, parseTransitionAnimationOptions(fadeIn)) {}
+        clock.stepUntilIdle()
+
+        assertThat(clock.transitions.map { it.type }).containsExactly(TransitionType.Push, TransitionType.SetRoot)
+    }
+
+    @Test
+    fun uninstall_restoresDefaultFactory() {
+        clock.uninstall()
+        assertThat(AnimatorSetFactory.default).isNotSameAs(clock)
+    }
+}
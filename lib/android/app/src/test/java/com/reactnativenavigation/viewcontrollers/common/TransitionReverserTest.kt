@@ -0,0 +1,150 @@
+package com.reactnativenavigation.viewcontrollers.common
+
+import android.animation.AnimatorSet
+import android.animation.ObjectAnimator
+import android.app.Activity
+import android.view.View
+import com.reactnativenavigation.BaseTest
+import com.reactnativenavigation.mocks.SimpleViewController
+import com.reactnativenavigation.options.Options
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType
+import com.reactnativenavigation.utils.UiUtils
+import com.reactnativenavigation.utils.VirtualAnimationClock
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry
+import com.reactnativenavigation.viewcontrollers.stack.StackAnimator
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.junit.After
+import org.junit.Test
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+import org.robolectric.annotation.Config
+import org.robolectric.annotation.LooperMode
+
+@LooperMode(LooperMode.Mode.PAUSED)
+class TransitionReverserTest : BaseTest() {
+    private lateinit var activity: Activity
+    private lateinit var clock: VirtualAnimationClock
+    private lateinit var animator: StackAnimator
+    private lateinit var child1: SimpleViewController
+    private lateinit var child2: SimpleViewController
+    private lateinit var child3: SimpleViewController
+
+    override fun beforeEach() {
+        super.beforeEach()
+        activity = newActivity()
+        clock = VirtualAnimationClock().install()
+        animator = StackAnimator(activity)
+        val childRegistry = ChildControllersRegistry()
+        child1 = SimpleViewController(activity, childRegistry, "child1", Options())
+        child2 = SimpleViewController(activity, childRegistry, "child2", Options())
+        child3 = SimpleViewController(activity, childRegistry, "child3", Options())
+    }
+
+    @After
+    fun uninstallClock() {
+        clock.uninstall()
+    }
+
+    @Test
+    fun pop_reversesRunningPushFromCurrentPoint() {
+        val onPushEnd = mock<Runnable>()
+        val onPopEnd = mock<Runnable>()
+        animator.push(child2, child1, Options.EMPTY, emptyList(), onPushEnd)
+        repeat(6) { clock.step() }
+        val alpha = child2.view.alpha
+        val translationY = child2.view.translationY
+        assertThat(alpha).isGreaterThan(0f).isLessThan(1f)
+
+        animator.pop(child1, child2, Options.EMPTY, emptyList(), onPopEnd)
+        assertThat(child2.view.alpha).isEqualTo(alpha)
+        assertThat(child2.view.translationY).isEqualTo(translationY)
+        verify(onPopEnd, never()).run()
+
+        clock.step()
+        assertThat(child2.view.alpha).isLessThan(alpha)
+        assertThat(child2.view.translationY).isGreaterThan(translationY)
+
+        clock.stepUntilIdle()
+        verify(onPushEnd).run()
+        verify(onPopEnd).run()
+        assertThat(child2.view.alpha).isZero()
+        assertThat(child2.view.translationY).isEqualTo(UiUtils.getWindowHeight(activity).toFloat())
+        assertThat(animator.isChildInTransition(child2)).isFalse()
+    }
+
+    @Test
+    fun pop_reversalOnlyPlaysWhatThePushPlayed() {
+        animator.push(child2, child1, Options.EMPTY, emptyList()) {}
+        repeat(6) { clock.step() }
+        animator.pop(child1, child2, Options.EMPTY, emptyList()) {}
+        clock.stepUntilIdle()
+        val reversal = clock.transitions.last()
+
+        animator.push(child3, child1, Options.EMPTY, emptyList()) {}
+        clock.stepUntilIdle()
+        animator.pop(child1, child3, Options.EMPTY, emptyList()) {}
+        clock.stepUntilIdle()
+        val pop = clock.transitions.last()
+
+        assertThat(reversal.type).isEqualTo(TransitionType.Pop)
+        assertThat(pop.type).isEqualTo(TransitionType.Pop)
+        assertThat(reversal.frames).isLessThanOrEqualTo(7)
+        assertThat(reversal.frames).isLessThan(pop.frames / 2)
+        assertThat(reversal.propertyUpdates).isLessThan(pop.propertyUpdates)
+    }
+
+    @Test
+    fun pop_pushWhichDidNotPlayIsCompletedImmediately() {
+        val onPushEnd = mock<Runnable>()
+        val onPopEnd = mock<Runnable>()
+        animator.push(child2, child1, Options.EMPTY, emptyList(), onPushEnd)
+        animator.pop(child1, child2, Options.EMPTY, emptyList(), onPopEnd)
+
+        verify(onPushEnd).run()
+        verify(onPopEnd).run()
+        assertThat(clock.transitions.map { it.type }).containsExactly(TransitionType.Push)
+    }
+
+    @Test
+    @Config(sdk = [25])
+    fun pop_reversesRunningPushBeforeOreo() {
+        val onPushEnd = mock<Runnable>()
+        val onPopEnd = mock<Runnable>()
+        animator.push(child2, child1, Options.EMPTY, emptyList(), onPushEnd)
+        repeat(6) { clock.step() }
+        val alpha = child2.view.alpha
+        assertThat(alpha).isGreaterThan(0f).isLessThan(1f)
+
+        animator.pop(child1, child2, Options.EMPTY, emptyList(), onPopEnd)
+        clock.step()
+        assertThat(child2.view.alpha).isLessThan(alpha)
+        verify(onPushEnd, never()).run()
+        assertThat(animator.isChildInTransition(child2)).isTrue()
+
+        clock.stepUntilIdle()
+        verify(onPushEnd).run()
+        verify(onPopEnd).run()
+        assertThat(child2.view.alpha).isZero()
+        assertThat(animator.isChildInTransition(child2)).isFalse()
+    }
+
+    @Test
+    @Config(sdk = [25])
+    fun reverse_animatorsWhichDidNotStartAreNotPlayedBeforeOreo() {
+        val view = View(activity)
+        val first = ObjectAnimator.ofFloat(view, View.ALPHA, 0f, 1f).setDuration(200)
+        val second = ObjectAnimator.ofFloat(view, View.TRANSLATION_X, 0f, 100f).setDuration(200)
+        val transition = AnimatorSetFactory.default.create(TransitionType.Push)
+        transition.play(first).before(second)
+        transition.start()
+        repeat(4) { clock.step() }
+
+        TransitionReverser.reverse(transition) { AnimatorSetFactory.default.create(TransitionType.Pop) }
+        clock.stepUntilIdle()
+
+        assertThat(second.isStarted).isFalse()
+        assertThat(view.translationX).isZero()
+        assertThat(view.alpha).isZero()
+    }
+}
@@ -0,0 +1,101 @@
+package com.reactnativenavigation.viewcontrollers.common
+
+import android.app.Activity
+import com.reactnativenavigation.BaseTest
+import com.reactnativenavigation.mocks.SimpleViewController
+import com.reactnativenavigation.options.Options
+import com.reactnativenavigation.utils.awaitRender
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.junit.Test
+import org.mockito.kotlin.mock
+
+class TransitionScopeTest : BaseTest() {
+    private lateinit var uut: TransitionScope
+    private lateinit var activity: Activity
+    private lateinit var child1: SimpleViewController
+    private lateinit var child2: SimpleViewController
+
+    override fun beforeEach() {
+        super.beforeEach()
+        activity = newActivity()
+        uut = TransitionScope()
+        val childRegistry = mock<ChildControllersRegistry>()
+        child1 = SimpleViewController(activity, childRegistry, "child1", Options())
+        child2 = SimpleViewController(activity, childRegistry, "child2", Options())
+    }
+
+    @Test
+    fun launch_completedTransitionsAreRemoved() {
+        var completed = false
+        uut.launch(child1) { completed = true }
+
+        assertThat(completed).isTrue()
+        assertThat(uut.activeCount).isZero()
+        assertThat(uut.cancelledCount).isZero()
+    }
+
+    @Test
+    fun launch_cancelsSupersededTransitionOfSameController() {
+        var resumed = false
+        val first = uut.launch(child1) {
+            child1.awaitRender()
+            resumed = true
+        }
+        uut.launch(child1) { child1.awaitRender() }
+
+        assertThat(first.isCancelled).isTrue()
+        assertThat(uut.cancelledCount).isOne()
+        assertThat(uut.activeCount).isOne()
+
+        child1.onViewWillAppear()
+        idleMainLooper()
+        assertThat(resumed).isFalse()
+        assertThat(uut.activeCount).isZero()
+    }
+
+    @Test
+    fun launch_doesNotCancelTransitionsOfOtherControllers() {
+        val first = uut.launch(child1) { child1.awaitRender() }
+        uut.launch(child2) { child2.awaitRender() }
+
+        assertThat(first.isActive).isTrue()
+        assertThat(uut.activeCount).isEqualTo(2)
+    }
+
+    @Test
+    fun destroy_abandonsTransition() {
+        val job = uut.launch(child1) { child1.awaitRender() }
+
+        child1.destroy()
+
+        assertThat(job.isCancelled).isTrue()
+        assertThat(uut.abandonedCount).isOne()
+        assertThat(uut.activeCount).isZero()
+    }
+
+    @Test
+    fun cancel_cancelsSuspendedTransition() {
+        val job = uut.launch(child1) { child1.awaitRender() }
+
+        uut.cancel(child1)
+
+        assertThat(job.isCancelled).isTrue()
+        assertThat(uut.cancelledCount).isOne()
+        child1.destroy()
+        assertThat(uut.abandonedCount).isZero()
+    }
+
+    @Test
+    fun cancelAll() {
+        val job1 = uut.launch(child1) { child1.awaitRender() }
+        val job2 = uut.launch(child2) { child2.awaitRender() }
+
+        uut.cancelAll()
+
+        assertThat(job1.isCancelled).isTrue()
+        assertThat(job2.isCancelled).isTrue()
+        assertThat(uut.abandonedCount).isEqualTo(2)
+        assertThat(uut.activeCount).isZero()
+    }
+}
@@ -207,6 +207,16 @@ public class ComponentViewControllerTest extends BaseTest {
         Java6Assertions.assertThat(uut.getTopInset()).isEqualTo(0);
     }
 
+    @Test
+    public void applyTopInsetOffset_offsetsContentWithoutLayout() {
+        addToParent(activity, uut);
+        Mockito.clearInvocations(view);
+        uut.applyTopInsetOffset(-40);
+        Mockito.verify(presenter).applyTopInsetOffset(uut.getView(), -40);
+        Java6Assertions.assertThat(view.getChildAt(0).getTranslationY()).isEqualTo(-40f);
+        Mockito.verify(view, Mockito.never()).requestLayout();
+    }
+
     @Test
     public void applyBottomInset_delegatesToPresenter() {
         addToParent(activity, uut);
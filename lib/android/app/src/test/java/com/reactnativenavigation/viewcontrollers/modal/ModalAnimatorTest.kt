@@ -98,6 +98,23 @@ class ModalAnimatorTest : BaseTest() {
         verify(mockDefaultAnimation.content.exit).getAnimation(mockModal.view)
     }
 
+    @Test
+    fun `dismiss - completes show which still waits for render`() {
+        val sharedElements = SharedElements.parse(newAnimationOptionsJson(true).apply {
+            put("sharedElementTransitions", newSharedElementAnimationOptionsJson())
+        })
+        uut.show(modal1, root, TransitionAnimationOptions(sharedElements = sharedElements), screenAnimationListener)
+        assertThat(modal1.view.alpha).isZero()
+
+        val dismissListener = mock<ScreenAnimationListener>()
+        uut.dismiss(root, modal1, TransitionAnimationOptions(sharedElements = sharedElements), dismissListener)
+
+        verify(screenAnimationListener).onCancel()
+        verify(dismissListener).onEnd()
+        assertThat(modal1.view.alpha).isOne()
+        assertThat(uut.isRunning).isFalse()
+    }
+
     @Test
     fun `show - should play shared transition if it has value`() {
         val sharedElements = SharedElements.parse(newAnimationOptionsJson(true).apply {
@@ -3,15 +3,23 @@ package com.reactnativenavigation.viewcontrollers.stack
 import android.animation.AnimatorSet
 import android.animation.ObjectAnimator
 import android.app.Activity
+import android.view.View
 import android.widget.FrameLayout
 import org.mockito.kotlin.*
 import com.reactnativenavigation.BaseTest
 import com.reactnativenavigation.mocks.Mocks
 import com.reactnativenavigation.mocks.SimpleViewController
 import com.reactnativenavigation.options.Options
+import com.reactnativenavigation.options.SharedElements
+import com.reactnativenavigation.options.newAnimationOptionsJson
+import com.reactnativenavigation.options.newSharedElementAnimationOptionsJson
 import com.reactnativenavigation.options.params.Bool
+import com.reactnativenavigation.profiling.CommandTrace
+import com.reactnativenavigation.profiling.TransitionFrameStats.TransitionType
+import com.reactnativenavigation.utils.Now
 import com.reactnativenavigation.utils.createEnterExitAnimation
 import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry
+import com.reactnativenavigation.viewcontrollers.common.HardwareLayers
 import com.reactnativenavigation.viewcontrollers.viewcontroller.ViewController
 import com.reactnativenavigation.views.element.TransitionAnimatorCreator
 import org.assertj.core.api.Java6Assertions.assertThat
@@ -29,8 +37,8 @@ class StackAnimatorTest : BaseTest() {
         activity = newActivity()
         val transitionAnimatorCreator = mock<TransitionAnimatorCreator> { }
         uut = object : StackAnimator(activity, transitionAnimatorCreator) {
-            override fun createAnimatorSet(): AnimatorSet {
-                commandAnimator = spy(super.createAnimatorSet())
+            override fun createAnimatorSet(type: TransitionType): AnimatorSet {
+                commandAnimator = spy(super.createAnimatorSet(type))
                 return commandAnimator
             }
         }
@@ -95,6 +103,81 @@ class StackAnimatorTest : BaseTest() {
         assertThat(child2.view.alpha).isOne()
     }
 
+    @Test
+    fun push_hardwareLayer_animatedScreensAreLayeredUntilAnimationEnds() {
+        createEnterExitPushAnimation(child2)
+        child2.options.animations.push.hardwareLayer = Bool(true)
+
+        uut.push(child2, child1, child2.options, emptyList(), mock())
+        assertThat(child2.view.layerType).isEqualTo(View.LAYER_TYPE_HARDWARE)
+        assertThat(child1.view.layerType).isEqualTo(View.LAYER_TYPE_HARDWARE)
+
+        commandAnimator.end()
+        assertThat(child2.view.layerType).isEqualTo(View.LAYER_TYPE_NONE)
+        assertThat(child1.view.layerType).isEqualTo(View.LAYER_TYPE_NONE)
+    }
+
+    @Test
+    fun push_hardwareLayer_layerIsDroppedWhenCancelled() {
+        child2.options.animations.push.hardwareLayer = Bool(true)
+
+        uut.push(child2, child1, child2.options, emptyList(), mock())
+        assertThat(child2.view.layerType).isEqualTo(View.LAYER_TYPE_HARDWARE)
+        assertThat(child1.view.layerType).isEqualTo(View.LAYER_TYPE_NONE)
+
+        commandAnimator.cancel()
+        assertThat(child2.view.layerType).isEqualTo(View.LAYER_TYPE_NONE)
+    }
+
+    @Test
+    fun push_hardwareLayer_existingLayersAreKept() {
+        child2.options.animations.push.hardwareLayer = Bool(true)
+        child2.view.setLayerType(View.LAYER_TYPE_SOFTWARE, null)
+
+        uut.push(child2, child1, child2.options, emptyList(), mock())
+        commandAnimator.end()
+
+        assertThat(child2.view.layerType).isEqualTo(View.LAYER_TYPE_SOFTWARE)
+    }
+
+    @Test
+    fun push_hardwareLayer_usesGlobalDefault() {
+        HardwareLayers.enabledByDefault = true
+        try {
+            uut.push(child2, child1, child2.options, emptyList(), mock())
+            assertThat(child2.view.layerType).isEqualTo(View.LAYER_TYPE_HARDWARE)
+            commandAnimator.end()
+
+            child1.options.animations.push.hardwareLayer = Bool(false)
+            uut.push(child1, child2, child1.options, emptyList(), mock())
+            assertThat(child1.view.layerType).isEqualTo(View.LAYER_TYPE_NONE)
+        } finally {
+            HardwareLayers.enabledByDefault = false
+        }
+    }
+
+    @Test
+    fun push_hardwareLayer_isSkippedForScrollDependentScreens() {
+        child2.options.animations.push.hardwareLayer = Bool(true)
+        child2.options.topBar.hideOnScroll = Bool(true)
+
+        uut.push(child2, child1, child2.options, emptyList(), mock())
+
+        assertThat(child2.view.layerType).isEqualTo(View.LAYER_TYPE_NONE)
+    }
+
+    @Test
+    fun pop_hardwareLayer_disappearingScreenIsLayered() {
+        child2.options.animations.pop.hardwareLayer = Bool(true)
+
+        uut.pop(child1, child2, child2.options, emptyList(), mock())
+        assertThat(child2.view.layerType).isEqualTo(View.LAYER_TYPE_HARDWARE)
+        assertThat(child1.view.layerType).isEqualTo(View.LAYER_TYPE_NONE)
+
+        commandAnimator.end()
+        assertThat(child2.view.layerType).isEqualTo(View.LAYER_TYPE_NONE)
+    }
+
     @Test
     fun pop_onlyExitAnimationIsPlayedByDefault() {
         val onAnimationEnd = mock<Runnable>()
@@ -128,6 +211,34 @@ class StackAnimatorTest : BaseTest() {
         }
     }
 
+    @Test
+    fun pop_animationPhasesAreMarkedOnTheCommandTrace() {
+        val trace = CommandTrace("pop", "pop+1", Now())
+        trace.runAsCurrent { uut.pop(child1, child2, child2.options, emptyList(), mock()) }
+
+        commandAnimator.end()
+        assertThat(trace.hasPhase(CommandTrace.Phase.AnimationStart)).isTrue()
+        assertThat(trace.hasPhase(CommandTrace.Phase.AnimationEnd)).isTrue()
+    }
+
+    @Test
+    fun pop_completesPushWhichStillWaitsForRender() {
+        child2.options.animations.push.sharedElements = SharedElements.parse(newAnimationOptionsJson(true).apply {
+            put("sharedElementTransitions", newSharedElementAnimationOptionsJson())
+        })
+        val onPushEnd = mock<Runnable>()
+        uut.push(child2, child1, child2.options, emptyList(), onPushEnd)
+        assertThat(child2.view.alpha).isZero()
+
+        val onPopEnd = mock<Runnable>()
+        uut.pop(child1, child2, child2.options, emptyList(), onPopEnd)
+
+        verify(onPushEnd).run()
+        verify(onPopEnd).run()
+        assertThat(child2.view.alpha).isOne()
+        assertThat(uut.isChildInTransition(child2)).isFalse()
+    }
+
     @Test
     fun setRoot_onlyEnteringScreenIsAnimatedByDefault() {
         val onAnimationEnd = mock<Runnable>()
@@ -4,6 +4,7 @@ import android.app.Activity
 import android.content.Context
 import android.content.res.Configuration
 import android.graphics.Color
+import android.graphics.Rect
 import android.graphics.Typeface
 import android.view.View
 import android.view.ViewGroup
@@ -33,6 +34,7 @@ import com.reactnativenavigation.views.stack.topbar.titlebar.TitleSubTitleLayout
 import org.assertj.core.api.Assertions
 import org.assertj.core.api.Java6Assertions.assertThat
 import org.json.JSONObject
+import org.junit.After
 import org.junit.Test
 import org.mockito.Mockito
 import org.robolectric.shadows.ShadowLooper
@@ -919,6 +921,21 @@ class StackPresenterTest : BaseTest() {
         assertThat(uut.getComponentButtons(child.view, null)).isNull()
     }
 
+    @Test
+    fun onChildDestroyed_heldObjectsNoLongerReferenceChild() {
+        val options = Options()
+        options.topBar.title.component = component(Alignment.Default)
+        options.topBar.buttons.right = ArrayList(listOf(componentBtn1))
+        options.topBar.buttons.left = ArrayList(listOf(componentBtn2))
+        uut.applyChildOptions(options, parent, child)
+        assertThat(uut.heldObjects["titleControllers"]).contains(child.view)
+        assertThat(uut.heldObjects["componentRightButtons"]).contains(child.view)
+        assertThat(uut.heldObjects["componentLeftButtons"]).contains(child.view)
+
+        uut.onChildDestroyed(child)
+        uut.heldObjects.values.forEach { assertThat(it).isEmpty() }
+    }
+
     @Test
     fun onChildDestroyed_mergedRightButtonsAreDestroyed() {
         val options = Options()
@@ -1005,6 +1022,79 @@ class StackPresenterTest : BaseTest() {
         verify(child).applyTopInset()
     }
 
+    @Test
+    fun applyTopInsets_doesNotLayOutTopBarIfItsMarginIsUnchanged() {
+        disablePushAnimation(child)
+        parent.push(child, CommandListenerAdapter())
+        uut.applyTopInsets(parent, child)
+        clearInvocations(topBar)
+
+        uut.applyTopInsets(parent, child)
+        verify(topBar, never()).requestLayout()
+    }
+
+    @Test
+    fun getTopInset_givenTranslateVisibility_includesTopBarWhichIsBeingHidden() {
+        TopBarController.translateVisibility = true
+        whenever(topBarController.isAnimating).thenReturn(true)
+        val options = Options()
+        options.topBar.visible = Bool(false)
+        assertThat(uut.getTopInset(options)).isEqualTo(topBar.height)
+
+        options.topBar.drawBehind = Bool(true)
+        assertThat(uut.getTopInset(options)).isZero()
+    }
+
+    @Test
+    fun getTopInset_givenTranslateVisibility_excludesTopBarWhichIsHiddenAtRest() {
+        TopBarController.translateVisibility = true
+        val options = Options()
+        options.topBar.visible = Bool(false)
+        assertThat(uut.getTopInset(options)).isZero()
+    }
+
+    @Test
+    fun applyTopInsets_givenTranslateVisibility_doesNotOffsetChildWhenTopBarIsHiddenAtRest() {
+        TopBarController.translateVisibility = true
+        child.options.topBar.visible = Bool(false)
+        child.options.topBar.animate = Bool(false)
+        disablePushAnimation(child)
+        parent.push(child, CommandListenerAdapter())
+
+        uut.applyTopInsets(parent, child)
+        verify(child).applyTopInsetOffset(0)
+        assertThat(parent.getTopInset(child)).isZero()
+    }
+
+    @Test
+    fun applyTopInsets_givenTranslateVisibility_offsetsCurrentChildByHiddenPartOfTopBar() {
+        TopBarController.translateVisibility = true
+        disablePushAnimation(child)
+        parent.push(child, CommandListenerAdapter())
+        topBar.translationY = -40f
+
+        uut.applyTopInsets(parent, child)
+        verify(child).applyTopInsetOffset(-40)
+        assertThat(topBar.clipBounds).isEqualTo(Rect(0, 40, topBar.width, topBar.height))
+    }
+
+    @Test
+    fun applyTopInsets_givenTranslateVisibility_doesNotOffsetChildWhichDrawsBehindTopBar() {
+        TopBarController.translateVisibility = true
+        child.options.topBar.drawBehind = Bool(true)
+        disablePushAnimation(child)
+        parent.push(child, CommandListenerAdapter())
+        topBar.translationY = -40f
+
+        uut.applyTopInsets(parent, child)
+        verify(child).applyTopInsetOffset(0)
+    }
+
+    @After
+    fun resetTranslateVisibility() {
+        TopBarController.translateVisibility = false
+    }
+
     @Test
     fun applyChildOptions_shouldNotChangeTopMargin() {
         val options = Options()
@@ -6,6 +6,7 @@ import android.animation.ValueAnimator
 import android.app.Activity
 import android.content.Context
 import android.graphics.Color
+import android.graphics.Rect
 import android.view.View
 import org.mockito.kotlin.*
 import com.reactnativenavigation.BaseTest
@@ -29,6 +30,7 @@ import com.reactnativenavigation.views.animations.ColorAnimator
 import com.reactnativenavigation.views.stack.StackLayout
 import com.reactnativenavigation.views.stack.topbar.TopBar
 import org.assertj.core.api.Java6Assertions.assertThat
+import org.junit.After
 import org.junit.Test
 import java.util.*
 
@@ -173,6 +175,59 @@ class TopBarControllerTest : BaseTest() {
         assertVisible(topBar)
     }
 
+    @Test
+    fun hide_givenTranslateVisibility_keepsTopBarInLayout() {
+        givenTranslateVisibility()
+        uut.hide()
+        assertThat(topBar.visibility).isEqualTo(View.INVISIBLE)
+        assertThat(topBar.translationY).isEqualTo(-100f)
+        assertThat(uut.visibleHeight).isZero()
+
+        uut.show()
+        assertVisible(topBar)
+        assertThat(uut.visibleHeight).isEqualTo(100)
+    }
+
+    @Test
+    fun hideAnimation_givenTranslateVisibility_endsInvisible() {
+        givenTranslateVisibility()
+        val animator = TopBarAppearanceAnimator(uut.view)
+        animator.hide()
+        animator.hideAnimator.end()
+        assertThat(topBar.visibility).isEqualTo(View.INVISIBLE)
+        assertThat(animator.isOrWillBeHidden).isTrue()
+    }
+
+    @Test
+    fun visibleHeight_excludesPartTranslatedAboveSlot() {
+        topBar.layout(0, 0, 1000, 100)
+        topBar.translationY = -40f
+        assertThat(uut.visibleHeight).isEqualTo(60)
+
+        topBar.translationY = -140f
+        assertThat(uut.visibleHeight).isZero()
+    }
+
+    @Test
+    fun clipToSlot_clipsPartTranslatedAboveSlot() {
+        givenTranslateVisibility()
+        topBar.translationY = -40f
+        uut.clipToSlot()
+        assertThat(topBar.clipBounds).isEqualTo(Rect(0, 40, 1000, 100))
+
+        topBar.translationY = 0f
+        uut.clipToSlot()
+        assertThat(topBar.clipBounds).isNull()
+    }
+
+    @Test
+    fun clipToSlot_keepsHiddenTopBarAboveSlot() {
+        givenTranslateVisibility()
+        topBar.visibility = View.INVISIBLE
+        uut.clipToSlot()
+        assertThat(topBar.translationY).isEqualTo(-100f)
+    }
+
     @Test
     fun getPushAnimation_givenAnimDisabled_returnsNull() {
         val appearing = Options()
@@ -344,6 +399,16 @@ class TopBarControllerTest : BaseTest() {
         assertThat(result).isEqualTo(someAnimator)
     }
 
+    @After
+    fun resetTranslateVisibility() {
+        TopBarController.translateVisibility = false
+    }
+
+    private fun givenTranslateVisibility() {
+        TopBarController.translateVisibility = true
+        topBar.layout(0, 0, 1000, 100)
+    }
+
     private fun createButtons() {
         leftButton = ButtonOptions()
         leftButton.id = Constants.BACK_BUTTON_ID
@@ -0,0 +1,93 @@
+package com.reactnativenavigation.viewcontrollers.viewcontroller;
+
+import android.app.Activity;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import com.facebook.react.views.scroll.ScrollEventType;
+import com.reactnativenavigation.BaseTest;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class ScrollEventListenerTest extends BaseTest {
+    private ScrollEventListener uut;
+    private FrameLayout screen;
+    private FrameLayout scrollView;
+    private FrameLayout otherScreenScrollView;
+    private ScrollEventListener.OnScrollListener scrollListener;
+    private ScrollEventListener.OnDragListener dragListener;
+
+    @Override
+    public void beforeEach() {
+        super.beforeEach();
+        Activity activity = newActivity();
+        FrameLayout root = new FrameLayout(activity);
+        screen = new FrameLayout(activity);
+        FrameLayout content = new FrameLayout(activity);
+        scrollView = new FrameLayout(activity);
+        otherScreenScrollView = new FrameLayout(activity);
+        content.addView(scrollView);
+        screen.addView(content);
+        root.addView(screen);
+        root.addView(otherScreenScrollView);
+        activity.setContentView(root);
+
+        ScrollEventListener.ScrollAwareView scrollAwareView = Mockito.mock(ScrollEventListener.ScrollAwareView.class);
+        when(scrollAwareView.getMeasuredHeight()).thenReturn(100);
+        scrollListener = Mockito.mock(ScrollEventListener.OnScrollListener.class);
+        dragListener = Mockito.mock(ScrollEventListener.OnDragListener.class);
+        uut = new ScrollEventListener(screen);
+        uut.register(scrollAwareView, scrollListener, dragListener);
+    }
+
+    @Test
+    public void onScroll_scrollViewsInScreenAreTracked() {
+        uut.onScroll(scrollView, ScrollEventType.BEGIN_DRAG, 0, 0);
+        scrollView.setScrollY(20);
+        uut.onScroll(scrollView, ScrollEventType.SCROLL, 0, 0);
+        verify(scrollListener).onScrollUp(-20);
+    }
+
+    @Test
+    public void onScroll_scrollViewsOutsideOfScreenAreIgnored() {
+        uut.onScroll(otherScreenScrollView, ScrollEventType.BEGIN_DRAG, 0, 0);
+        otherScreenScrollView.setScrollY(20);
+        uut.onScroll(otherScreenScrollView, ScrollEventType.SCROLL, 0, 0);
+        verify(scrollListener, never()).onScrollUp(anyFloat());
+        verify(scrollListener, never()).onScrollDown(anyFloat());
+    }
+
+    @Test
+    public void onScroll_trackedScrollViewIsIgnoredWhileScreenIsHidden() {
+        uut.onScroll(scrollView, ScrollEventType.BEGIN_DRAG, 0, 0);
+        scrollView.setScrollY(20);
+        uut.onScroll(scrollView, ScrollEventType.SCROLL, 0, 0);
+        verify(scrollListener).onScrollUp(-20);
+
+        screen.setVisibility(View.GONE);
+        scrollView.setScrollY(40);
+        uut.onScroll(scrollView, ScrollEventType.SCROLL, 0, 0);
+        verify(scrollListener, times(1)).onScrollUp(anyFloat());
+        verify(scrollListener, never()).onScrollDown(anyFloat());
+    }
+
+    @Test
+    public void onScroll_endDrag() {
+        uut.onScroll(scrollView, ScrollEventType.BEGIN_DRAG, 0, 0);
+        uut.onScroll(scrollView, ScrollEventType.END_DRAG, 0, 1);
+        idleMainLooper();
+        verify(dragListener).onShow();
+
+        uut.onScroll(scrollView, ScrollEventType.BEGIN_DRAG, 0, 0);
+        uut.onScroll(scrollView, ScrollEventType.END_DRAG, 0, -1);
+        idleMainLooper();
+        verify(dragListener).onHide();
+    }
+}
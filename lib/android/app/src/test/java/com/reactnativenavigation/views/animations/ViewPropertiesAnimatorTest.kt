@@ -0,0 +1,141 @@
+package com.reactnativenavigation.views.animations
+
+import android.animation.Animator
+import android.animation.AnimatorListenerAdapter
+import android.animation.AnimatorSet
+import android.view.View
+import android.view.animation.AccelerateInterpolator
+import android.view.animation.LinearInterpolator
+import com.reactnativenavigation.BaseTest
+import com.reactnativenavigation.options.AnimationOptions
+import com.reactnativenavigation.utils.ScreenAnimationListener
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.assertj.core.api.Java6Assertions.within
+import org.json.JSONObject
+import org.junit.After
+import org.junit.Test
+import org.mockito.kotlin.mock
+import org.mockito.kotlin.never
+import org.mockito.kotlin.verify
+
+class ViewPropertiesAnimatorTest : BaseTest() {
+    private lateinit var view: View
+    private lateinit var uut: ViewPropertiesAnimator
+
+    override fun beforeEach() {
+        super.beforeEach()
+        view = View(newActivity())
+        uut = ViewPropertiesAnimator(view)
+    }
+
+    @After
+    fun disableViewPropertiesAnimator() {
+        AnimationOptions.useViewPropertiesAnimator = false
+        ViewPropertiesAnimator.clearPool()
+    }
+
+    @Test
+    fun duration_spansAllProperties() {
+        uut.add(View.ALPHA, 0f, 1f, 0, 100, LinearInterpolator())
+        uut.add(View.TRANSLATION_X, 0f, 100f, 50, 200, LinearInterpolator())
+        assertThat(uut.duration).isEqualTo(250)
+        assertThat(uut.propertyCount).isEqualTo(2)
+    }
+
+    @Test
+    fun propertiesAreAnimatedWithTheirOwnTiming() {
+        uut.add(View.ALPHA, 0f, 1f, 0, 100, LinearInterpolator())
+        uut.add(View.TRANSLATION_X, 0f, 100f, 100, 100, AccelerateInterpolator())
+        view.translationX = 7f
+
+        uut.currentPlayTime = 50
+        assertThat(view.alpha).isEqualTo(0.5f, within(0.001f))
+        assertThat(view.translationX).isEqualTo(7f)
+
+        uut.currentPlayTime = 150
+        assertThat(view.alpha).isEqualTo(1f)
+        assertThat(view.translationX).isEqualTo(100f * AccelerateInterpolator().getInterpolation(0.5f), within(0.001f))
+    }
+
+    @Test
+    fun end_setsFinalValues() {
+        uut.add(View.ALPHA, 1f, 0f, 0, 100, LinearInterpolator())
+        uut.add(View.SCALE_X, 1f, 2f, 20, 100, LinearInterpolator())
+
+        uut.start()
+        uut.end()
+
+        assertThat(view.alpha).isZero()
+        assertThat(view.scaleX).isEqualTo(2f)
+    }
+
+    @Test
+    fun animationOptions_animatesAllPropertiesWithASingleAnimator() {
+        AnimationOptions.useViewPropertiesAnimator = true
+        val options = AnimationOptions(JSONObject()
+                .put("alpha", JSONObject().put("from", 0).put("to", 1).put("duration", 100))
+                .put("scaleY", JSONObject().put("from", 0.5).put("to", 1).put("duration", 200).put("interpolation", JSONObject().put("type", "decelerate"))))
+
+        val animator = options.getAnimation(view)
+
+        assertThat(animator).isInstanceOf(ViewPropertiesAnimator::class.java)
+        assertThat((animator as ViewPropertiesAnimator).propertyCount).isEqualTo(2)
+        assertThat(animator.duration).isEqualTo(200)
+    }
+
+    @Test
+    fun animationOptions_listenerSemanticsAreKept() {
+        AnimationOptions.useViewPropertiesAnimator = true
+        val options = AnimationOptions(JSONObject().put("alpha", JSONObject().put("from", 0).put("to", 1)))
+        val listener = mock<ScreenAnimationListener>()
+        val set = AnimatorSet()
+        set.addListener(object : AnimatorListenerAdapter() {
+            override fun onAnimationStart(animation: Animator) = listener.onStart()
+            override fun onAnimationCancel(animation: Animator) = listener.onCancel()
+            override fun onAnimationEnd(animation: Animator) = listener.onEnd()
+        })
+        set.play(options.getAnimation(view))
+
+        set.start()
+        verify(listener).onStart()
+        verify(listener, never()).onEnd()
+
+        set.cancel()
+        verify(listener).onCancel()
+        verify(listener).onEnd()
+    }
+
+    @Test
+    fun recycleOnEnd_animatorsAreReusedOnceTheirTransitionEnds() {
+        val set = AnimatorSet()
+        ViewPropertiesAnimator.recycleOnEnd(set)
+        val animator = ViewPropertiesAnimator.obtain(view).add(View.ALPHA, 0f, 1f, 0, 100, LinearInterpolator())
+        set.playTogether(AnimatorSet().apply { play(animator) })
+
+        set.start()
+        val other = View(newActivity())
+        assertThat(ViewPropertiesAnimator.obtain(other)).isNotSameAs(animator)
+
+        set.end()
+        val recycled = ViewPropertiesAnimator.obtain(other)
+        assertThat(recycled).isSameAs(animator)
+        assertThat(recycled.view).isSameAs(other)
+        assertThat(recycled.propertyCount).isZero()
+        assertThat(recycled.listeners).isNull()
+    }
+
+    @Test
+    fun recycleOnEnd_animatorsAreRecycledOnce() {
+        val set = AnimatorSet()
+        ViewPropertiesAnimator.recycleOnEnd(set)
+        ViewPropertiesAnimator.recycleOnEnd(set)
+        val animator = ViewPropertiesAnimator.obtain(view).add(View.ALPHA, 0f, 1f, 0, 100, LinearInterpolator())
+        set.play(animator)
+
+        set.start()
+        set.cancel()
+
+        assertThat(ViewPropertiesAnimator.obtain(view)).isSameAs(animator)
+        assertThat(ViewPropertiesAnimator.obtain(view)).isNotSameAs(animator)
+    }
+}
@@ -0,0 +1,83 @@
+package com.reactnativenavigation.views.element
+
+import com.reactnativenavigation.BaseTest
+import kotlinx.coroutines.CancellableContinuation
+import kotlinx.coroutines.CoroutineScope
+import kotlinx.coroutines.Dispatchers
+import kotlinx.coroutines.launch
+import kotlinx.coroutines.suspendCancellableCoroutine
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.junit.Test
+import org.robolectric.shadows.ShadowLooper
+import java.util.concurrent.TimeUnit
+import kotlin.coroutines.resume
+
+class ReadinessBudgetTest : BaseTest() {
+    private val scope = CoroutineScope(Dispatchers.Main.immediate)
+    private var continuation: CancellableContinuation<String>? = null
+    private var result: String? = null
+    private var completed = false
+
+    @Test
+    fun await_returnsResultWithinBudget() {
+        val uut = ReadinessBudget(100)
+        awaitReady(uut)
+
+        ShadowLooper.idleMainLooper(50, TimeUnit.MILLISECONDS)
+        continuation!!.resume("ready")
+        idleMainLooper()
+
+        assertThat(completed).isTrue()
+        assertThat(result).isEqualTo("ready")
+        assertThat(uut.timeouts).isZero()
+    }
+
+    @Test
+    fun await_cancelsWaitWhenBudgetElapses() {
+        val uut = ReadinessBudget(100)
+        awaitReady(uut)
+
+        ShadowLooper.idleMainLooper(100, TimeUnit.MILLISECONDS)
+
+        assertThat(completed).isTrue()
+        assertThat(result).isNull()
+        assertThat(continuation!!.isCancelled).isTrue()
+        assertThat(uut.timeouts).isOne()
+    }
+
+    @Test
+    fun await_budgetIsSharedByAllWaits() {
+        val uut = ReadinessBudget(100)
+        awaitReady(uut)
+        ShadowLooper.idleMainLooper(60, TimeUnit.MILLISECONDS)
+        continuation!!.resume("first")
+        idleMainLooper()
+
+        awaitReady(uut)
+        ShadowLooper.idleMainLooper(40, TimeUnit.MILLISECONDS)
+
+        assertThat(result).isNull()
+        assertThat(uut.timeouts).isOne()
+    }
+
+    @Test
+    fun await_unboundedBudgetWaitsUntilReady() {
+        val uut = ReadinessBudget(ReadinessBudget.UNBOUNDED)
+        awaitReady(uut)
+
+        ShadowLooper.idleMainLooper(10, TimeUnit.SECONDS)
+        assertThat(completed).isFalse()
+        continuation!!.resume("ready")
+
+        assertThat(result).isEqualTo("ready")
+        assertThat(uut.timeouts).isZero()
+    }
+
+    private fun awaitReady(budget: ReadinessBudget) {
+        completed = false
+        scope.launch {
+            result = budget.await { suspendCancellableCoroutine<String> { continuation = it } }
+            completed = true
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.reactnativenavigation.views.element
+
+import android.app.Activity
+import android.view.View
+import android.view.ViewGroup
+import com.reactnativenavigation.BaseTest
+import com.reactnativenavigation.mocks.SimpleViewController
+import com.reactnativenavigation.options.Options
+import com.reactnativenavigation.options.SharedElementTransitionOptions
+import com.reactnativenavigation.viewcontrollers.child.ChildControllersRegistry
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.json.JSONObject
+import org.junit.Test
+import org.mockito.kotlin.mock
+
+class SnapshotTransitionAnimatorCreatorTest : BaseTest() {
+    private lateinit var uut: SnapshotTransitionAnimatorCreator
+    private lateinit var activity: Activity
+    private lateinit var fromScreen: SimpleViewController
+    private lateinit var toScreen: SimpleViewController
+    private lateinit var from: View
+    private lateinit var to: View
+    private lateinit var transitions: TransitionSet
+
+    override fun beforeEach() {
+        super.beforeEach()
+        activity = newActivity()
+        uut = SnapshotTransitionAnimatorCreator()
+        val childRegistry = mock<ChildControllersRegistry>()
+        fromScreen = SimpleViewController(activity, childRegistry, "fromScreen", Options())
+        toScreen = SimpleViewController(activity, childRegistry, "toScreen", Options())
+        from = View(activity)
+        to = View(activity)
+        fromScreen.view.addView(from)
+        toScreen.view.addView(to)
+        from.layout(0, 0, 100, 100)
+        to.layout(50, 100, 250, 300)
+
+        val options = SharedElementTransitionOptions.parse(JSONObject().put("fromId", "from").put("toId", "to").put("duration", 100))
+        transitions = TransitionSet().apply {
+            add(SharedElementTransition(toScreen, options).also {
+                it.from = from
+                it.to = to
+            })
+        }
+    }
+
+    @Test
+    fun create_doesNotModifyViewsUntilStarted() {
+        uut.create(transitions)
+
+        assertThat(from.alpha).isOne()
+        assertThat(to.alpha).isOne()
+        assertThat(snapshots(toScreen.view)).isEmpty()
+    }
+
+    @Test
+    fun start_hidesViewsInPlaceAndShowsSnapshotsInOverlay() {
+        val animator = uut.create(transitions)
+        animator.start()
+
+        assertThat(from.parent).isEqualTo(fromScreen.view)
+        assertThat(to.parent).isEqualTo(toScreen.view)
+        assertThat(from.alpha).isZero()
+        assertThat(to.alpha).isZero()
+        assertThat(snapshots(toScreen.view).map { it.source }).containsExactly(from, to)
+    }
+
+    @Test
+    fun end_restoresViewsAndRemovesSnapshots() {
+        val animator = uut.create(transitions)
+        animator.start()
+        val snapshots = snapshots(toScreen.view)
+        animator.end()
+
+        assertThat(from.alpha).isOne()
+        assertThat(to.alpha).isOne()
+        assertThat(snapshots(toScreen.view)).isEmpty()
+        snapshots.forEach {
+            assertThat(it.translationX).isEqualTo(50f)
+            assertThat(it.translationY).isEqualTo(100f)
+            assertThat(it.scaleX).isEqualTo(2f)
+            assertThat(it.scaleY).isEqualTo(2f)
+        }
+        assertThat(snapshots.first { it.source == to }.alpha).isOne()
+        assertThat(snapshots.first { it.source == from }.alpha).isZero()
+    }
+
+    @Test
+    fun cancel_restoresViews() {
+        val animator = uut.create(transitions)
+        animator.start()
+        animator.cancel()
+
+        assertThat(from.alpha).isOne()
+        assertThat(to.alpha).isOne()
+        assertThat(snapshots(toScreen.view)).isEmpty()
+    }
+
+    private fun snapshots(view: View): List<SnapshotView> = when (view) {
+        is SnapshotView -> listOf(view)
+        is ViewGroup -> (0 until view.childCount).flatMap { snapshots(view.getChildAt(it)) }
+        else -> emptyList()
+    }
+}
@@ -0,0 +1,57 @@
+package com.reactnativenavigation.views.element.finder
+
+import android.app.Activity
+import android.view.View
+import android.widget.FrameLayout
+import com.facebook.react.R
+import com.facebook.react.uimanager.util.ReactFindViewUtil
+import com.reactnativenavigation.BaseTest
+import org.assertj.core.api.Java6Assertions.assertThat
+import org.junit.Test
+
+class NativeIdIndexTest : BaseTest() {
+    private lateinit var activity: Activity
+    private lateinit var root: FrameLayout
+
+    override fun beforeEach() {
+        super.beforeEach()
+        activity = newActivity()
+        root = FrameLayout(activity)
+    }
+
+    @Test
+    fun get_findsNestedViews() {
+        val container = FrameLayout(activity).withNativeId("container")
+        val image = View(activity).withNativeId("image")
+        container.addView(image)
+        root.addView(container)
+
+        val uut = NativeIdIndex(root)
+
+        assertThat(uut["container"]).isSameAs(container)
+        assertThat(uut["image"]).isSameAs(image)
+        assertThat(uut["missing"]).isNull()
+        assertThat(uut.size).isEqualTo(2)
+    }
+
+    @Test
+    fun get_resolvesDuplicateIdsLikeReactFindViewUtil() {
+        val first = FrameLayout(activity).withNativeId("id")
+        val nested = View(activity).withNativeId("id")
+        val sibling = View(activity).withNativeId("id")
+        first.addView(nested)
+        root.addView(first)
+        root.addView(sibling)
+
+        assertThat(NativeIdIndex(root)["id"]).isSameAs(first)
+        assertThat(NativeIdIndex(root)["id"]).isSameAs(ReactFindViewUtil.findView(root, "id"))
+    }
+
+    @Test
+    fun get_indexesRoot() {
+        root.withNativeId("root")
+        assertThat(NativeIdIndex(root)["root"]).isSameAs(root)
+    }
+
+    private fun <T : View> T.withNativeId(nativeId: String) = apply { setTag(R.id.view_tag_native_id, nativeId) }
+}
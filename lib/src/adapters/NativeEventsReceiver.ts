@@ -13,16 +13,45 @@ import {
 } from '../interfaces/ComponentEvents';
 import {
   CommandCompletedEvent,
+  CommandTraceEvent,
+  NavigationMetricsEvent,
+  TransitionFrameStatsEvent,
   BottomTabSelectedEvent,
   BottomTabLongPressedEvent,
   BottomTabPressedEvent,
 } from '../interfaces/Events';
+import { EventSubscription } from '../interfaces/EventSubscription';
+
+interface BatchedEvent {
+  name: string;
+  data: object;
+}
+
+interface NativeEventSubscriptionsModule {
+  setEventFilteringEnabled(enabled: boolean): void;
+  addEventListener(eventName: string): void;
+  removeEventListener(eventName: string): void;
+  addComponentEventListener(componentId: string): void;
+  removeComponentEventListener(componentId: string): void;
+  setNavigationMetricsReportingInterval?(intervalMs: number): void;
+  setTransitionJankMonitorEnabled?(enabled: boolean): void;
+}
 
 export class NativeEventsReceiver {
   private emitter: NativeEventEmitter;
+  private subscriptionsModule?: NativeEventSubscriptionsModule;
+  private navigationMetricsListeners = 0;
+  private transitionFrameStatsListeners = 0;
   constructor() {
+    if (NativeModules.RNNBridgeModule?.setEventFilteringEnabled) {
+      this.subscriptionsModule = NativeModules.RNNBridgeModule;
+      this.subscriptionsModule!.setEventFilteringEnabled(true);
+    }
     try {
       this.emitter = new NativeEventEmitter(NativeModules.RNNEventEmitter);
+      this.emitter.addListener('RNN.EventBatch', (events: BatchedEvent[]) =>
+        events.forEach((event) => this.emitter.emit(event.name, event.data))
+      );
     } catch {
       this.emitter = {
         addListener: () => {
@@ -39,86 +68,169 @@ export class NativeEventsReceiver {
   }
 
   public registerComponentWillAppearListener(
-    callback: (event: ComponentWillAppearEvent) => void
+    callback: (event: ComponentWillAppearEvent) => void,
+    componentScoped = false
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.ComponentWillAppear', callback);
+    return this.addListener('RNN.ComponentWillAppear', callback, componentScoped);
   }
 
   public registerComponentDidAppearListener(
-    callback: (event: ComponentDidAppearEvent) => void
+    callback: (event: ComponentDidAppearEvent) => void,
+    componentScoped = false
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.ComponentDidAppear', callback);
+    return this.addListener('RNN.ComponentDidAppear', callback, componentScoped);
   }
 
   public registerComponentDidDisappearListener(
-    callback: (event: ComponentDidDisappearEvent) => void
+    callback: (event: ComponentDidDisappearEvent) => void,
+    componentScoped = false
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.ComponentDidDisappear', callback);
+    return this.addListener('RNN.ComponentDidDisappear', callback, componentScoped);
   }
 
   public registerNavigationButtonPressedListener(
-    callback: (event: NavigationButtonPressedEvent) => void
+    callback: (event: NavigationButtonPressedEvent) => void,
+    componentScoped = false
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.NavigationButtonPressed', callback);
+    return this.addListener('RNN.NavigationButtonPressed', callback, componentScoped);
   }
 
   public registerBottomTabPressedListener(
     callback: (data: BottomTabPressedEvent) => void
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.BottomTabPressed', callback);
+    return this.addListener('RNN.BottomTabPressed', callback);
   }
 
   public registerModalDismissedListener(
     callback: (event: ModalDismissedEvent) => void
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.ModalDismissed', callback);
+    return this.addListener('RNN.ModalDismissed', callback);
   }
 
   public registerModalAttemptedToDismissListener(
     callback: (event: ModalAttemptedToDismissEvent) => void
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.ModalAttemptedToDismiss', callback);
+    return this.addListener('RNN.ModalAttemptedToDismiss', callback);
   }
 
   public registerSearchBarUpdatedListener(
     callback: (event: SearchBarUpdatedEvent) => void
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.SearchBarUpdated', callback);
+    return this.addListener('RNN.SearchBarUpdated', callback);
   }
 
   public registerSearchBarCancelPressedListener(
     callback: (event: SearchBarCancelPressedEvent) => void
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.SearchBarCancelPressed', callback);
+    return this.addListener('RNN.SearchBarCancelPressed', callback);
   }
 
   public registerPreviewCompletedListener(
     callback: (event: PreviewCompletedEvent) => void
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.PreviewCompleted', callback);
+    return this.addListener('RNN.PreviewCompleted', callback);
   }
 
   public registerCommandCompletedListener(
     callback: (data: CommandCompletedEvent) => void
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.CommandCompleted', callback);
+    return this.addListener('RNN.CommandCompleted', callback);
+  }
+
+  public registerCommandTraceListener(
+    callback: (data: CommandTraceEvent) => void
+  ): EmitterSubscription {
+    return this.addListener('RNN.CommandTrace', callback);
+  }
+
+  public registerNavigationMetricsListener(
+    callback: (data: NavigationMetricsEvent) => void,
+    reportingIntervalMs = 5000
+  ): EmitterSubscription {
+    const subscription = this.addListener('RNN.NavigationMetrics', callback);
+    this.navigationMetricsListeners++;
+    this.subscriptionsModule?.setNavigationMetricsReportingInterval?.(reportingIntervalMs);
+    const remove = subscription.remove.bind(subscription);
+    let removed = false;
+    subscription.remove = () => {
+      remove();
+      if (removed) return;
+      removed = true;
+      if (--this.navigationMetricsListeners === 0) {
+        this.subscriptionsModule?.setNavigationMetricsReportingInterval?.(0);
+      }
+    };
+    return subscription;
+  }
+
+  public registerTransitionFrameStatsListener(
+    callback: (data: TransitionFrameStatsEvent) => void
+  ): EmitterSubscription {
+    const subscription = this.addListener('RNN.TransitionFrameStats', callback);
+    if (this.transitionFrameStatsListeners++ === 0) {
+      this.subscriptionsModule?.setTransitionJankMonitorEnabled?.(true);
+    }
+    const remove = subscription.remove.bind(subscription);
+    let removed = false;
+    subscription.remove = () => {
+      remove();
+      if (removed) return;
+      removed = true;
+      if (--this.transitionFrameStatsListeners === 0) {
+        this.subscriptionsModule?.setTransitionJankMonitorEnabled?.(false);
+      }
+    };
+    return subscription;
   }
 
   public registerBottomTabSelectedListener(
     callback: (data: BottomTabSelectedEvent) => void
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.BottomTabSelected', callback);
+    return this.addListener('RNN.BottomTabSelected', callback);
   }
 
   public registerBottomTabLongPressedListener(
     callback: (data: BottomTabLongPressedEvent) => void
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.BottomTabLongPressed', callback);
+    return this.addListener('RNN.BottomTabLongPressed', callback);
   }
 
   public registerScreenPoppedListener(
-    callback: (event: ScreenPoppedEvent) => void
+    callback: (event: ScreenPoppedEvent) => void,
+    componentScoped = false
+  ): EmitterSubscription {
+    return this.addListener('RNN.ScreenPopped', callback, componentScoped);
+  }
+
+  public registerComponentEventsInterest(componentId: string): EventSubscription {
+    this.subscriptionsModule?.addComponentEventListener(componentId);
+    let removed = false;
+    return {
+      remove: () => {
+        if (removed) return;
+        removed = true;
+        this.subscriptionsModule?.removeComponentEventListener(componentId);
+      },
+    };
+  }
+
+  private addListener(
+    eventName: string,
+    callback: (...args: any[]) => any,
+    componentScoped = false
   ): EmitterSubscription {
-    return this.emitter.addListener('RNN.ScreenPopped', callback);
+    const subscription = this.emitter.addListener(eventName, callback);
+    if (!this.subscriptionsModule || componentScoped) return subscription;
+
+    this.subscriptionsModule.addEventListener(eventName);
+    const remove = subscription.remove.bind(subscription);
+    let removed = false;
+    subscription.remove = () => {
+      remove();
+      if (removed) return;
+      removed = true;
+      this.subscriptionsModule?.removeEventListener(eventName);
+    };
+    return subscription;
   }
 }
@@ -24,6 +24,7 @@ type ReactComponentWithIndexing = NavigationComponentListener & Record<string, a
 
 export class ComponentEventsObserver {
   private listeners: Record<string, Record<string, ReactComponentWithIndexing>> = {};
+  private interests: Record<string, Record<string, EventSubscription>> = {};
   private alreadyRegistered = false;
 
   constructor(
@@ -45,20 +46,28 @@ export class ComponentEventsObserver {
       return;
     }
     this.alreadyRegistered = true;
-    this.nativeEventsReceiver.registerComponentWillAppearListener(this.notifyComponentWillAppear);
-    this.nativeEventsReceiver.registerComponentDidAppearListener(this.notifyComponentDidAppear);
+    this.nativeEventsReceiver.registerComponentWillAppearListener(
+      this.notifyComponentWillAppear,
+      true
+    );
+    this.nativeEventsReceiver.registerComponentDidAppearListener(
+      this.notifyComponentDidAppear,
+      true
+    );
     this.nativeEventsReceiver.registerComponentDidDisappearListener(
-      this.notifyComponentDidDisappear
+      this.notifyComponentDidDisappear,
+      true
     );
     this.nativeEventsReceiver.registerNavigationButtonPressedListener(
-      this.notifyNavigationButtonPressed
+      this.notifyNavigationButtonPressed,
+      true
     );
     this.nativeEventsReceiver.registerSearchBarUpdatedListener(this.notifySearchBarUpdated);
     this.nativeEventsReceiver.registerSearchBarCancelPressedListener(
       this.notifySearchBarCancelPressed
     );
     this.nativeEventsReceiver.registerPreviewCompletedListener(this.notifyPreviewCompleted);
-    this.nativeEventsReceiver.registerScreenPoppedListener(this.notifyPreviewCompleted);
+    this.nativeEventsReceiver.registerScreenPoppedListener(this.notifyPreviewCompleted, true);
   }
 
   public bindComponent(
@@ -88,15 +97,31 @@ export class ComponentEventsObserver {
     }
     if (isNil(this.listeners[componentId])) {
       this.listeners[componentId] = {};
+      this.interests[componentId] = {};
     }
     const key = uniqueId();
     this.listeners[componentId][key] = listener;
-
-    return { remove: () => unset(this.listeners[componentId], key) };
+    this.interests[componentId][key] =
+      this.nativeEventsReceiver.registerComponentEventsInterest(componentId);
+
+    return {
+      remove: () => {
+        unset(this.listeners[componentId], key);
+        this.removeInterest(componentId, key);
+      },
+    };
   }
 
   public unmounted(componentId: string) {
     unset(this.listeners, componentId);
+    forEach(this.interests[componentId], (_interest, key) => this.removeInterest(componentId, key));
+    unset(this.interests, componentId);
+  }
+
+  private removeInterest(componentId: string, key: string) {
+    const interest = this.interests[componentId]?.[key];
+    interest?.remove();
+    unset(this.interests[componentId], key);
   }
 
   notifyComponentWillAppear(event: ComponentWillAppearEvent) {
@@ -58,6 +58,30 @@ describe('EventsRegistry', () => {
     expect(mockNativeEventsReceiver.registerCommandCompletedListener).toHaveBeenCalledWith(cb);
   });
 
+  it('delegates CommandTrace to nativeEventsReceiver', () => {
+    const cb = jest.fn();
+    uut.registerCommandTraceListener(cb);
+    expect(mockNativeEventsReceiver.registerCommandTraceListener).toHaveBeenCalledTimes(1);
+    expect(mockNativeEventsReceiver.registerCommandTraceListener).toHaveBeenCalledWith(cb);
+  });
+
+  it('delegates NavigationMetrics to nativeEventsReceiver', () => {
+    const cb = jest.fn();
+    uut.registerNavigationMetricsListener(cb, 1000);
+    expect(mockNativeEventsReceiver.registerNavigationMetricsListener).toHaveBeenCalledTimes(1);
+    expect(mockNativeEventsReceiver.registerNavigationMetricsListener).toHaveBeenCalledWith(
+      cb,
+      1000
+    );
+  });
+
+  it('delegates TransitionFrameStats to nativeEventsReceiver', () => {
+    const cb = jest.fn();
+    uut.registerTransitionFrameStatsListener(cb);
+    expect(mockNativeEventsReceiver.registerTransitionFrameStatsListener).toHaveBeenCalledTimes(1);
+    expect(mockNativeEventsReceiver.registerTransitionFrameStatsListener).toHaveBeenCalledWith(cb);
+  });
+
   it('delegates BottomTabsSelected to nativeEventsReceiver', () => {
     const cb = jest.fn();
     uut.registerBottomTabSelectedListener(cb);
@@ -20,6 +20,9 @@ import {
 } from '../interfaces/ComponentEvents';
 import {
   CommandCompletedEvent,
+  CommandTraceEvent,
+  NavigationMetricsEvent,
+  TransitionFrameStatsEvent,
   BottomTabSelectedEvent,
   BottomTabLongPressedEvent,
   BottomTabPressedEvent,
@@ -60,6 +63,28 @@ export class EventsRegistry {
     return this.nativeEventsReceiver.registerCommandCompletedListener(callback);
   }
 
+  public registerCommandTraceListener(
+    callback: (event: CommandTraceEvent) => void
+  ): EmitterSubscription {
+    return this.nativeEventsReceiver.registerCommandTraceListener(callback);
+  }
+
+  public registerNavigationMetricsListener(
+    callback: (event: NavigationMetricsEvent) => void,
+    reportingIntervalMs?: number
+  ): EmitterSubscription {
+    return this.nativeEventsReceiver.registerNavigationMetricsListener(
+      callback,
+      reportingIntervalMs
+    );
+  }
+
+  public registerTransitionFrameStatsListener(
+    callback: (event: TransitionFrameStatsEvent) => void
+  ): EmitterSubscription {
+    return this.nativeEventsReceiver.registerTransitionFrameStatsListener(callback);
+  }
+
   public registerBottomTabSelectedListener(
     callback: (event: BottomTabSelectedEvent) => void
   ): EmitterSubscription {
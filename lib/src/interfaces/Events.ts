@@ -4,6 +4,65 @@ export interface CommandCompletedEvent {
   completionTime: number;
 }
 
+export interface CommandTraceEvent {
+  commandName: string;
+  commandId: string;
+  /**
+   * Monotonic timestamps, in milliseconds, of the phases the command went through. Phases which weren't reached
+   * (a command without animations for example) are omitted.
+   */
+  phases: {
+    received?: number;
+    parsed?: number;
+    dequeued?: number;
+    controllersCreated?: number;
+    viewAttached?: number;
+    firstRender?: number;
+    animationStart?: number;
+    animationEnd?: number;
+    promiseResolved?: number;
+  };
+}
+
+export interface NavigationMetricsHistogram {
+  count: number;
+  /**
+   * Durations in milliseconds. Percentiles are approximated by the upper bound of the power of two microseconds bucket
+   * they fall in.
+   */
+  mean: number;
+  p50: number;
+  p90: number;
+  p99: number;
+  max: number;
+}
+
+export interface NavigationMetricsEvent {
+  /**
+   * For example `controllersCreated`, `controllersDestroyed` and `liveReactRoots`
+   */
+  counters: { [name: string]: number };
+  /**
+   * For example `commandLatency`, `commandLatency.push`, `timeToFirstRender`, `layoutCreate`, `optionsMerge`,
+   * `stackPush`, `stackPop`, `showModal` and `dismissModal`
+   */
+  histograms: { [name: string]: NavigationMetricsHistogram };
+}
+
+export interface TransitionFrameStatsEvent {
+  transition: 'push' | 'pop' | 'setStackRoot' | 'setRoot' | 'showModal' | 'dismissModal';
+  componentName?: string;
+  sharedElements: boolean;
+  cancelled: boolean;
+  frameCount: number;
+  droppedFrames: number;
+  /**
+   * Longest frame and transition duration, in milliseconds
+   */
+  longestFrame: number;
+  duration: number;
+}
+
 export interface BottomTabSelectedEvent {
   selectedTabIndex: number;
   unselectedTabIndex: number;
@@ -1308,6 +1308,11 @@ export interface EnterExitAnimationOptions {
    * Animate closing component
    */
   exit?: ViewAnimationOptions;
+  /**
+   * Render the animated screens into a hardware layer while the transition runs
+   * #### (Android specific)
+   */
+  hardwareLayer?: boolean;
 }
 
 export interface OldModalAnimationOptions extends ViewAnimationOptions {
@@ -1338,6 +1343,11 @@ export interface ModalAnimationOptions {
    * Animations to be applied on views in the appearing or disappearing screens
    */
   elementTransitions?: ElementTransition[];
+  /**
+   * Render the animated screens into a hardware layer while the transition runs
+   * #### (Android specific)
+   */
+  hardwareLayer?: boolean;
 }
 
 /**
@@ -1353,6 +1363,11 @@ export interface StackAnimationOptions {
    * @default true
    */
   enabled?: boolean;
+  /**
+   * Render the animated screens into a hardware layer while the transition runs
+   * #### (Android specific)
+   */
+  hardwareLayer?: boolean;
   /**
    * Configure animations for the top bar
    */